@@ -0,0 +1,59 @@
+package org.blyznytsia.benchmark;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.SneakyThrows;
+import lombok.experimental.UtilityClass;
+import org.blyznytsia.model.BeanDefinition;
+
+/** Generates synthetic bean definition graphs of different shapes */
+@UtilityClass
+public class BeanGraphs {
+
+  /**
+   * Generates bean definitions of the given shape
+   *
+   * @param shape name of a shape: "deep" for a single chain, "wide" for beans that all depend on a
+   *     single root bean, "diamond" for a chain of diamonds where two beans depend on the previous
+   *     bean and the next bean depends on both of them
+   * @param beanCount number of bean definitions
+   * @return {@link Set} of bean definitions
+   */
+  public Set<BeanDefinition> generate(String shape, int beanCount) {
+    Set<BeanDefinition> definitions = new HashSet<>();
+    for (int i = 0; i < beanCount; i++) {
+      definitions.add(definition(i, dependencies(shape, i)));
+    }
+    return definitions;
+  }
+
+  private Set<String> dependencies(String shape, int index) {
+    if (index == 0) {
+      return Collections.emptySet();
+    }
+    return switch (shape) {
+      case "deep" -> Set.of(name(index - 1));
+      case "wide" -> Set.of(name(0));
+      case "diamond" -> index % 3 == 0
+          ? Set.of(name(index - 1), name(index - 2))
+          : Set.of(name(index - index % 3));
+      default -> throw new IllegalArgumentException("Unknown shape " + shape);
+    };
+  }
+
+  @SneakyThrows
+  private BeanDefinition definition(int index, Set<String> dependencies) {
+    return BeanDefinition.builder()
+        .name(name(index))
+        .type(SyntheticBean.class)
+        .fieldDependencies(dependencies)
+        .requiredDependencies(Collections.emptySet())
+        .constructor(SyntheticBean.class.getConstructor())
+        .build();
+  }
+
+  private String name(int index) {
+    return "bean" + index;
+  }
+}
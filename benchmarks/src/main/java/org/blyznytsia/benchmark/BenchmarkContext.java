@@ -0,0 +1,38 @@
+package org.blyznytsia.benchmark;
+
+import java.util.Map;
+import lombok.Getter;
+import org.blyznytsia.context.ApplicationContext;
+import org.blyznytsia.context.BeanRegistry;
+import org.blyznytsia.exception.NoSuchBeanException;
+import org.blyznytsia.exception.NoUniqueBeanException;
+
+/** Minimal {@link ApplicationContext} over a {@link BeanRegistry} that can be reset between runs */
+public class BenchmarkContext implements ApplicationContext {
+
+  @Getter private BeanRegistry container = new BeanRegistry();
+
+  /** Drops every registered bean */
+  public void reset() {
+    container = new BeanRegistry();
+  }
+
+  @Override
+  public <T> T getBean(Class<T> beanType) throws NoSuchBeanException, NoUniqueBeanException {
+    var beans = container.getBeansOfType(beanType);
+    if (beans.size() > 1) throw new NoUniqueBeanException(beans.size());
+    else if (beans.isEmpty()) throw new NoSuchBeanException();
+    return beanType.cast(beans.values().iterator().next());
+  }
+
+  @Override
+  public <T> T getBean(String name, Class<T> beanType) throws NoSuchBeanException {
+    return beanType.cast(container.getBean(name));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> Map<String, T> getAllBeans(Class<T> beanType) {
+    return (Map<String, T>) container.getBeansOfType(beanType);
+  }
+}
@@ -0,0 +1,83 @@
+package org.blyznytsia.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.blyznytsia.context.AnnotationApplicationContext;
+import org.blyznytsia.context.ContextOptions;
+import org.blyznytsia.model.BeanDefinition;
+import org.blyznytsia.scanner.ClasspathMetadata;
+import org.blyznytsia.scanner.ComponentAnnotationScanner;
+import org.blyznytsia.scanner.ConfigurationAnnotationScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures scanning of the sample application package and construction of {@link
+ * AnnotationApplicationContext} over it by scanning, from a context snapshot and with wiring code
+ * generated at compile time
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ContextStartupBenchmark {
+
+  static final String APP_PACKAGE = "org.blyznytsia.benchmark.app";
+
+  private ClasspathMetadata metadata;
+  private ContextOptions scanOptions;
+  private ContextOptions snapshotOptions;
+  private ContextOptions generatedOptions;
+
+  @Setup
+  public void setUp() throws IOException {
+    metadata = ClasspathMetadata.scan(APP_PACKAGE);
+
+    var snapshotPath = Files.createTempFile("bring", ".snapshot");
+    Files.delete(snapshotPath);
+    snapshotPath.toFile().deleteOnExit();
+    scanOptions = ContextOptions.defaults();
+    generatedOptions = ContextOptions.builder().generatedContext(true).build();
+    snapshotOptions = ContextOptions.builder().snapshotPath(snapshotPath).build();
+    new AnnotationApplicationContext(APP_PACKAGE, snapshotOptions);
+  }
+
+  @Benchmark
+  public ClasspathMetadata scan() {
+    return ClasspathMetadata.scan(APP_PACKAGE);
+  }
+
+  @Benchmark
+  public Set<BeanDefinition> createDefinitions() {
+    var definitions = new ComponentAnnotationScanner().scan(APP_PACKAGE, metadata);
+    definitions.addAll(new ConfigurationAnnotationScanner().scan(APP_PACKAGE, metadata));
+    return definitions;
+  }
+
+  @Benchmark
+  public AnnotationApplicationContext createContext() {
+    return new AnnotationApplicationContext(APP_PACKAGE, scanOptions);
+  }
+
+  @Benchmark
+  public AnnotationApplicationContext createContextFromSnapshot() {
+    return new AnnotationApplicationContext(APP_PACKAGE, snapshotOptions);
+  }
+
+  @Benchmark
+  public AnnotationApplicationContext createGeneratedContext() {
+    return new AnnotationApplicationContext(APP_PACKAGE, generatedOptions);
+  }
+}
@@ -0,0 +1,73 @@
+package org.blyznytsia.benchmark;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.blyznytsia.model.BeanInstantiator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares creation of a single bean with a direct {@code new}, reflective {@link
+ * Constructor#newInstance} and {@link Method#invoke}, and a cached {@link BeanInstantiator}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class InstantiatorBenchmark {
+
+  private Object[] args;
+  private SyntheticConfig config;
+  private Constructor<?> constructor;
+  private Method beanMethod;
+  private BeanInstantiator constructorInstantiator;
+  private BeanInstantiator methodInstantiator;
+
+  @Setup
+  public void setUp() throws Exception {
+    args = new Object[] {new SyntheticBean(), new SyntheticBean()};
+    config = new SyntheticConfig();
+    constructor = SyntheticService.class.getConstructor(SyntheticBean.class, SyntheticBean.class);
+    beanMethod =
+        SyntheticConfig.class.getMethod(
+            "syntheticService", SyntheticBean.class, SyntheticBean.class);
+    constructorInstantiator = BeanInstantiator.forConstructor(constructor);
+    methodInstantiator = BeanInstantiator.forMethod(beanMethod);
+  }
+
+  @Benchmark
+  public Object direct() {
+    return new SyntheticService((SyntheticBean) args[0], (SyntheticBean) args[1]);
+  }
+
+  @Benchmark
+  public Object reflectiveConstructor() throws Exception {
+    return constructor.newInstance(args);
+  }
+
+  @Benchmark
+  public Object instantiatorConstructor() throws Exception {
+    return constructorInstantiator.instantiate(null, args);
+  }
+
+  @Benchmark
+  public Object reflectiveMethod() throws Exception {
+    return beanMethod.invoke(config, args);
+  }
+
+  @Benchmark
+  public Object instantiatorMethod() throws Exception {
+    return methodInstantiator.instantiate(config, args);
+  }
+}
@@ -0,0 +1,84 @@
+package org.blyznytsia.benchmark;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.blyznytsia.context.ObjectFactory;
+import org.blyznytsia.model.BeanDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures concurrent lookups of lazy beans. Every iteration starts with a fresh context, so the
+ * first lookups of each bean race to create it and the rest read the created bean. Run with {@code
+ * -t 1}, {@code -t 4}, {@code -t 16} and {@code -t 64} to compare thread counts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class LazyLookupBenchmark {
+
+  @Param({"1024"})
+  private int beanCount;
+
+  private String[] names;
+  private BenchmarkContext context;
+
+  @Setup(Level.Iteration)
+  public void setUp() throws Exception {
+    names = new String[beanCount];
+    Set<BeanDefinition> definitions = new HashSet<>();
+    for (int i = 0; i < beanCount; i++) {
+      names[i] = "lazyBean" + i;
+      definitions.add(
+          BeanDefinition.builder()
+              .name(names[i])
+              .type(SyntheticBean.class)
+              .lazy(true)
+              .fieldDependencies(Collections.emptySet())
+              .requiredDependencies(Collections.emptySet())
+              .constructor(SyntheticBean.class.getConstructor())
+              .build());
+    }
+    definitions.add(
+        BeanDefinition.builder()
+            .name("eagerBean")
+            .type(SyntheticService.class)
+            .fieldDependencies(Collections.emptySet())
+            .requiredDependencies(new LinkedHashSet<>(List.of(names[0], names[1])))
+            .constructor(
+                SyntheticService.class.getConstructor(SyntheticBean.class, SyntheticBean.class))
+            .build());
+
+    context = new BenchmarkContext();
+    new ObjectFactory(context).initiateContext(definitions);
+  }
+
+  @Benchmark
+  public Object lazyBeanByName() {
+    var name = names[ThreadLocalRandom.current().nextInt(names.length)];
+    return context.getBean(name, SyntheticBean.class);
+  }
+
+  @Benchmark
+  public Object eagerBeanByType() {
+    return context.getBean(SyntheticService.class);
+  }
+}
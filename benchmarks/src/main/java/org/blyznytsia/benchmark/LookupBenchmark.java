@@ -0,0 +1,103 @@
+package org.blyznytsia.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.blyznytsia.benchmark.app.AppPlugin;
+import org.blyznytsia.benchmark.app.AppRepository;
+import org.blyznytsia.benchmark.app.AppService;
+import org.blyznytsia.bpp.AutowiredAnnotationBeanPostProcessor;
+import org.blyznytsia.bpp.BeanPostProcessor;
+import org.blyznytsia.bpp.ValueAnnotationBeanPostProcessor;
+import org.blyznytsia.context.AnnotationApplicationContext;
+import org.blyznytsia.model.BeanDefinition;
+import org.blyznytsia.util.BeanDefinitionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures bean lookups of a started {@link AnnotationApplicationContext} and configuration of a
+ * bean by the {@link BeanPostProcessor} chain
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class LookupBenchmark {
+
+  private AnnotationApplicationContext context;
+  private BeanPostProcessor[] postProcessors;
+  private ValueAnnotationBeanPostProcessor valuePostProcessor;
+  private AutowiredAnnotationBeanPostProcessor autowiredPostProcessor;
+  private BeanDefinition serviceDefinition;
+  private Object[] serviceAutowiredBeans;
+
+  @Setup
+  public void setUp() {
+    context = new AnnotationApplicationContext(ContextStartupBenchmark.APP_PACKAGE);
+    postProcessors =
+        new BeanPostProcessor[] {
+          new AutowiredAnnotationBeanPostProcessor(), new ValueAnnotationBeanPostProcessor()
+        };
+    valuePostProcessor = new ValueAnnotationBeanPostProcessor();
+    autowiredPostProcessor = new AutowiredAnnotationBeanPostProcessor();
+    var field = BeanDefinitionUtils.describeAutowiredFields(AppService.class).get(0);
+    serviceDefinition =
+        BeanDefinition.builder()
+            .name("appService")
+            .type(AppService.class)
+            .autowiredDependencies(List.of(field.resolvedTo("appRepository")))
+            .build();
+    serviceAutowiredBeans = new Object[] {context.getBean(AppRepository.class)};
+  }
+
+  @Benchmark
+  public Object getBeanByType() {
+    return context.getBean(AppService.class);
+  }
+
+  @Benchmark
+  public Object getBeanByName() {
+    return context.getBean("appRepository", AppRepository.class);
+  }
+
+  @Benchmark
+  public Map<String, AppPlugin> getAllBeans() {
+    return context.getAllBeans(AppPlugin.class);
+  }
+
+  @Benchmark
+  public Object postProcessorChain() {
+    Object bean = new AppService();
+    for (var postProcessor : postProcessors) {
+      bean = postProcessor.configure(bean, context);
+    }
+    return bean;
+  }
+
+  @Benchmark
+  public Object valueInjection() {
+    return valuePostProcessor.configure(new AppService(), context);
+  }
+
+  @Benchmark
+  public Object autowiredInjectionByName() {
+    return autowiredPostProcessor.configure(new AppService(), serviceDefinition, null, context);
+  }
+
+  @Benchmark
+  public Object autowiredInjectionFromLoadedBeans() {
+    return autowiredPostProcessor.configure(
+        new AppService(), serviceDefinition, serviceAutowiredBeans, context);
+  }
+}
@@ -0,0 +1,56 @@
+package org.blyznytsia.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.blyznytsia.context.ObjectFactory;
+import org.blyznytsia.model.BeanDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures creation of all beans of a synthetic graph by {@link ObjectFactory} */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ObjectFactoryBenchmark {
+
+  @Param({"deep", "wide", "diamond"})
+  private String shape;
+
+  @Param({"1000", "10000"})
+  private int beanCount;
+
+  private Set<BeanDefinition> definitions;
+  private BenchmarkContext context;
+  private ObjectFactory objectFactory;
+
+  @Setup(Level.Trial)
+  public void setUpTrial() {
+    definitions = BeanGraphs.generate(shape, beanCount);
+    context = new BenchmarkContext();
+    objectFactory = new ObjectFactory(context);
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpInvocation() {
+    context.reset();
+  }
+
+  @Benchmark
+  public Object initiateContext() {
+    objectFactory.initiateContext(definitions);
+    return context.getContainer();
+  }
+}
@@ -0,0 +1,86 @@
+package org.blyznytsia.benchmark;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.blyznytsia.context.ObjectFactory;
+import org.blyznytsia.model.BeanDefinition;
+import org.blyznytsia.model.Scope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many prototype beans per second the context creates on lookup compared to a
+ * singleton lookup and a direct {@code new}
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PrototypeBenchmark {
+
+  private BenchmarkContext context;
+  private SyntheticBean first;
+  private SyntheticBean second;
+
+  @Setup
+  public void setUp() throws Exception {
+    var service =
+        BeanDefinition.builder()
+            .name("syntheticService")
+            .type(SyntheticService.class)
+            .scope(Scope.PROTOTYPE)
+            .fieldDependencies(Collections.emptySet())
+            .requiredDependencies(new LinkedHashSet<>(List.of("first", "second")))
+            .constructor(
+                SyntheticService.class.getConstructor(SyntheticBean.class, SyntheticBean.class))
+            .build();
+
+    context = new BenchmarkContext();
+    new ObjectFactory(context)
+        .initiateContext(Set.of(singleton("first"), singleton("second"), service));
+    first = context.getBean("first", SyntheticBean.class);
+    second = context.getBean("second", SyntheticBean.class);
+  }
+
+  @Benchmark
+  public Object direct() {
+    return new SyntheticService(first, second);
+  }
+
+  @Benchmark
+  public Object singletonByName() {
+    return context.getBean("first", SyntheticBean.class);
+  }
+
+  @Benchmark
+  public Object prototypeByName() {
+    return context.getBean("syntheticService", SyntheticService.class);
+  }
+
+  @Benchmark
+  public Object prototypeByType() {
+    return context.getBean(SyntheticService.class);
+  }
+
+  private static BeanDefinition singleton(String name) throws NoSuchMethodException {
+    return BeanDefinition.builder()
+        .name(name)
+        .type(SyntheticBean.class)
+        .fieldDependencies(Collections.emptySet())
+        .requiredDependencies(Collections.emptySet())
+        .constructor(SyntheticBean.class.getConstructor())
+        .build();
+  }
+}
@@ -0,0 +1,68 @@
+package org.blyznytsia.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.blyznytsia.benchmark.scoped.Greeter;
+import org.blyznytsia.context.AnnotationApplicationContext;
+import org.blyznytsia.context.RequestScope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures calls of a bean with {@link org.blyznytsia.model.Scope#THREAD} and {@link
+ * org.blyznytsia.model.Scope#REQUEST} scope through its scoped proxy compared to a call of a
+ * singleton injected directly
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ScopeBenchmark {
+
+  static final String SCOPED_PACKAGE = "org.blyznytsia.benchmark.scoped";
+
+  private Greeter singleton;
+  private Greeter threadScoped;
+  private Greeter requestScoped;
+  private RequestScope request;
+  private int visitor;
+
+  @Setup
+  public void setUp() {
+    var context = new AnnotationApplicationContext(SCOPED_PACKAGE);
+    singleton = context.getBean("singletonGreeter", Greeter.class);
+    threadScoped = context.getBean("threadGreeter", Greeter.class);
+    requestScoped = context.getBean("requestGreeter", Greeter.class);
+    request = context.beginRequest();
+  }
+
+  @TearDown
+  public void tearDown() {
+    request.close();
+  }
+
+  @Benchmark
+  public int singleton() {
+    return singleton.greet(visitor++);
+  }
+
+  @Benchmark
+  public int threadScoped() {
+    return threadScoped.greet(visitor++);
+  }
+
+  @Benchmark
+  public int requestScoped() {
+    return requestScoped.greet(visitor++);
+  }
+}
@@ -0,0 +1,4 @@
+package org.blyznytsia.benchmark;
+
+/** Bean class shared by all generated bean definitions */
+public class SyntheticBean {}
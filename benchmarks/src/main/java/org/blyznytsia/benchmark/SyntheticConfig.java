@@ -0,0 +1,9 @@
+package org.blyznytsia.benchmark;
+
+/** Configuration class with a bean method used by instantiation benchmarks */
+public class SyntheticConfig {
+
+  public SyntheticService syntheticService(SyntheticBean first, SyntheticBean second) {
+    return new SyntheticService(first, second);
+  }
+}
@@ -0,0 +1,21 @@
+package org.blyznytsia.benchmark;
+
+/** Bean class with constructor dependencies used by instantiation benchmarks */
+public class SyntheticService {
+
+  private final SyntheticBean first;
+  private final SyntheticBean second;
+
+  public SyntheticService(SyntheticBean first, SyntheticBean second) {
+    this.first = first;
+    this.second = second;
+  }
+
+  public SyntheticBean getFirst() {
+    return first;
+  }
+
+  public SyntheticBean getSecond() {
+    return second;
+  }
+}
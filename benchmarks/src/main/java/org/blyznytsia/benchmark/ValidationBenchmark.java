@@ -0,0 +1,50 @@
+package org.blyznytsia.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.blyznytsia.model.BeanDefinition;
+import org.blyznytsia.validator.DependencyValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures validation of synthetic bean graphs by {@link DependencyValidator}. Time per bean should
+ * stay flat from 1k to 100k beans for every shape, since the validator is linear in the number of
+ * beans and dependencies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ValidationBenchmark {
+
+  @Param({"deep", "wide", "diamond"})
+  private String shape;
+
+  @Param({"1000", "100000"})
+  private int beanCount;
+
+  private Set<BeanDefinition> definitions;
+
+  @Setup
+  public void setUp() {
+    definitions = BeanGraphs.generate(shape, beanCount);
+  }
+
+  @Benchmark
+  public Set<BeanDefinition> validate() {
+    new DependencyValidator().validate(definitions);
+    return definitions;
+  }
+}
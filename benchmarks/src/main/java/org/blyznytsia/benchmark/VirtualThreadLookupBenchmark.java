@@ -0,0 +1,75 @@
+package org.blyznytsia.benchmark;
+
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.blyznytsia.benchmark.app.AppController;
+import org.blyznytsia.context.AnnotationApplicationContext;
+import org.blyznytsia.context.ContextOptions;
+import org.blyznytsia.context.VirtualThreads;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures 100k concurrent tasks that look a bean up by type in a context started on the same
+ * executor. With {@code virtual} executor every task runs on its own virtual thread, which needs
+ * Java 21, and the {@code pooled} executor runs the same tasks on a fixed pool of platform threads
+ * for comparison. Add {@code -jvmArgs -Djdk.tracePinnedThreads=full} to print stack traces of
+ * pinned virtual threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class VirtualThreadLookupBenchmark {
+
+  private static final int TASKS = 100_000;
+  private static final int POOL_SIZE = 64;
+
+  @Param({"virtual", "pooled"})
+  private String executorType;
+
+  private ExecutorService executor;
+  private AnnotationApplicationContext context;
+
+  @Setup
+  public void setUp() {
+    executor =
+        executorType.equals("virtual")
+            ? VirtualThreads.newExecutor()
+            : Executors.newFixedThreadPool(POOL_SIZE);
+    context =
+        new AnnotationApplicationContext(
+            ContextStartupBenchmark.APP_PACKAGE,
+            ContextOptions.builder().executor(executor).build());
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Benchmark
+  public int getBeanFromAllTasks() throws Exception {
+    Callable<Integer> lookup = () -> System.identityHashCode(context.getBean(AppController.class));
+    int sum = 0;
+    for (var future : executor.invokeAll(Collections.nCopies(TASKS, lookup))) {
+      sum += future.get();
+    }
+    return sum;
+  }
+}
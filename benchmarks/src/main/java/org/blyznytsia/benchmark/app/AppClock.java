@@ -0,0 +1,4 @@
+package org.blyznytsia.benchmark.app;
+
+/** Bean declared in {@link AppConfig} */
+public class AppClock {}
@@ -0,0 +1,13 @@
+package org.blyznytsia.benchmark.app;
+
+import org.blyznytsia.annotation.Bean;
+import org.blyznytsia.annotation.Configuration;
+
+@Configuration
+public class AppConfig {
+
+  @Bean
+  public AppClock appClock() {
+    return new AppClock();
+  }
+}
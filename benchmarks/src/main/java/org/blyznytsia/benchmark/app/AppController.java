@@ -0,0 +1,17 @@
+package org.blyznytsia.benchmark.app;
+
+import org.blyznytsia.annotation.Autowired;
+import org.blyznytsia.annotation.Component;
+
+@Component
+public class AppController {
+
+  private final AppService service;
+  private final AppClock clock;
+
+  @Autowired
+  public AppController(AppService service, AppClock clock) {
+    this.service = service;
+    this.clock = clock;
+  }
+}
@@ -0,0 +1,4 @@
+package org.blyznytsia.benchmark.app;
+
+/** Interface with several bean implementations */
+public interface AppPlugin {}
@@ -0,0 +1,17 @@
+package org.blyznytsia.benchmark.app;
+
+import org.blyznytsia.annotation.Autowired;
+import org.blyznytsia.annotation.Component;
+import org.blyznytsia.annotation.Value;
+
+@Component
+public class AppService {
+
+  @Autowired AppRepository repository;
+
+  @Value("app.name")
+  String name;
+
+  @Value("app.port")
+  int port;
+}
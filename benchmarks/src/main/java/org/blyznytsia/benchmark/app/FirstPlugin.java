@@ -0,0 +1,6 @@
+package org.blyznytsia.benchmark.app;
+
+import org.blyznytsia.annotation.Component;
+
+@Component
+public class FirstPlugin implements AppPlugin {}
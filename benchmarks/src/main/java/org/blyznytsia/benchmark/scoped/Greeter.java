@@ -0,0 +1,7 @@
+package org.blyznytsia.benchmark.scoped;
+
+/** Interface of beans called through scoped proxies */
+public interface Greeter {
+
+  int greet(int visitor);
+}
@@ -0,0 +1,15 @@
+package org.blyznytsia.benchmark.scoped;
+
+import org.blyznytsia.annotation.Component;
+
+/** Greeter with singleton scope */
+@Component
+public class SingletonGreeter implements Greeter {
+
+  private int visits;
+
+  @Override
+  public int greet(int visitor) {
+    return visitor + ++visits;
+  }
+}
@@ -0,0 +1,16 @@
+package org.blyznytsia.benchmark.scoped;
+
+import org.blyznytsia.annotation.Component;
+import org.blyznytsia.model.Scope;
+
+/** Greeter with thread scoped scope */
+@Component(scope = Scope.THREAD)
+public class ThreadGreeter implements Greeter {
+
+  private int visits;
+
+  @Override
+  public int greet(int visitor) {
+    return visitor + ++visits;
+  }
+}
@@ -4,6 +4,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import org.blyznytsia.model.Scope;
 
 /**
  * Indicates that a method produces a bean to be managed by the Bring container.
@@ -18,6 +19,11 @@ import java.lang.annotation.Target;
  *     }
  * </pre>
  *
+ * <p>A method that does blocking work, e.g. warming a cache, may return a {@code
+ * CompletableFuture<MyBean>} instead. The bean is then registered as {@code MyBean} once the future
+ * completes, and beans that depend on it are created right after that, while other beans are
+ * created in the meantime. Such beans must be eager singletons.
+ *
  * @see org.blyznytsia.annotation.Autowired
  * @see org.blyznytsia.annotation.Component
  * @see org.blyznytsia.annotation.Configuration
@@ -31,9 +37,16 @@ public @interface Bean {
   String value() default "";
 
   /**
-   * The optional name of a method to call on the bean instance during initialization. Not commonly
-   * used, given that the method may be called programmatically directly within the body of a
-   * Bean-annotated method.
+   * The optional name of a method without parameters to call on the bean instance during
+   * initialization, after methods annotated with {@link PostConstruct}. Not commonly used, given
+   * that the method may be called programmatically directly within the body of a Bean-annotated
+   * method.
    */
   String initMethod() default "";
+
+  /**
+   * Scope of a bean, a new instance is created on every lookup for {@link Scope#PROTOTYPE}, beans
+   * with {@link Scope#REQUEST} and {@link Scope#THREAD} scope are injected as proxies
+   */
+  Scope scope() default Scope.SINGLETON;
 }
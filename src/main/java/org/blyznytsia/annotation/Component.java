@@ -4,6 +4,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import org.blyznytsia.model.Scope;
 
 /**
  * Indicates that an annotated class is a "component". Such classes are considered as candidates for
@@ -29,4 +30,10 @@ import java.lang.annotation.Target;
 public @interface Component {
 
   String value() default "";
+
+  /**
+   * Scope of a bean, a new instance is created on every lookup for {@link Scope#PROTOTYPE}, beans
+   * with {@link Scope#REQUEST} and {@link Scope#THREAD} scope are injected as proxies
+   */
+  Scope scope() default Scope.SINGLETON;
 }
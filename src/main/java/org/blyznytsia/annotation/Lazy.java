@@ -0,0 +1,29 @@
+package org.blyznytsia.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that a singleton bean is created on first lookup or when the first eagerly created bean
+ * depends on it, instead of during context initialization. May be used on classes annotated with
+ * {@link Component} and on methods annotated with {@link Bean}.
+ *
+ * <p>For example:
+ *
+ * <pre class="code">
+ * &#064;Lazy
+ * &#064;Component
+ * public class ReportGenerator  {
+ *      &#064;Autowired
+ *      private ReportRepository repository;
+ * }
+ * </pre>
+ *
+ * @see org.blyznytsia.annotation.Component
+ * @see org.blyznytsia.annotation.Bean
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Lazy {}
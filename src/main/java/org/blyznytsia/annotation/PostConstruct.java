@@ -0,0 +1,31 @@
+package org.blyznytsia.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method without parameters to be called once a bean is created and all of its {@link
+ * Autowired} and {@link Value} fields are injected, before the bean is available to other beans.
+ * Methods of superclasses are called first. Also called for every instance of prototype and scoped
+ * beans.
+ *
+ * <p>For example:
+ *
+ * <pre class="code">
+ * &#064;Component
+ * public class ConnectionPool  {
+ *      &#064;PostConstruct
+ *      void open() {
+ *          // open connections
+ *      }
+ * }
+ * </pre>
+ *
+ * @see org.blyznytsia.annotation.PreDestroy
+ * @see org.blyznytsia.annotation.Bean#initMethod()
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PostConstruct {}
@@ -0,0 +1,30 @@
+package org.blyznytsia.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method without parameters to be called when the context is closed, before the beans the
+ * bean depends on are destroyed. Called only for singletons, including lazy singletons that were
+ * created.
+ *
+ * <p>For example:
+ *
+ * <pre class="code">
+ * &#064;Component
+ * public class ConnectionPool  {
+ *      &#064;PreDestroy
+ *      void close() {
+ *          // close connections
+ *      }
+ * }
+ * </pre>
+ *
+ * @see org.blyznytsia.annotation.PostConstruct
+ * @see org.blyznytsia.context.ApplicationContext#close()
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PreDestroy {}
@@ -0,0 +1,32 @@
+package org.blyznytsia.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Names the bean to inject into a constructor parameter, a {@link Bean} method parameter or a field
+ * annotated with {@link Autowired} when several beans match its type.
+ *
+ * <p>For example:
+ *
+ * <pre class="code">
+ * &#064;Component
+ * public class ReportService  {
+ *      &#064;Autowired
+ *      public ReportService(&#064;Qualifier("archiveStorage") Storage storage) {
+ *          this.storage = storage;
+ *      }
+ * }
+ * </pre>
+ *
+ * @see org.blyznytsia.model.DependencyDescriptor
+ */
+@Target({ElementType.PARAMETER, ElementType.FIELD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Qualifier {
+
+  /** Name of the bean to inject */
+  String value();
+}
@@ -15,6 +15,11 @@ import java.lang.annotation.RetentionPolicy;
  * </pre>
  *
  * After bean was created the "hostVal" will contain "http://localhost"
+ *
+ * <p>Fields of singletons are set again when the property changes and properties are watched, see
+ * {@link org.blyznytsia.bpp.PropertyRefresher}. All refreshed fields of a bean are set together
+ * while holding the monitor of the bean, so read them in {@code synchronized} methods or blocks, or
+ * declare a field {@code volatile} if it is read on its own.
  */
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Value {
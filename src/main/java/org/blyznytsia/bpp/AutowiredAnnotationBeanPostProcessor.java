@@ -1,13 +1,23 @@
 package org.blyznytsia.bpp;
 
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
-import org.blyznytsia.annotation.Autowired;
+import org.blyznytsia.bpp.InjectionMetadata.InjectedField;
 import org.blyznytsia.context.ApplicationContext;
 import org.blyznytsia.exception.BeanConfigurationException;
+import org.blyznytsia.model.BeanDefinition;
+import org.blyznytsia.model.DependencyDescriptor;
 
 /**
  * Implementation of {@link BeanPostProcessor} interface that injects beans into fields annotated
- * with {@link org.blyznytsia.annotation.Autowired}
+ * with {@link org.blyznytsia.annotation.Autowired}. Fields are resolved once per class through
+ * {@link InjectionMetadata}.
+ *
+ * <p>Beans created from a definition get the beans {@link
+ * org.blyznytsia.scanner.DependencyResolver} resolved for their fields. {@link
+ * org.blyznytsia.context.ObjectFactory} passes them loaded from its bean array, only beans it
+ * didn't create are looked up by name. Other beans get the bean named by {@link
+ * org.blyznytsia.annotation.Qualifier} or the single bean of the field type.
  */
 @Slf4j
 public class AutowiredAnnotationBeanPostProcessor implements BeanPostProcessor {
@@ -20,20 +30,43 @@ public class AutowiredAnnotationBeanPostProcessor implements BeanPostProcessor {
    */
   @Override
   public Object configure(Object bean, ApplicationContext context) {
+    return configure(bean, null, null, context);
+  }
+
+  /**
+   * Injects the beans resolved for the fields of the definition into fields annotated with {@link
+   * org.blyznytsia.annotation.Autowired}
+   *
+   * @param bean bean to be configured
+   * @param definition {@link BeanDefinition} the bean was created from, null if there is none
+   * @param autowiredBeans beans of the resolved fields, null slots are looked up in the context
+   * @param context application context to fetch beans from for injections
+   */
+  @Override
+  public Object configure(
+      Object bean, BeanDefinition definition, Object[] autowiredBeans, ApplicationContext context) {
+    var fields = InjectionMetadata.forClass(bean.getClass()).getAutowiredFields();
+    var resolved = resolvedDependencies(bean, definition, fields);
     try {
-      for (var field : bean.getClass().getDeclaredFields()) {
-        if (field.isAnnotationPresent(Autowired.class)) {
-          log.debug("Configuring bean of {} type", bean.getClass());
-
-          field.setAccessible(true);
-          var value = context.getBean(field.getType());
-          field.set(bean, value);
-
-          log.debug(
-              "Successfully initialized {} field with the value of {} type",
-              field.getName(),
-              field.getType().getSimpleName());
+      for (int i = 0; i < fields.size(); i++) {
+        log.debug("Configuring bean of {} type", bean.getClass());
+
+        var injectedField = fields.get(i);
+        var field = injectedField.getField();
+        Object value;
+        if (resolved == null) {
+          value = lookup(injectedField.getDependency(), context);
+        } else if (autowiredBeans != null && autowiredBeans[i] != null) {
+          value = resolved.get(i).getType().cast(autowiredBeans[i]);
+        } else {
+          value = context.getBean(resolved.get(i).getBeanName(), resolved.get(i).getType());
         }
+        injectedField.inject(bean, value);
+
+        log.debug(
+            "Successfully initialized {} field with the value of {} type",
+            field.getName(),
+            field.getType().getSimpleName());
       }
     } catch (Exception e) {
       log.error("Exception during bean configuration: {}", e.getMessage());
@@ -42,4 +75,36 @@ public class AutowiredAnnotationBeanPostProcessor implements BeanPostProcessor {
 
     return bean;
   }
+
+  /**
+   * Returns the dependencies resolved for the fields of the bean class, in the order of {@link
+   * InjectionMetadata#getAutowiredFields()}
+   *
+   * @return resolved {@link DependencyDescriptor}s or null if the definition doesn't describe the
+   *     fields, e.g. the bean is returned by a {@code @Bean} method or wrapped by another post
+   *     processor
+   */
+  private static List<DependencyDescriptor> resolvedDependencies(
+      Object bean, BeanDefinition definition, List<InjectedField> fields) {
+    if (definition == null
+        || definition.getType() != bean.getClass()
+        || definition.getAutowiredDependencies() == null
+        || definition.getAutowiredDependencies().size() != fields.size()) {
+      return null;
+    }
+    var dependencies = definition.getAutowiredDependencies();
+    for (int i = 0; i < fields.size(); i++) {
+      if (dependencies.get(i).getType() != fields.get(i).getField().getType()) {
+        return null;
+      }
+    }
+    return dependencies;
+  }
+
+  private static Object lookup(DependencyDescriptor dependency, ApplicationContext context) {
+    if (dependency.isQualified()) {
+      return context.getBean(dependency.getBeanName(), dependency.getType());
+    }
+    return context.getBean(dependency.getType());
+  }
 }
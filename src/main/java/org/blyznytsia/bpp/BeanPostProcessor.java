@@ -2,6 +2,7 @@ package org.blyznytsia.bpp;
 
 import org.blyznytsia.context.ApplicationContext;
 import org.blyznytsia.context.ObjectFactory;
+import org.blyznytsia.model.BeanDefinition;
 
 /** A hook that allows configuring beans instantiated by {@link ObjectFactory}. */
 public interface BeanPostProcessor {
@@ -13,7 +14,21 @@ public interface BeanPostProcessor {
    * @param bean bean to be configured
    * @param context application context to access the beans
    */
-  default Object configure(Object bean, ApplicationContext context) {
-    return bean;
+  Object configure(Object bean, ApplicationContext context);
+
+  /**
+   * Configures a bean created from a definition. {@link ObjectFactory} calls this method, so post
+   * processors can use what was resolved for the bean before it was created. Delegates to {@link
+   * #configure(Object, ApplicationContext)} by default.
+   *
+   * @param bean bean to be configured
+   * @param definition {@link BeanDefinition} the bean was created from
+   * @param autowiredBeans beans of {@link BeanDefinition#getAutowiredDependencies()} in the same
+   *     order, null slots for beans that are not created by the factory, null if there are none
+   * @param context application context to access the beans
+   */
+  default Object configure(
+      Object bean, BeanDefinition definition, Object[] autowiredBeans, ApplicationContext context) {
+    return configure(bean, context);
   }
 }
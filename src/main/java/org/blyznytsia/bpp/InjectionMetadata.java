@@ -0,0 +1,124 @@
+package org.blyznytsia.bpp;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import lombok.Getter;
+import org.blyznytsia.annotation.Autowired;
+import org.blyznytsia.annotation.Value;
+import org.blyznytsia.convert.ConverterRegistry;
+import org.blyznytsia.exception.BeanConfigurationException;
+import org.blyznytsia.model.DependencyDescriptor;
+import org.blyznytsia.util.BeanDefinitionUtils;
+
+/**
+ * Immutable injection plan of a bean class shared by all instances of the class. It is built once
+ * per class on first use and holds the fields annotated with {@link Autowired} and {@link Value}
+ * together with prepared setters, dependency descriptors, property keys and converters.
+ */
+@Getter
+final class InjectionMetadata {
+
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  private static final ClassValue<InjectionMetadata> CACHE =
+      new ClassValue<>() {
+        @Override
+        protected InjectionMetadata computeValue(Class<?> type) {
+          return new InjectionMetadata(type);
+        }
+      };
+
+  /** Fields annotated with {@link Autowired} */
+  private final List<InjectedField> autowiredFields;
+
+  /** Fields annotated with {@link Value} */
+  private final List<InjectedField> valueFields;
+
+  private InjectionMetadata(Class<?> type) {
+    List<InjectedField> autowired = new ArrayList<>();
+    List<InjectedField> values = new ArrayList<>();
+
+    for (var field : type.getDeclaredFields()) {
+      if (field.isAnnotationPresent(Autowired.class)) {
+        autowired.add(new InjectedField(field, DependencyDescriptor.forField(field), null, null));
+      }
+      if (field.isAnnotationPresent(Value.class)) {
+        values.add(
+            new InjectedField(
+                field,
+                null,
+                BeanDefinitionUtils.resolvePropertyKey(field),
+                ConverterRegistry.getDefault().converterFor(field.getGenericType())));
+      }
+    }
+
+    this.autowiredFields = List.copyOf(autowired);
+    this.valueFields = List.copyOf(values);
+  }
+
+  /**
+   * Returns the injection plan of a class
+   *
+   * @param type bean class
+   * @return cached {@link InjectionMetadata}
+   */
+  static InjectionMetadata forClass(Class<?> type) {
+    return CACHE.get(type);
+  }
+
+  /** Injection point with a setter adapted to {@code (Object, Object)void} */
+  @Getter
+  static final class InjectedField {
+
+    private final Field field;
+    private final MethodHandle setter;
+
+    /** Bean injected into {@link Autowired} fields, null for {@link Value} fields */
+    private final DependencyDescriptor dependency;
+
+    /** Property key for {@link Value} fields, null for {@link Autowired} fields */
+    private final String propertyKey;
+
+    /** Converter of a property value for {@link Value} fields, null for {@link Autowired} fields */
+    private final Function<String, Object> converter;
+
+    private InjectedField(
+        Field field,
+        DependencyDescriptor dependency,
+        String propertyKey,
+        Function<String, Object> converter) {
+      this.field = field;
+      this.dependency = dependency;
+      this.propertyKey = propertyKey;
+      this.converter = converter;
+      try {
+        field.setAccessible(true);
+        this.setter = MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+      } catch (Exception e) {
+        throw new BeanConfigurationException("Failed to access field %s".formatted(field), e);
+      }
+    }
+
+    /**
+     * Sets the field of a bean
+     *
+     * @param bean bean to be configured
+     * @param value value to be set
+     */
+    void inject(Object bean, Object value) {
+      try {
+        setter.invokeExact(bean, value);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new BeanConfigurationException("Failed to set field %s".formatted(field), e);
+      }
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package org.blyznytsia.bpp;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.blyznytsia.annotation.Value;
+import org.blyznytsia.bpp.InjectionMetadata.InjectedField;
+import org.blyznytsia.env.Environment;
+import org.blyznytsia.exception.BeanConfigurationException;
+
+/**
+ * Refreshes {@link Value} fields of singleton beans when properties change. Singletons are
+ * registered once they are created and their fields are kept in a reverse index by property key, so
+ * a refresh touches only the fields of the keys that changed.
+ *
+ * <p>A refresh converts all new values first and applies nothing if any of them fails, so beans
+ * never see a part of a broken change. Then the environment of {@link
+ * ValueAnnotationBeanPostProcessor} is replaced for beans created later and every bean gets all of
+ * its new values at once: they are collected into an update per bean and set while holding the
+ * monitor of the bean. Code that reads several refreshed fields in a {@code synchronized} method or
+ * block of the bean sees either all old or all new values.
+ *
+ * <p>Refreshes and registrations of new singletons are serialized, and a singleton configured
+ * before a refresh but registered after it gets the refreshed values on registration, so no
+ * singleton keeps stale values. Bean lookups never wait for refreshes.
+ */
+@Slf4j
+public final class PropertyRefresher {
+
+  private final ValueAnnotationBeanPostProcessor postProcessor;
+
+  /** Serializes refreshes and registrations, never taken by bean lookups */
+  private final Object lock = new Object();
+
+  /** Injection sites of singletons by property key, guarded by {@link #lock} */
+  private final Map<String, List<InjectionSite>> injectionSites = new HashMap<>();
+
+  /** Keys changed by any refresh so far, guarded by {@link #lock} */
+  private final Set<String> refreshedKeys = new HashSet<>();
+
+  /**
+   * Creates refresher of the values injected by a post processor
+   *
+   * @param postProcessor post processor that injects values into beans
+   */
+  public PropertyRefresher(ValueAnnotationBeanPostProcessor postProcessor) {
+    this.postProcessor = postProcessor;
+  }
+
+  /**
+   * Registers {@link Value} fields of a singleton bean. If properties were refreshed after the bean
+   * was configured, fields of the refreshed keys are set to their current values.
+   *
+   * @param bean configured bean
+   */
+  public void register(Object bean) {
+    var valueFields = InjectionMetadata.forClass(bean.getClass()).getValueFields();
+    if (valueFields.isEmpty()) {
+      return;
+    }
+
+    synchronized (lock) {
+      var update = new BeanUpdate(bean);
+      var values = refreshedKeys.isEmpty() ? null : postProcessor.typedValues(bean.getClass());
+      for (int i = 0; i < valueFields.size(); i++) {
+        var field = valueFields.get(i);
+        injectionSites
+            .computeIfAbsent(field.getPropertyKey(), key -> new ArrayList<>())
+            .add(new InjectionSite(bean, field));
+        if (values != null && refreshedKeys.contains(field.getPropertyKey())) {
+          update.add(field, values[i]);
+        }
+      }
+      update.apply();
+    }
+  }
+
+  /**
+   * Injects properties of a new environment into fields of registered beans that depend on changed
+   * keys, all fields of a bean at once
+   *
+   * @param environment new properties
+   * @return keys that changed
+   * @throws BeanConfigurationException if a new value can't be converted, nothing is refreshed then
+   */
+  public Set<String> refresh(Environment environment) {
+    synchronized (lock) {
+      var changedKeys = environment.changedKeys(postProcessor.getEnvironment());
+
+      Map<InjectedField, Object> values = new HashMap<>();
+      Map<Object, BeanUpdate> updates = new IdentityHashMap<>();
+      for (var key : changedKeys) {
+        for (var site : injectionSites.getOrDefault(key, List.of())) {
+          if (!values.containsKey(site.field)) {
+            values.put(site.field, postProcessor.convert(site.field, environment));
+          }
+          updates
+              .computeIfAbsent(site.bean, BeanUpdate::new)
+              .add(site.field, values.get(site.field));
+        }
+      }
+
+      postProcessor.setEnvironment(environment);
+      refreshedKeys.addAll(changedKeys);
+      updates.values().forEach(BeanUpdate::apply);
+      log.info("Refreshed {} beans of changed properties {}", updates.size(), changedKeys);
+      return changedKeys;
+    }
+  }
+
+  /** {@link Value} field of a singleton bean */
+  private static final class InjectionSite {
+
+    private final Object bean;
+    private final InjectedField field;
+
+    private InjectionSite(Object bean, InjectedField field) {
+      this.bean = bean;
+      this.field = field;
+    }
+  }
+
+  /** New values of the fields of a bean, set together */
+  private static final class BeanUpdate {
+
+    private final Object bean;
+    private final List<InjectedField> fields = new ArrayList<>();
+    private final List<Object> values = new ArrayList<>();
+
+    private BeanUpdate(Object bean) {
+      this.bean = bean;
+    }
+
+    private void add(InjectedField field, Object value) {
+      fields.add(field);
+      values.add(value);
+    }
+
+    private void apply() {
+      if (fields.isEmpty()) {
+        return;
+      }
+      synchronized (bean) {
+        for (int i = 0; i < fields.size(); i++) {
+          fields.get(i).inject(bean, values.get(i));
+        }
+      }
+    }
+  }
+}
@@ -1,72 +1,168 @@
 package org.blyznytsia.bpp;
 
-import java.io.IOException;
-import java.util.Properties;
 import lombok.extern.slf4j.Slf4j;
 import org.blyznytsia.annotation.Value;
+import org.blyznytsia.bpp.InjectionMetadata.InjectedField;
 import org.blyznytsia.context.ApplicationContext;
+import org.blyznytsia.context.ContextOptions;
+import org.blyznytsia.convert.ConverterRegistry;
+import org.blyznytsia.env.Environment;
 import org.blyznytsia.exception.BeanConfigurationException;
-import org.blyznytsia.util.TypeResolver;
 
 /**
  * Implementation of {@link BeanPostProcessor} interface that injects values into fields annotated
- * with {@link Value}
+ * with {@link Value}. Property keys and converters are resolved once per class through {@link
+ * InjectionMetadata}, and property values are converted once per class and cached as typed values,
+ * so later beans of the class, e.g. prototypes, get them injected without lookups and parsing.
+ *
+ * <p>The environment can be replaced by {@link PropertyRefresher}, after which typed values of
+ * every class are converted again on the next bean creation.
+ *
+ * @see ConverterRegistry
  */
 @Slf4j
 public class ValueAnnotationBeanPostProcessor implements BeanPostProcessor {
 
-  public static final String DEFAULT_APPLICATION_PROPERTIES = "application.properties";
-  private final Properties properties;
+  public static final String DEFAULT_APPLICATION_PROPERTIES = Environment.APPLICATION_PROPERTIES;
+  private volatile Environment environment;
 
+  /** Typed values of {@link InjectionMetadata#getValueFields()} in the same order */
+  private final ClassValue<TypedValues> typedValues =
+      new ClassValue<>() {
+        @Override
+        protected TypedValues computeValue(Class<?> type) {
+          var current = environment;
+          var valueFields = InjectionMetadata.forClass(type).getValueFields();
+          var values = new Object[valueFields.size()];
+          for (int i = 0; i < values.length; i++) {
+            values[i] = convert(valueFields.get(i), current);
+          }
+          return new TypedValues(current, values);
+        }
+      };
+
+  /** Creates a post processor with properties of {@link Environment#load()} */
   public ValueAnnotationBeanPostProcessor() {
-    this.properties = loadProperties(DEFAULT_APPLICATION_PROPERTIES);
+    this(Environment.load());
+  }
+
+  /**
+   * Creates a post processor with properties of {@link Environment#load(java.nio.file.Path)} that
+   * also reads {@link ContextOptions#getPropertiesDirectory()}
+   *
+   * @param options settings of the context
+   */
+  public ValueAnnotationBeanPostProcessor(ContextOptions options) {
+    this(Environment.load(options.getPropertiesDirectory()));
+  }
+
+  /**
+   * Creates a post processor with the given properties
+   *
+   * @param environment flattened properties
+   */
+  public ValueAnnotationBeanPostProcessor(Environment environment) {
+    this.environment = environment;
   }
 
   @Override
   public Object configure(Object bean, ApplicationContext context) {
-    for (var field : bean.getClass().getDeclaredFields()) {
-      if (field.isAnnotationPresent(Value.class)) {
-        log.debug("Initializing '{}' field", field);
-        try {
-          var annotation = field.getAnnotation(Value.class);
-          Object value =
-              annotation.value().isBlank()
-                  ? properties.get(field.getName())
-                  : properties.get(annotation.value());
-
-          field.setAccessible(true);
-          Object typedValue = TypeResolver.parseToType((String) value, field.getType());
-          field.set(bean, typedValue);
-
-          log.debug(
-              "Successfully initialized '{}' field with '{}' value from {}",
-              field,
-              typedValue,
-              DEFAULT_APPLICATION_PROPERTIES);
-
-        } catch (Exception e) {
-          log.error("Exception during bean configuration: {}", e.getMessage());
-          throw new BeanConfigurationException("Failed to inject %s property from", e);
-        }
-      }
+    var valueFields = InjectionMetadata.forClass(bean.getClass()).getValueFields();
+    if (valueFields.isEmpty()) {
+      return bean;
+    }
+
+    var values = typedValues(bean.getClass());
+    for (int i = 0; i < values.length; i++) {
+      valueFields.get(i).inject(bean, values[i]);
     }
     return bean;
   }
 
-  private Properties loadProperties(String resourceName) {
-    var inputStream = ClassLoader.getSystemClassLoader().getResourceAsStream(resourceName);
-    if (inputStream == null) {
-      throw new RuntimeException(
-          "Failed to find '%s' properties file in resources".formatted(resourceName));
+  /**
+   * Returns values of the current environment converted for the {@link Value} fields of a class
+   *
+   * @param type bean class
+   * @return typed values in the order of {@link InjectionMetadata#getValueFields()}
+   */
+  Object[] typedValues(Class<?> type) {
+    var cached = typedValues.get(type);
+    if (cached.environment != environment) {
+      typedValues.remove(type);
+      cached = typedValues.get(type);
+    }
+    return cached.values;
+  }
+
+  /**
+   * Returns the properties values are injected from
+   *
+   * @return current {@link Environment}
+   */
+  public Environment getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * Replaces the properties values are injected from, used by {@link PropertyRefresher}
+   *
+   * @param environment new properties
+   */
+  void setEnvironment(Environment environment) {
+    this.environment = environment;
+  }
+
+  /**
+   * Converts the property of a field
+   *
+   * @param injectedField {@link Value} field
+   * @param environment properties to read the value from
+   * @return typed value
+   * @throws BeanConfigurationException if the value can't be resolved or converted
+   */
+  Object convert(InjectedField injectedField, Environment environment) {
+    var field = injectedField.getField();
+    log.debug("Initializing '{}' field", field);
+    try {
+      var value = environment.getProperty(injectedField.getPropertyKey());
+      Object typedValue = injectedField.getConverter().apply(value);
+
+      log.debug("Successfully initialized '{}' field with '{}' value", field, typedValue);
+      return typedValue;
+
+    } catch (Exception e) {
+      log.error("Exception during bean configuration: {}", e.getMessage());
+      throw new BeanConfigurationException(
+          "Failed to inject %s property".formatted(injectedField.getPropertyKey()), e);
     }
+  }
 
-    var props = new Properties();
+  /**
+   * Resolves a property and converts it to the type of a field, used by wiring code generated at
+   * compile time instead of {@link #configure(Object, ApplicationContext)}
+   *
+   * @param key property key
+   * @param type type of the field
+   * @return converted property value
+   * @throws BeanConfigurationException if the value can't be converted to the type
+   */
+  public Object resolveValue(String key, Class<?> type) {
     try {
-      props.load(inputStream);
-    } catch (IOException e) {
-      throw new RuntimeException("Failed to load properties from %s".formatted(resourceName), e);
+      return ConverterRegistry.getDefault().converterFor(type).apply(environment.getProperty(key));
+    } catch (Exception e) {
+      throw new BeanConfigurationException("Failed to inject %s property".formatted(key), e);
     }
+  }
 
-    return props;
+  /** Typed values of a class converted from the properties of an environment */
+  private static final class TypedValues {
+
+    private final Environment environment;
+    private final Object[] values;
+
+    private TypedValues(Environment environment, Object[] values) {
+      this.environment = environment;
+      this.values = values;
+    }
   }
 }
@@ -1,20 +1,39 @@
 package org.blyznytsia.context;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.blyznytsia.annotation.Component;
+import org.blyznytsia.annotation.Configuration;
+import org.blyznytsia.bpp.BeanPostProcessor;
+import org.blyznytsia.bpp.PropertyRefresher;
+import org.blyznytsia.env.Environment;
+import org.blyznytsia.env.PropertiesWatcher;
+import org.blyznytsia.exception.BeanInstantiationException;
 import org.blyznytsia.exception.NoSuchBeanException;
 import org.blyznytsia.exception.NoUniqueBeanException;
+import org.blyznytsia.jfr.BeanLookupEvent;
 import org.blyznytsia.model.BeanDefinition;
 import org.blyznytsia.scanner.BeanScanner;
+import org.blyznytsia.scanner.ClasspathMetadata;
+import org.blyznytsia.scanner.ComponentIndex;
+import org.blyznytsia.scanner.DependencyResolver;
+import org.blyznytsia.startup.StartupRecorder;
+import org.blyznytsia.startup.StartupReport;
 import org.blyznytsia.validator.BeanValidator;
-import org.reflections.Reflections;
+import org.blyznytsia.validator.ValidationPipeline;
 
 /**
  * Implementation of ApplicationContext. The main responsibilities of this class is to delegate
@@ -44,40 +63,239 @@ import org.reflections.Reflections;
 public class AnnotationApplicationContext implements ApplicationContext {
 
   private static final String DEFAULT_SCANNERS_PACKAGE = "org.blyznytsia.scanner";
-  /** Beans container */
-  private final Map<String, Object> container = new ConcurrentHashMap<>();
+  private static final String DEFAULT_VALIDATORS_PACKAGE = "org.blyznytsia.validator";
+  /** Beans container indexed by bean types */
+  private final BeanRegistry container = new BeanRegistry();
+  /** Timings of the phases and beans of context startup */
+  private final StartupReport startupReport;
+  /** Watcher of {@link ContextOptions#getPropertiesDirectory()}, null if it is not set */
+  private PropertiesWatcher propertiesWatcher;
+  /** Beans with request and thread scope */
+  @Getter(AccessLevel.NONE)
+  private ScopedBeans scopedBeans = new ScopedBeans();
+  /** Factory that created the beans, null if they were created by a {@link GeneratedContext} */
+  @Getter(AccessLevel.NONE)
+  private ObjectFactory objectFactory;
+
+  @Getter(AccessLevel.NONE)
+  private final AtomicBoolean closed = new AtomicBoolean();
 
   /**
    * Creates context
    *
    * <pre>
    * <b>Steps:</b>
-   * 1. Initialize and run all implementations of {@link BeanScanner}
-   * 2. Initialize {@link ObjectFactory} that creates beans
+   * 1. Collect {@link ClasspathMetadata} of the package and framework extensions with one scan
+   * 2. Initialize and run all implementations of {@link BeanScanner}
+   * 3. Initialize {@link ObjectFactory} that creates beans
    * and put them into {@link AnnotationApplicationContext#container}
    * </pre>
    *
    * @param packageName package to scan
    */
   public AnnotationApplicationContext(String packageName) {
-    var beanDefinitions = initAndRunScanners(packageName);
-    validate(beanDefinitions);
-    new ObjectFactory(this).initiateContext(beanDefinitions);
+    this(packageName, ContextOptions.defaults());
+  }
+
+  /**
+   * Creates context with custom {@link ContextOptions}
+   *
+   * <p>If {@link ContextOptions#isGeneratedContext()} is set and wiring code was generated at
+   * compile time for exactly this package from all of its component and configuration classes in
+   * the {@link ComponentIndex}, beans are created by the {@link GeneratedContext} without scanning,
+   * validation and bean post processors. Otherwise, if {@link ContextOptions#getSnapshotPath()} is
+   * set and the snapshot matches the classpath, bean definitions and post processors are loaded
+   * from it and scanning, scanners and validators are skipped. Otherwise the snapshot is written
+   * once the context is created.
+   *
+   * <p>If {@link ContextOptions#getPropertiesDirectory()} is set, the generated context is not used
+   * and the directory is watched to refresh {@link org.blyznytsia.annotation.Value} fields of
+   * singletons when property files change.
+   *
+   * @param packageName package to scan
+   * @param options settings of the context
+   * @see AnnotationApplicationContext#AnnotationApplicationContext(String)
+   */
+  public AnnotationApplicationContext(String packageName, ContextOptions options) {
+    var recorder = new StartupRecorder();
+    var generatedContext =
+        options.isGeneratedContext() && options.getPropertiesDirectory() == null
+            ? GeneratedContext.find(packageName)
+                .filter(generated -> isComplete(generated, packageName))
+            : Optional.<GeneratedContext>empty();
+
+    Set<BeanDefinition> beanDefinitions;
+    if (generatedContext.isPresent()) {
+      log.info("Using generated context of {} package", packageName);
+      recorder.phase(
+          "generatedContext",
+          () -> {
+            registerGeneratedBeans(generatedContext.get());
+            return null;
+          });
+      beanDefinitions = Set.of();
+    } else {
+      beanDefinitions = createBeans(packageName, options, recorder);
+    }
+
+    this.startupReport = recorder.toReport(beanDefinitions);
+    log.info(
+        "Started context of {} beans in {} ms",
+        container.size(),
+        startupReport.getTotalNanos() / 1_000_000);
+  }
+
+  /**
+   * Creates beans of the package found by scanning or loaded from a snapshot
+   *
+   * @param packageName package to scan
+   * @param options settings of the context
+   * @param recorder recorder of startup phases
+   * @return {@link Set} of created bean definitions
+   */
+  private Set<BeanDefinition> createBeans(
+      String packageName, ContextOptions options, StartupRecorder recorder) {
+    var snapshotPath = options.getSnapshotPath();
+    var classpathHash =
+        snapshotPath != null
+            ? recorder.phase("classpathHash", ContextSnapshot::classpathHash)
+            : null;
+    var snapshot =
+        snapshotPath != null
+            ? recorder.phase(
+                "snapshot", () -> ContextSnapshot.load(snapshotPath, packageName, classpathHash))
+            : Optional.<ContextSnapshot>empty();
+
+    Set<BeanDefinition> beanDefinitions;
+    Collection<Class<? extends BeanPostProcessor>> postProcessorClasses;
+    if (snapshot.isPresent()) {
+      log.info("Loaded context snapshot from {}", snapshotPath);
+      beanDefinitions = snapshot.get().getDefinitions();
+      postProcessorClasses = snapshot.get().getPostProcessorClasses();
+    } else {
+      var metadata =
+          recorder.phase(
+              "scan",
+              () ->
+                  ClasspathMetadata.scan(
+                      packageName,
+                      DEFAULT_SCANNERS_PACKAGE,
+                      DEFAULT_VALIDATORS_PACKAGE,
+                      ObjectFactory.DEFAULT_POST_PROCESSORS_PACKAGE));
+      beanDefinitions = recorder.phase("scanners", () -> initAndRunScanners(packageName, metadata));
+      recorder.phase(
+          "validation",
+          () -> {
+            validate(beanDefinitions, metadata, options.getExecutor());
+            return null;
+          });
+      postProcessorClasses =
+          metadata.getSubTypesOf(
+              ObjectFactory.DEFAULT_POST_PROCESSORS_PACKAGE, BeanPostProcessor.class);
+    }
+
+    objectFactory =
+        recorder.phase(
+            "postProcessors",
+            () -> new ObjectFactory(this, options, postProcessorClasses, recorder));
+    recorder.phase(
+        "instantiation",
+        () -> {
+          objectFactory.initiateContext(beanDefinitions);
+          return null;
+        });
+
+    scopedBeans = objectFactory.getScopedBeans();
+    objectFactory
+        .getPropertyRefresher()
+        .ifPresent(refresher -> watchProperties(options.getPropertiesDirectory(), refresher));
+
+    if (snapshotPath != null && snapshot.isEmpty()) {
+      ContextSnapshot.write(
+          snapshotPath, packageName, classpathHash, beanDefinitions, postProcessorClasses);
+    }
+    return beanDefinitions;
+  }
+
+  /**
+   * Starts watching property files and refreshing values of singletons when they change
+   *
+   * @param directory directory with property files
+   * @param refresher {@link PropertyRefresher} with registered singletons
+   */
+  private void watchProperties(Path directory, PropertyRefresher refresher) {
+    propertiesWatcher =
+        new PropertiesWatcher(directory, () -> refresher.refresh(Environment.load(directory)));
+  }
+
+  /**
+   * Checks that wiring code generated at compile time creates the beans of all component and
+   * configuration classes of the package. Code of an incremental compilation, or of a package that
+   * other jars add classes to, misses some of them, and the package is scanned instead.
+   *
+   * @param generatedContext {@link GeneratedContext} of the package
+   * @param packageName package the context is created for
+   * @return true if the classes the code was generated from match the component index
+   */
+  private static boolean isComplete(GeneratedContext generatedContext, String packageName) {
+    var index = ComponentIndex.find();
+    if (index.isEmpty() || !index.get().covers(packageName)) {
+      log.warn(
+          "Ignoring generated context of {} package, it is not covered by component index",
+          packageName);
+      return false;
+    }
+    Set<String> indexed =
+        new HashSet<>(index.get().getTypeNamesAnnotatedWith(packageName, Component.class));
+    indexed.addAll(index.get().getTypeNamesAnnotatedWith(packageName, Configuration.class));
+    if (!indexed.equals(generatedContext.getSourceTypes())) {
+      Set<String> missing = new HashSet<>(indexed);
+      missing.removeAll(generatedContext.getSourceTypes());
+      log.warn(
+          "Ignoring generated context of {} package, it doesn't match component index: {}",
+          packageName,
+          missing.isEmpty() ? "it has removed classes" : "it misses " + missing);
+      return false;
+    }
+    return true;
   }
 
   /**
-   * Validate set of bean definition
+   * Registers beans created by wiring code generated at compile time
+   *
+   * @param generatedContext {@link GeneratedContext} of the package
+   */
+  private void registerGeneratedBeans(GeneratedContext generatedContext) {
+    try {
+      generatedContext.registerBeans(container);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new BeanInstantiationException(
+          "Failed to create beans of %s".formatted(generatedContext.getClass().getName()), e);
+    }
+  }
+
+  /**
+   * Validate set of bean definition with all validators in a {@link ValidationPipeline}
    *
    * @param beanDefinitions set of bean definition
+   * @param metadata {@link ClasspathMetadata} to find validators in
+   * @param executor executor of validation tasks or null to validate on the calling thread
+   * @throws org.blyznytsia.exception.BeanValidationException with failures of all validators
    */
   @SneakyThrows
-  private void validate(Set<BeanDefinition> beanDefinitions) {
-    Set<Class<? extends BeanValidator>> validatorClasses =
-        new Reflections("org.blyznytsia.validator").getSubTypesOf(BeanValidator.class);
+  private void validate(
+      Set<BeanDefinition> beanDefinitions, ClasspathMetadata metadata, Executor executor) {
+    List<Class<? extends BeanValidator>> validatorClasses =
+        new ArrayList<>(metadata.getSubTypesOf(DEFAULT_VALIDATORS_PACKAGE, BeanValidator.class));
+    validatorClasses.sort(Comparator.comparing(Class::getName));
+
+    List<BeanValidator> validators = new ArrayList<>();
     for (var validatorClass : validatorClasses) {
-      BeanValidator beanValidator = validatorClass.getDeclaredConstructor().newInstance();
-      beanValidator.validate(beanDefinitions);
+      validators.add(validatorClass.getDeclaredConstructor().newInstance());
     }
+    new ValidationPipeline(validators, executor).validate(beanDefinitions);
   }
 
   /**
@@ -92,12 +310,16 @@ public class AnnotationApplicationContext implements ApplicationContext {
    */
   @Override
   public <T> T getBean(Class<T> beanType) throws NoSuchBeanException, NoUniqueBeanException {
-    var list = container.values().stream().filter(beanType::isInstance).toList();
+    var event = new BeanLookupEvent();
+    event.begin();
+    var beans = container.getBeansOfType(beanType);
 
-    if (list.size() > 1) throw new NoUniqueBeanException(list.size());
-    else if (list.isEmpty()) throw new NoSuchBeanException();
+    if (beans.size() > 1) throw new NoUniqueBeanException(beans.size());
+    else if (beans.isEmpty()) throw new NoSuchBeanException();
 
-    return beanType.cast(list.get(0));
+    var bean = beanType.cast(beans.values().iterator().next());
+    commit(event, null, beanType);
+    return bean;
   }
 
   /**
@@ -111,8 +333,22 @@ public class AnnotationApplicationContext implements ApplicationContext {
    */
   @Override
   public <T> T getBean(String name, Class<T> beanType) throws NoSuchBeanException {
-    return Optional.ofNullable(beanType.cast(container.get(name)))
-        .orElseThrow(NoSuchBeanException::new);
+    var event = new BeanLookupEvent();
+    event.begin();
+    var bean =
+        Optional.ofNullable(beanType.cast(container.getBean(name)))
+            .orElseThrow(NoSuchBeanException::new);
+    commit(event, name, beanType);
+    return bean;
+  }
+
+  private void commit(BeanLookupEvent event, String name, Class<?> beanType) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.beanName = name;
+      event.beanType = beanType;
+      event.commit();
+    }
   }
 
   /**
@@ -120,33 +356,86 @@ public class AnnotationApplicationContext implements ApplicationContext {
    * bean's instance is a value
    *
    * @param beanType type of the target bean
-   * @return {@link Map} of all beans with the provided type. If no beans are found returns empty
+   * @return unmodifiable {@link Map} of all beans with the provided type. If no beans are found
+   *     returns empty
    */
   @Override
+  @SuppressWarnings("unchecked")
   public <T> Map<String, T> getAllBeans(Class<T> beanType) {
-    return container.entrySet().stream()
-        .filter(entry -> beanType.isAssignableFrom(entry.getValue().getClass()))
-        .collect(Collectors.toMap(Map.Entry::getKey, entry -> beanType.cast(entry.getValue())));
+    return (Map<String, T>) container.getBeansOfType(beanType);
+  }
+
+  /**
+   * Opens a request on the current thread. Beans with {@link org.blyznytsia.model.Scope#REQUEST}
+   * scope can be used only within a request and get one instance per request.
+   *
+   * @return {@link RequestScope} to be closed when the request ends
+   */
+  public RequestScope beginRequest() {
+    return scopedBeans.beginRequest();
+  }
+
+  /**
+   * Closes the context: stops watching property files, destroys thread scoped beans and calls
+   * {@link org.blyznytsia.annotation.PreDestroy} methods of created singletons in reverse
+   * dependency order, destroying independent beans concurrently if {@link
+   * ContextOptions#getExecutor()} is set. Calling it again has no effect.
+   */
+  @Override
+  public void close() {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+
+    log.info("Closing context of {} beans", container.size());
+    if (propertiesWatcher != null) {
+      propertiesWatcher.close();
+    }
+    scopedBeans.close();
+    if (objectFactory != null) {
+      objectFactory.destroyBeans();
+    }
+  }
+
+  /**
+   * Returns the report with timings of the phases and beans of context startup
+   *
+   * @return {@link StartupReport}
+   */
+  public StartupReport getStartupReport() {
+    return startupReport;
   }
 
   /**
-   * Initializes and runs all implementations of {@link BeanScanner}
+   * Getter for container
+   *
+   * @return {@link Map} container of beans backed by {@link BeanRegistry}
+   */
+  @Override
+  public Map<String, Object> getContainer() {
+    return container;
+  }
+
+  /**
+   * Initializes and runs all implementations of {@link BeanScanner} and resolves dependencies of
+   * the found beans with {@link DependencyResolver}
    *
    * @param packageName package to scan
+   * @param metadata {@link ClasspathMetadata} shared by all scanners
    * @return {@link Set<BeanDefinition>} common set of scanners results
    */
   @SneakyThrows
-  private Set<BeanDefinition> initAndRunScanners(String packageName) {
+  private Set<BeanDefinition> initAndRunScanners(String packageName, ClasspathMetadata metadata) {
     log.debug("Searching for scanners in {} package", packageName);
-    var scannerClasses = new Reflections(DEFAULT_SCANNERS_PACKAGE).getSubTypesOf(BeanScanner.class);
+    var scannerClasses = metadata.getSubTypesOf(DEFAULT_SCANNERS_PACKAGE, BeanScanner.class);
     log.debug("Found {} scanners in {} package", scannerClasses, packageName);
 
     var beanDefinitions = new HashSet<BeanDefinition>();
     for (var scannerClass : scannerClasses) {
       var beanScanner = scannerClass.getDeclaredConstructor().newInstance();
-      beanDefinitions.addAll(beanScanner.scan(packageName));
+      beanDefinitions.addAll(beanScanner.scan(packageName, metadata));
     }
 
-    return beanDefinitions;
+    return DependencyResolver.resolve(beanDefinitions);
   }
 }
@@ -8,7 +8,7 @@ import org.blyznytsia.exception.NoUniqueBeanException;
  * Central interface to provide access and retrieve beans object. Similar as BeanFactory in Spring
  * framework
  */
-public interface ApplicationContext {
+public interface ApplicationContext extends AutoCloseable {
 
   /**
    * Retrieves a bean by type from the context.
@@ -50,4 +50,12 @@ public interface ApplicationContext {
    * @return {@link Map} container of beans
    */
   Map<String, Object> getContainer();
+
+  /**
+   * Closes the context and destroys its beans. Does nothing by default.
+   *
+   * @see org.blyznytsia.annotation.PreDestroy
+   */
+  @Override
+  default void close() {}
 }
@@ -0,0 +1,132 @@
+package org.blyznytsia.context;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.blyznytsia.exception.BeanInstantiationException;
+import org.blyznytsia.model.BeanDefinition;
+
+/**
+ * Dependency graph of bean definitions. In-degrees and dependents of every definition are computed
+ * once, so sorting the graph topologically takes O(V + E) time.
+ */
+class BeanDependencyGraph {
+
+  private final Collection<BeanDefinition> definitions;
+  /** Number of dependencies of each bean */
+  private final Map<String, Integer> inDegrees = new HashMap<>();
+  /** Beans that depend on the key bean */
+  private final Map<String, List<BeanDefinition>> dependents = new HashMap<>();
+  /** Beans with no dependencies */
+  private final List<BeanDefinition> roots = new ArrayList<>();
+
+  BeanDependencyGraph(Collection<BeanDefinition> definitions) {
+    this.definitions = definitions;
+
+    for (var definition : definitions) {
+      var dependencies = definition.getAllDependencies();
+      inDegrees.put(definition.getName(), dependencies.size());
+      dependencies.forEach(
+          dependency ->
+              dependents.computeIfAbsent(dependency, name -> new ArrayList<>()).add(definition));
+      if (dependencies.isEmpty()) {
+        roots.add(definition);
+      }
+    }
+  }
+
+  /**
+   * Passes every bean definition to the action right after the action was called for the last of
+   * its dependencies (Kahn's algorithm)
+   *
+   * @param action action to perform on each bean definition, e.g. bean creation
+   * @throws BeanInstantiationException if some dependencies can never be created
+   */
+  void forEachInDependencyOrder(Consumer<BeanDefinition> action) {
+    var remainingInDegrees = new HashMap<>(inDegrees);
+    var ready = new ArrayDeque<>(roots);
+    Set<String> processed = new HashSet<>();
+
+    while (!ready.isEmpty()) {
+      var definition = ready.poll();
+      action.accept(definition);
+      processed.add(definition.getName());
+
+      for (var dependent : dependents.getOrDefault(definition.getName(), List.of())) {
+        if (remainingInDegrees.merge(dependent.getName(), -1, Integer::sum) == 0) {
+          ready.add(dependent);
+        }
+      }
+    }
+
+    failOnUnresolvedDependencies(processed);
+  }
+
+  /**
+   * Sorts bean definitions topologically into levels
+   *
+   * @return {@link List} of levels, the first level contains beans with no dependencies
+   * @throws BeanInstantiationException if some dependencies can never be created
+   */
+  List<List<BeanDefinition>> levels() {
+    var remainingInDegrees = new HashMap<>(inDegrees);
+    Set<String> processed = new HashSet<>();
+    List<List<BeanDefinition>> levels = new ArrayList<>();
+
+    List<BeanDefinition> currentLevel = roots;
+    while (!currentLevel.isEmpty()) {
+      levels.add(currentLevel);
+
+      List<BeanDefinition> nextLevel = new ArrayList<>();
+      for (var definition : currentLevel) {
+        processed.add(definition.getName());
+        for (var dependent : dependents.getOrDefault(definition.getName(), List.of())) {
+          if (remainingInDegrees.merge(dependent.getName(), -1, Integer::sum) == 0) {
+            nextLevel.add(dependent);
+          }
+        }
+      }
+      currentLevel = nextLevel;
+    }
+
+    failOnUnresolvedDependencies(processed);
+    return levels;
+  }
+
+  /**
+   * Reports every bean that was not processed together with its dependencies that were not
+   * processed either, because they are missing or take part in a cycle
+   *
+   * @param processed names of processed beans
+   */
+  private void failOnUnresolvedDependencies(Set<String> processed) {
+    if (processed.size() == definitions.size()) {
+      return;
+    }
+
+    var unresolved =
+        definitions.stream()
+            .filter(definition -> !processed.contains(definition.getName()))
+            .map(
+                definition ->
+                    "%s -> %s"
+                        .formatted(
+                            definition.getName(),
+                            definition.getAllDependencies().stream()
+                                .filter(dependency -> !processed.contains(dependency))
+                                .sorted()
+                                .toList()))
+            .sorted()
+            .collect(Collectors.joining(", "));
+
+    throw new BeanInstantiationException(
+        "Failed to resolve dependencies of beans: %s".formatted(unresolved));
+  }
+}
@@ -0,0 +1,230 @@
+package org.blyznytsia.context;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+
+/**
+ * Beans container that indexes every registered bean by its concrete class, all of its superclasses
+ * and all of its interfaces. The index is built once on registration, so lookups by type are plain
+ * map reads that return precomputed read-only views.
+ *
+ * <p>The registry is exposed as a {@link Map} of bean names to bean instances so it can be used
+ * wherever {@link ApplicationContext#getContainer()} is used. Beans with {@link
+ * org.blyznytsia.model.Scope#PROTOTYPE} scope and lazy beans are registered as {@link DeferredBean}
+ * indexed by their declared type. {@link Map} methods return such values as is, while {@link
+ * #getBean(String)} and {@link #getBeansOfType(Class)} resolve them into beans on every read.
+ *
+ * @see org.blyznytsia.context.AnnotationApplicationContext
+ */
+public class BeanRegistry extends AbstractMap<String, Object> {
+
+  /** Beans by name */
+  private final Map<String, Object> beans = new ConcurrentHashMap<>();
+
+  /** Beans by name for each type a bean can be assigned to */
+  private final Map<Class<?>, TypeIndexEntry> beansByType = new ConcurrentHashMap<>();
+
+  /**
+   * Registers a bean under the given name and indexes it by all of its types
+   *
+   * @param name name of the bean
+   * @param bean bean instance or {@link DeferredBean}
+   * @return previous bean registered under the same name or null
+   */
+  @Override
+  public Object put(@NonNull String name, @NonNull Object bean) {
+    var previous = beans.put(name, bean);
+    if (previous != null) {
+      unindex(name, previous);
+    }
+    for (var type : resolveTypes(bean)) {
+      beansByType.computeIfAbsent(type, key -> new TypeIndexEntry()).beans.put(name, bean);
+    }
+    return previous;
+  }
+
+  /**
+   * Removes a bean with the given name and all of its type index entries
+   *
+   * @param name name of the bean
+   * @return removed bean or null
+   */
+  @Override
+  public Object remove(Object name) {
+    var removed = beans.remove(name);
+    if (removed != null) {
+      unindex((String) name, removed);
+    }
+    return removed;
+  }
+
+  @Override
+  public Object get(Object name) {
+    return beans.get(name);
+  }
+
+  @Override
+  public boolean containsKey(Object name) {
+    return beans.containsKey(name);
+  }
+
+  @Override
+  public int size() {
+    return beans.size();
+  }
+
+  @Override
+  public Set<String> keySet() {
+    return Collections.unmodifiableSet(beans.keySet());
+  }
+
+  @Override
+  public Collection<Object> values() {
+    return Collections.unmodifiableCollection(beans.values());
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return Collections.unmodifiableMap(beans).entrySet();
+  }
+
+  /**
+   * Returns a bean by name, creating prototype and lazy beans if needed
+   *
+   * @param name name of the bean
+   * @return bean or null if no bean is registered under the name
+   */
+  public Object getBean(String name) {
+    return DeferredBean.resolve(beans.get(name));
+  }
+
+  /**
+   * Returns all beans that can be assigned to the given type
+   *
+   * @param type target type
+   * @return unmodifiable {@link Map} of beans by name, empty if no beans are found. Deferred beans
+   *     are resolved on every read of a value
+   */
+  public Map<String, Object> getBeansOfType(Class<?> type) {
+    var entry = beansByType.get(type);
+    return entry != null ? entry.view : Collections.emptyMap();
+  }
+
+  private void unindex(String name, Object bean) {
+    for (var type : resolveTypes(bean)) {
+      var entry = beansByType.get(type);
+      if (entry != null) {
+        entry.beans.remove(name, bean);
+      }
+    }
+  }
+
+  private static Set<Class<?>> resolveTypes(Object bean) {
+    return resolveTypes(
+        bean instanceof DeferredBean deferredBean ? deferredBean.getType() : bean.getClass());
+  }
+
+  /**
+   * Collects the class itself, all of its superclasses and all of its interfaces
+   *
+   * @param type concrete class of a bean
+   * @return {@link Set} of types the bean can be assigned to
+   */
+  private static Set<Class<?>> resolveTypes(Class<?> type) {
+    Set<Class<?>> types = new HashSet<>();
+    Deque<Class<?>> toVisit = new ArrayDeque<>();
+    toVisit.push(type);
+
+    while (!toVisit.isEmpty()) {
+      var current = toVisit.pop();
+      if (types.add(current)) {
+        if (current.getSuperclass() != null) {
+          toVisit.push(current.getSuperclass());
+        }
+        for (var anInterface : current.getInterfaces()) {
+          toVisit.push(anInterface);
+        }
+      }
+    }
+
+    return types;
+  }
+
+  /** Beans of a single type together with a read-only view created once for lookups */
+  private static class TypeIndexEntry {
+
+    private final Map<String, Object> beans = new ConcurrentHashMap<>();
+    private final Map<String, Object> view = new ResolvingView(beans);
+  }
+
+  /** Read-only view that resolves {@link DeferredBean} values into beans */
+  private static class ResolvingView extends AbstractMap<String, Object> {
+
+    private final Map<String, Object> beans;
+    private final Set<Entry<String, Object>> entrySet;
+
+    private ResolvingView(Map<String, Object> beans) {
+      this.beans = beans;
+      this.entrySet =
+          new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+              var iterator = beans.entrySet().iterator();
+              return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                  return iterator.hasNext();
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                  var entry = iterator.next();
+                  return new SimpleImmutableEntry<>(
+                      entry.getKey(), DeferredBean.resolve(entry.getValue()));
+                }
+              };
+            }
+
+            @Override
+            public int size() {
+              return beans.size();
+            }
+          };
+    }
+
+    @Override
+    public Object get(Object name) {
+      return DeferredBean.resolve(beans.get(name));
+    }
+
+    @Override
+    public boolean containsKey(Object name) {
+      return beans.containsKey(name);
+    }
+
+    @Override
+    public int size() {
+      return beans.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return beans.isEmpty();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+      return entrySet;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package org.blyznytsia.context;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Optional settings of {@link AnnotationApplicationContext}.
+ *
+ * <p>Example:
+ *
+ * <pre class=code>
+ *     var options = ContextOptions.builder().executor(Executors.newFixedThreadPool(8)).build();
+ *     var context = new AnnotationApplicationContext("org.example", options);
+ * </pre>
+ */
+@Getter
+@Builder
+public class ContextOptions {
+
+  /**
+   * Executor used to run bean validators and to create beans of the same dependency level
+   * concurrently. If not set, beans are validated and created one by one on the thread that creates
+   * the context. {@link VirtualThreads#newExecutor()} runs every task on its own virtual thread.
+   */
+  private final Executor executor;
+
+  /**
+   * File of a context snapshot. If set, the first startup writes the validated bean graph to the
+   * file and later startups with the same classpath load it instead of scanning the classpath and
+   * running scanners and validators.
+   */
+  private final Path snapshotPath;
+
+  /**
+   * Directory with property files that override the classpath ones. If set, the directory is
+   * watched and {@link org.blyznytsia.annotation.Value} fields of singleton beans are refreshed
+   * when its property files change, and wiring code generated at compile time is not used.
+   */
+  private final Path propertiesDirectory;
+
+  /**
+   * Maximum time to wait for beans returned by {@link org.blyznytsia.annotation.Bean} methods as
+   * {@link java.util.concurrent.CompletableFuture} and for the beans that depend on them. If not
+   * set, startup waits for them without a limit.
+   */
+  private final Duration startupTimeout;
+
+  /**
+   * Whether wiring code generated at compile time by {@link
+   * org.blyznytsia.processor.GeneratedContextProcessor} is used when it exists for the package and
+   * matches its classes in the component index. Disabled by default: generated code runs no
+   * validators and no custom bean post processors, and doesn't record beans in the startup report.
+   */
+  private final boolean generatedContext;
+
+  /**
+   * Creates options with default settings
+   *
+   * @return {@link ContextOptions} with every setting left unset
+   */
+  public static ContextOptions defaults() {
+    return builder().build();
+  }
+}
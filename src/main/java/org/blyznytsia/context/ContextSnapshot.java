@@ -0,0 +1,360 @@
+package org.blyznytsia.context;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Executable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.blyznytsia.bpp.BeanPostProcessor;
+import org.blyznytsia.exception.BringException;
+import org.blyznytsia.model.BeanDefinition;
+import org.blyznytsia.model.DependencyDescriptor;
+import org.blyznytsia.model.Scope;
+import org.blyznytsia.processor.ComponentIndexProcessor;
+import org.blyznytsia.util.BeanDefinitionUtils;
+
+/**
+ * Binary snapshot of a validated bean graph that lets later startups skip classpath scanning,
+ * scanners and validators.
+ *
+ * <p>The file stores bean definitions in dependency order: names, types, scopes, constructor or
+ * {@code @Bean} method signatures and the resolved names of their arguments, field dependencies and
+ * {@code @Value} property keys, together with the bean post processor classes. It is tied to a hash
+ * of the classpath: paths, sizes and modification times of jars, and of the component index of
+ * classpath directories, which {@link ComponentIndexProcessor} rewrites on every compilation.
+ * Directories without an index are hashed file by file. A snapshot with another hash, another
+ * package or a type that can't be resolved anymore is ignored.
+ *
+ * <p>Snapshots are read through a memory-mapped buffer and written to a temporary file that is
+ * moved into place, so a concurrently starting process never reads a partial file.
+ *
+ * @see ContextOptions#getSnapshotPath()
+ */
+@Slf4j
+@Getter
+final class ContextSnapshot {
+
+  private static final int MAGIC = 0x42524E47;
+  private static final int VERSION = 4;
+  private static final Map<String, Class<?>> PRIMITIVES =
+      Map.of(
+          "boolean", boolean.class,
+          "byte", byte.class,
+          "char", char.class,
+          "short", short.class,
+          "int", int.class,
+          "long", long.class,
+          "float", float.class,
+          "double", double.class);
+
+  /** Bean definitions in dependency order */
+  private final Set<BeanDefinition> definitions;
+
+  private final List<Class<? extends BeanPostProcessor>> postProcessorClasses;
+
+  private ContextSnapshot(
+      Set<BeanDefinition> definitions,
+      List<Class<? extends BeanPostProcessor>> postProcessorClasses) {
+    this.definitions = definitions;
+    this.postProcessorClasses = postProcessorClasses;
+  }
+
+  /**
+   * Loads a snapshot if it exists and matches the package and the classpath
+   *
+   * @param path snapshot file
+   * @param packageName package of the context
+   * @param classpathHash hash computed by {@link #classpathHash()}
+   * @return {@link ContextSnapshot} or empty if the snapshot is missing, stale or unreadable
+   */
+  static Optional<ContextSnapshot> load(Path path, String packageName, byte[] classpathHash) {
+    if (!Files.isRegularFile(path)) {
+      return Optional.empty();
+    }
+
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+        log.info("Ignoring context snapshot {} of unknown format", path);
+        return Optional.empty();
+      }
+      var hash = new byte[buffer.getInt()];
+      buffer.get(hash);
+      if (!Arrays.equals(hash, classpathHash) || !packageName.equals(readString(buffer))) {
+        log.info("Ignoring stale context snapshot {}", path);
+        return Optional.empty();
+      }
+
+      var classLoader =
+          Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+              .orElse(ContextSnapshot.class.getClassLoader());
+      List<Class<? extends BeanPostProcessor>> postProcessorClasses = new ArrayList<>();
+      for (int i = buffer.getInt(); i > 0; i--) {
+        postProcessorClasses.add(
+            loadClass(readString(buffer), classLoader).asSubclass(BeanPostProcessor.class));
+      }
+
+      Set<BeanDefinition> definitions = new LinkedHashSet<>();
+      for (int i = buffer.getInt(); i > 0; i--) {
+        definitions.add(readDefinition(buffer, classLoader));
+      }
+      return Optional.of(new ContextSnapshot(definitions, List.copyOf(postProcessorClasses)));
+    } catch (Exception e) {
+      log.warn("Ignoring unreadable context snapshot {}: {}", path, e.toString());
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Writes a snapshot of validated bean definitions
+   *
+   * @param path snapshot file
+   * @param packageName package of the context
+   * @param classpathHash hash computed by {@link #classpathHash()}
+   * @param definitions validated bean definitions
+   * @param postProcessorClasses bean post processor classes in the order they are applied
+   */
+  static void write(
+      Path path,
+      String packageName,
+      byte[] classpathHash,
+      Set<BeanDefinition> definitions,
+      Collection<Class<? extends BeanPostProcessor>> postProcessorClasses) {
+    List<BeanDefinition> ordered = new ArrayList<>(definitions.size());
+    new BeanDependencyGraph(definitions).forEachInDependencyOrder(ordered::add);
+
+    try {
+      var bytes = new ByteArrayOutputStream();
+      var out = new DataOutputStream(bytes);
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(classpathHash.length);
+      out.write(classpathHash);
+      writeString(out, packageName);
+
+      out.writeInt(postProcessorClasses.size());
+      for (var postProcessorClass : postProcessorClasses) {
+        writeString(out, postProcessorClass.getName());
+      }
+
+      out.writeInt(ordered.size());
+      for (var definition : ordered) {
+        writeDefinition(out, definition);
+      }
+      out.flush();
+
+      var parent = path.toAbsolutePath().getParent();
+      Files.createDirectories(parent);
+      var temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+      Files.write(temp, bytes.toByteArray());
+      Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      log.info("Wrote context snapshot of {} beans to {}", ordered.size(), path);
+    } catch (IOException e) {
+      log.warn("Failed to write context snapshot {}: {}", path, e.toString());
+    }
+  }
+
+  /**
+   * Computes a hash of the classpath from paths, sizes and modification times of its jars and of
+   * the component index of its directories, or of all files of directories without an index
+   *
+   * @return SHA-256 hash
+   */
+  static byte[] classpathHash() {
+    try {
+      var digest = MessageDigest.getInstance("SHA-256");
+      for (var entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+        var entryPath = Path.of(entry);
+        digest.update(entry.getBytes(StandardCharsets.UTF_8));
+        var index = entryPath.resolve(ComponentIndexProcessor.INDEX_LOCATION);
+        if (Files.isRegularFile(index)) {
+          update(digest, index);
+        } else if (Files.isDirectory(entryPath)) {
+          log.debug("Hashing every file of {}, it has no component index", entryPath);
+          try (Stream<Path> files = Files.walk(entryPath)) {
+            files.filter(Files::isRegularFile).sorted().forEach(file -> update(digest, file));
+          }
+        } else if (Files.exists(entryPath)) {
+          update(digest, entryPath);
+        }
+      }
+      return digest.digest();
+    } catch (IOException | NoSuchAlgorithmException e) {
+      throw new BringException("Failed to compute classpath hash", e);
+    }
+  }
+
+  private static void update(MessageDigest digest, Path file) {
+    try {
+      var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      digest.update(file.toString().getBytes(StandardCharsets.UTF_8));
+      digest.update(
+          ByteBuffer.allocate(16)
+              .putLong(attributes.size())
+              .putLong(attributes.lastModifiedTime().toMillis())
+              .array());
+    } catch (IOException e) {
+      throw new BringException("Failed to read attributes of " + file, e);
+    }
+  }
+
+  private static void writeDefinition(DataOutputStream out, BeanDefinition definition)
+      throws IOException {
+    writeString(out, definition.getName());
+    writeString(out, definition.getType().getName());
+    out.writeByte(definition.getScope().ordinal());
+    out.writeBoolean(definition.isLazy());
+    out.writeBoolean(definition.isConfigClassDependency());
+    if (definition.isConfigClassDependency()) {
+      writeString(out, definition.getConfigClass().getName());
+      writeString(out, definition.getBeanMethod().getName());
+      writeTypes(out, definition.getBeanMethod().getParameterTypes());
+    } else {
+      writeTypes(out, definition.getConstructor().getParameterTypes());
+    }
+    writeStrings(out, definition.getArgumentNames());
+    writeStrings(out, definition.getFieldDependencies());
+    writeStrings(
+        out,
+        definition.getAutowiredDependencies() != null
+            ? definition.getAutowiredDependencies().stream()
+                .map(DependencyDescriptor::getBeanName)
+                .toList()
+            : null);
+    writeStrings(out, definition.getValueKeys());
+    out.writeBoolean(definition.getInitMethod() != null);
+    if (definition.getInitMethod() != null) {
+      writeString(out, definition.getInitMethod());
+    }
+  }
+
+  private static BeanDefinition readDefinition(ByteBuffer buffer, ClassLoader classLoader)
+      throws ReflectiveOperationException {
+    var name = readString(buffer);
+    var type = loadClass(readString(buffer), classLoader);
+    var builder =
+        BeanDefinition.builder()
+            .name(name)
+            .type(type)
+            .scope(Scope.values()[buffer.get()])
+            .lazy(buffer.get() != 0);
+
+    var configClassDependency = buffer.get() != 0;
+    builder.configClassDependency(configClassDependency);
+    Executable executable;
+    if (configClassDependency) {
+      var configClass = loadClass(readString(buffer), classLoader);
+      var methodName = readString(buffer);
+      var beanMethod = configClass.getDeclaredMethod(methodName, readTypes(buffer, classLoader));
+      builder.configClass(configClass).beanMethod(beanMethod);
+      executable = beanMethod;
+    } else {
+      var constructor = type.getDeclaredConstructor(readTypes(buffer, classLoader));
+      builder.constructor(constructor);
+      executable = constructor;
+    }
+
+    var argumentNames = readStrings(buffer);
+    var descriptors = BeanDefinitionUtils.describeDependencies(executable);
+    List<DependencyDescriptor> parameterDependencies = new ArrayList<>(descriptors.size());
+    for (int i = 0; i < descriptors.size(); i++) {
+      parameterDependencies.add(descriptors.get(i).resolvedTo(argumentNames.get(i)));
+    }
+
+    builder
+        .parameterDependencies(List.copyOf(parameterDependencies))
+        .requiredDependencies(BeanDefinitionUtils.toBeanNames(parameterDependencies))
+        .fieldDependencies(new LinkedHashSet<>(readStrings(buffer)));
+
+    var autowiredNames = readStrings(buffer);
+    var fields =
+        configClassDependency
+            ? List.<DependencyDescriptor>of()
+            : BeanDefinitionUtils.describeAutowiredFields(type);
+    List<DependencyDescriptor> autowiredDependencies = new ArrayList<>(fields.size());
+    for (int i = 0; i < fields.size(); i++) {
+      autowiredDependencies.add(fields.get(i).resolvedTo(autowiredNames.get(i)));
+    }
+
+    return builder
+        .autowiredDependencies(List.copyOf(autowiredDependencies))
+        .valueKeys(List.copyOf(readStrings(buffer)))
+        .initMethod(buffer.get() != 0 ? readString(buffer) : null)
+        .build();
+  }
+
+  private static void writeTypes(DataOutputStream out, Class<?>[] types) throws IOException {
+    out.writeInt(types.length);
+    for (var type : types) {
+      writeString(out, type.getName());
+    }
+  }
+
+  private static Class<?>[] readTypes(ByteBuffer buffer, ClassLoader classLoader)
+      throws ClassNotFoundException {
+    var types = new Class<?>[buffer.getInt()];
+    for (int i = 0; i < types.length; i++) {
+      types[i] = loadClass(readString(buffer), classLoader);
+    }
+    return types;
+  }
+
+  private static void writeStrings(DataOutputStream out, Collection<String> values)
+      throws IOException {
+    if (values == null) {
+      out.writeInt(0);
+      return;
+    }
+    out.writeInt(values.size());
+    for (var value : values) {
+      writeString(out, value);
+    }
+  }
+
+  private static List<String> readStrings(ByteBuffer buffer) {
+    List<String> values = new ArrayList<>();
+    for (int i = buffer.getInt(); i > 0; i--) {
+      values.add(readString(buffer));
+    }
+    return values;
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    var bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    var bytes = new byte[buffer.getInt()];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static Class<?> loadClass(String name, ClassLoader classLoader)
+      throws ClassNotFoundException {
+    var primitive = PRIMITIVES.get(name);
+    return primitive != null ? primitive : Class.forName(name, false, classLoader);
+  }
+}
@@ -0,0 +1,36 @@
+package org.blyznytsia.context;
+
+/**
+ * Container value registered instead of a bean instance for beans that are not created during
+ * context initialization. Lookups resolve it into a bean with {@link #resolve(Object)}.
+ *
+ * @see PrototypeBeanFactory
+ * @see LazyBeanHolder
+ * @see BeanRegistry
+ */
+abstract class DeferredBean {
+
+  /**
+   * Returns the declared type of the bean used to index it in the container
+   *
+   * @return type from {@link org.blyznytsia.model.BeanDefinition}
+   */
+  abstract Class<?> getType();
+
+  /**
+   * Returns the bean, creating it if needed
+   *
+   * @return configured bean
+   */
+  abstract Object getObject();
+
+  /**
+   * Resolves a raw container value into a bean
+   *
+   * @param value bean instance or {@link DeferredBean} from the container
+   * @return the value itself or the bean provided by {@link DeferredBean}
+   */
+  static Object resolve(Object value) {
+    return value instanceof DeferredBean deferredBean ? deferredBean.getObject() : value;
+  }
+}
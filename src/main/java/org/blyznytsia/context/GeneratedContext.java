@@ -0,0 +1,53 @@
+package org.blyznytsia.context;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+import org.blyznytsia.processor.GeneratedContextProcessor;
+
+/**
+ * Wiring code generated at compile time by {@link
+ * org.blyznytsia.processor.GeneratedContextProcessor} for a package and all of its subpackages.
+ *
+ * <p>An implementation creates every bean of the package by calling constructors and {@link
+ * org.blyznytsia.annotation.Bean} methods directly and injects {@link
+ * org.blyznytsia.annotation.Autowired} and {@link org.blyznytsia.annotation.Value} fields by plain
+ * assignments, so {@link AnnotationApplicationContext} doesn't scan the classpath, validate bean
+ * definitions or run bean post processors. Implementations are found with {@link ServiceLoader},
+ * which needs no reflection configuration in a native image.
+ */
+public interface GeneratedContext {
+
+  /**
+   * Returns the component and configuration classes the code was generated from. The context uses
+   * the code only if they are all the classes of the package, see {@link
+   * AnnotationApplicationContext}.
+   *
+   * @return {@link Set} of binary class names
+   */
+  Set<String> getSourceTypes();
+
+  /**
+   * Creates beans in dependency order and registers them in the container
+   *
+   * @param container beans container of the context
+   * @throws Exception if a constructor, a bean method or a property conversion fails
+   */
+  void registerBeans(Map<String, Object> container) throws Exception;
+
+  /**
+   * Finds wiring code generated for exactly the given package
+   *
+   * @param packageName package the context is created for
+   * @return {@link GeneratedContext} or empty if nothing was generated for the package
+   */
+  static Optional<GeneratedContext> find(String packageName) {
+    var className = packageName + "." + GeneratedContextProcessor.CLASS_NAME;
+    return ServiceLoader.load(GeneratedContext.class, GeneratedContext.class.getClassLoader())
+        .stream()
+        .filter(provider -> provider.type().getName().equals(className))
+        .findFirst()
+        .map(ServiceLoader.Provider::get);
+  }
+}
@@ -0,0 +1,132 @@
+package org.blyznytsia.context;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import org.blyznytsia.exception.BeanInstantiationException;
+
+/**
+ * Holds a singleton bean annotated with {@link org.blyznytsia.annotation.Lazy} that is created
+ * exactly once on first access.
+ *
+ * <p>The state is either empty, a {@link Creation} in progress or the bean itself. Once the bean is
+ * created, reads are a single volatile read. The first thread to access the bean claims the
+ * creation with a compare-and-set and other threads wait on its future. No lock is shared between
+ * holders, so unrelated lazy beans are created in parallel. If the creation fails, waiting threads
+ * get the same exception and the next access tries again.
+ */
+final class LazyBeanHolder extends DeferredBean {
+
+  private static final VarHandle STATE;
+
+  static {
+    try {
+      STATE = MethodHandles.lookup().findVarHandle(LazyBeanHolder.class, "state", Object.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final PrototypeBeanFactory factory;
+  /** Callback run with the created bean before it is published, null if there is none */
+  private final Consumer<Object> onCreate;
+  /** Null, {@link Creation} in progress or the created bean */
+  private volatile Object state;
+
+  /**
+   * Creates holder of a lazy bean
+   *
+   * @param factory prepared factory that creates the bean once
+   */
+  LazyBeanHolder(PrototypeBeanFactory factory) {
+    this(factory, null);
+  }
+
+  /**
+   * Creates holder of a lazy bean that reports the created bean
+   *
+   * @param factory prepared factory that creates the bean once
+   * @param onCreate callback run with the created bean, or null
+   */
+  LazyBeanHolder(PrototypeBeanFactory factory, Consumer<Object> onCreate) {
+    this.factory = factory;
+    this.onCreate = onCreate;
+  }
+
+  @Override
+  Class<?> getType() {
+    return factory.getType();
+  }
+
+  @Override
+  Object getObject() {
+    var current = state;
+    if (current != null && !(current instanceof Creation)) {
+      return current;
+    }
+    return createOrAwait();
+  }
+
+  private Object createOrAwait() {
+    while (true) {
+      var current = state;
+      if (current == null) {
+        var creation = new Creation();
+        if (STATE.compareAndSet(this, null, creation)) {
+          return create(creation);
+        }
+      } else if (current instanceof Creation creation) {
+        return await(creation);
+      } else {
+        return current;
+      }
+    }
+  }
+
+  private Object create(Creation creation) {
+    try {
+      var bean = factory.getObject();
+      if (onCreate != null) {
+        onCreate.accept(bean);
+      }
+      state = bean;
+      creation.future.complete(bean);
+      return bean;
+    } catch (Throwable e) {
+      // also covers checked exceptions thrown sneakily by post processors or callbacks, which would
+      // otherwise leave the creation in progress and every waiting thread blocked
+      state = null;
+      creation.future.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private Object await(Creation creation) {
+    if (creation.owner == Thread.currentThread()) {
+      throw new BeanInstantiationException(
+          "Lazy bean of type %s is requested while it is being created".formatted(getType()));
+    }
+
+    try {
+      return creation.future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw new BeanInstantiationException(
+          "Failed to create lazy bean of type %s".formatted(getType()), e.getCause());
+    }
+  }
+
+  /** Creation of the bean claimed by a thread */
+  private static final class Creation {
+
+    private final Thread owner = Thread.currentThread();
+    private final CompletableFuture<Object> future = new CompletableFuture<>();
+  }
+}
@@ -1,18 +1,40 @@
 package org.blyznytsia.context;
 
-import static java.util.stream.Collectors.toSet;
-
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.blyznytsia.bpp.BeanPostProcessor;
+import org.blyznytsia.bpp.PropertyRefresher;
+import org.blyznytsia.bpp.ValueAnnotationBeanPostProcessor;
 import org.blyznytsia.exception.BeanInstantiationException;
 import org.blyznytsia.exception.BringException;
+import org.blyznytsia.jfr.BeanConfigurationEvent;
+import org.blyznytsia.jfr.BeanCreationEvent;
 import org.blyznytsia.model.BeanDefinition;
-import org.reflections.Reflections;
+import org.blyznytsia.model.Scope;
+import org.blyznytsia.scanner.ClasspathMetadata;
+import org.blyznytsia.startup.StartupRecorder;
 
 /**
  * Creates beans and fill out the context container
@@ -23,19 +45,140 @@ import org.reflections.Reflections;
 @Slf4j
 public class ObjectFactory {
 
+  /** Package with default implementations of {@link BeanPostProcessor} */
+  public static final String DEFAULT_POST_PROCESSORS_PACKAGE = "org.blyznytsia.bpp";
+
   /** Provide access to context container */
   private final ApplicationContext context;
   /** List of already initialized bean post processors */
   private final List<BeanPostProcessor> postProcessors = new ArrayList<>();
+  /** Executor to create beans in parallel, null if beans are created sequentially */
+  private final Executor executor;
+  /** Maximum time to wait for asynchronous beans, null to wait without a limit */
+  private final Duration startupTimeout;
+  /** Instances of @Configuration classes shared by all of their @Bean methods */
+  private final Map<Class<?>, ConfigInstance> configInstances = new ConcurrentHashMap<>();
+  /** Collects timings of bean creation steps */
+  private final StartupRecorder recorder;
+  /** Slots and proxies of beans with request and thread scope */
+  private final ScopedBeans scopedBeans = new ScopedBeans();
+  /** Created singletons with destroy callbacks by bean name */
+  private final Map<String, Object> destroyableBeans = new ConcurrentHashMap<>();
+  /** Definitions of created beans to destroy singletons in reverse dependency order */
+  private Set<BeanDefinition> definitions = Set.of();
+  /** Registered beans, holders, factories and proxies by index of their definition */
+  private Object[] beans = new Object[0];
+  /** Index and argument indices of every definition, resolved once before beans are created */
+  private Map<BeanDefinition, BeanSlot> slots = new IdentityHashMap<>();
+  /** Registers singletons with @Value fields, null if properties are not refreshed */
+  private final PropertyRefresher propertyRefresher;
+  /**
+   * Set once creation failed or timed out, beans created later are dropped instead of registered
+   */
+  private volatile boolean closed;
 
   /**
-   * Creates object factory and initializes bean post processors
+   * Creates object factory that creates beans sequentially and initializes bean post processors
    *
    * @param context {@link ApplicationContext}
    */
   public ObjectFactory(ApplicationContext context) {
+    this(context, ContextOptions.defaults());
+  }
+
+  /**
+   * Creates object factory and initializes bean post processors
+   *
+   * @param context {@link ApplicationContext}
+   * @param options {@link ContextOptions} with an optional {@link Executor} to create independent
+   *     beans concurrently
+   */
+  public ObjectFactory(ApplicationContext context, ContextOptions options) {
+    this(context, options, ClasspathMetadata.scan(DEFAULT_POST_PROCESSORS_PACKAGE));
+  }
+
+  /**
+   * Creates object factory and initializes bean post processors found in shared metadata
+   *
+   * @param context {@link ApplicationContext}
+   * @param options {@link ContextOptions} with an optional {@link Executor} to create independent
+   *     beans concurrently
+   * @param metadata {@link ClasspathMetadata} that covers {@link #DEFAULT_POST_PROCESSORS_PACKAGE}
+   */
+  public ObjectFactory(
+      ApplicationContext context, ContextOptions options, ClasspathMetadata metadata) {
+    this(context, options, metadata, new StartupRecorder());
+  }
+
+  /**
+   * Creates object factory that records timings of bean creation steps
+   *
+   * @param context {@link ApplicationContext}
+   * @param options {@link ContextOptions} with an optional {@link Executor} to create independent
+   *     beans concurrently
+   * @param metadata {@link ClasspathMetadata} that covers {@link #DEFAULT_POST_PROCESSORS_PACKAGE}
+   * @param recorder {@link StartupRecorder} of the context
+   */
+  public ObjectFactory(
+      ApplicationContext context,
+      ContextOptions options,
+      ClasspathMetadata metadata,
+      StartupRecorder recorder) {
+    this(
+        context,
+        options,
+        metadata.getSubTypesOf(DEFAULT_POST_PROCESSORS_PACKAGE, BeanPostProcessor.class),
+        recorder);
+  }
+
+  /**
+   * Creates object factory with already known bean post processor classes, e.g. loaded from a
+   * context snapshot
+   *
+   * @param context {@link ApplicationContext}
+   * @param options {@link ContextOptions} with an optional {@link Executor} to create independent
+   *     beans concurrently
+   * @param postProcessorClasses classes of bean post processors in the order they are applied
+   * @param recorder {@link StartupRecorder} of the context
+   */
+  public ObjectFactory(
+      ApplicationContext context,
+      ContextOptions options,
+      Collection<Class<? extends BeanPostProcessor>> postProcessorClasses,
+      StartupRecorder recorder) {
     this.context = context;
-    initPostProcessors();
+    this.executor = options.getExecutor();
+    this.startupTimeout = options.getStartupTimeout();
+    this.recorder = recorder;
+    initPostProcessors(postProcessorClasses, options);
+    this.propertyRefresher =
+        options.getPropertiesDirectory() != null
+            ? postProcessors.stream()
+                .filter(ValueAnnotationBeanPostProcessor.class::isInstance)
+                .map(ValueAnnotationBeanPostProcessor.class::cast)
+                .findFirst()
+                .map(PropertyRefresher::new)
+                .orElse(null)
+            : null;
+  }
+
+  /**
+   * Returns beans with request and thread scope created by this factory
+   *
+   * @return {@link ScopedBeans}
+   */
+  ScopedBeans getScopedBeans() {
+    return scopedBeans;
+  }
+
+  /**
+   * Returns the refresher of {@link org.blyznytsia.annotation.Value} fields of created singletons
+   *
+   * @return {@link PropertyRefresher} or empty if {@link ContextOptions#getPropertiesDirectory()}
+   *     is not set
+   */
+  public Optional<PropertyRefresher> getPropertyRefresher() {
+    return Optional.ofNullable(propertyRefresher);
   }
 
   /**
@@ -43,89 +186,470 @@ public class ObjectFactory {
    *
    * <pre>
    * <b>Steps:</b>
-   * 1. Create copy of bean definitions list
-   * 2. Process bean definitions with no dependencies
-   * 3. Process other bean definitions
+   * 1. Build dependency graph of bean definitions
+   * 2. Create beans with no dependencies
+   * 3. Create every other bean as soon as its last dependency is created
    * </pre>
    *
+   * <p>If an {@link Executor} is provided, bean definitions are sorted into dependency levels
+   * instead and beans of each level are created concurrently.
+   *
+   * <p>If some {@code @Bean} methods return a {@link CompletableFuture}, every bean is chained onto
+   * the creation of its dependencies instead, so independent asynchronous beans overlap and the
+   * context is ready when the last of them is created.
+   *
+   * <p>If creation fails, singletons created so far are destroyed before the failure is rethrown.
+   * Pending creations are cancelled, and asynchronous beans whose futures complete afterwards are
+   * dropped, or destroyed if they were already configured, instead of being registered.
+   *
    * @param definitions bean definitions from scanners
+   * @throws BeanInstantiationException if some dependencies can never be created or {@link
+   *     ContextOptions#getStartupTimeout()} elapses
    */
   public void initiateContext(Set<BeanDefinition> definitions) {
     log.info("Initializing context for {} beanDefinitions", definitions.size());
-    definitions = new HashSet<>(definitions);
-    processDefinitionsWithNoDependencies(definitions);
-    processDefinitionsWithDependencies(definitions);
+    this.definitions = definitions;
+    indexDefinitions(definitions);
+    try {
+      if (definitions.stream().anyMatch(BeanDefinition::isAsync)) {
+        pipelineDefinitions(definitions);
+      } else if (executor != null) {
+        processDefinitionsInParallel(definitions);
+      } else {
+        new BeanDependencyGraph(definitions).forEachInDependencyOrder(this::createBean);
+      }
+    } catch (Throwable e) {
+      log.error("Failed to initialize context, destroying created beans");
+      closed = true;
+      destroyBeans();
+      throw e;
+    }
     log.info("Application context has been successfully initialized");
   }
 
   /**
-   * Process bean definitions with no dependencies
+   * Assigns every definition an index in {@link #beans} and turns the names of its constructor or
+   * {@code @Bean} method arguments and of its {@code @Autowired} fields into indices, so
+   * dependencies are loaded from the array instead of being looked up by name. Dependencies that
+   * are not among the definitions, e.g. beans registered by other means, keep a negative index and
+   * are looked up in the container.
+   *
+   * @param definitions bean definitions to create
+   */
+  private void indexDefinitions(Set<BeanDefinition> definitions) {
+    Map<String, Integer> indices = new HashMap<>();
+    for (var definition : definitions) {
+      indices.put(definition.getName(), indices.size());
+    }
+
+    Map<BeanDefinition, BeanSlot> resolved = new IdentityHashMap<>();
+    for (var definition : definitions) {
+      var argumentNames = definition.getArgumentNames();
+      var arguments = new int[argumentNames.size()];
+      for (int i = 0; i < arguments.length; i++) {
+        arguments[i] = indices.getOrDefault(argumentNames.get(i), -1);
+      }
+      var autowired = definition.getAutowiredDependencies();
+      var fields = autowired != null ? new int[autowired.size()] : new int[0];
+      for (int i = 0; i < fields.length; i++) {
+        fields[i] = indices.getOrDefault(autowired.get(i).getBeanName(), -1);
+      }
+      resolved.put(
+          definition,
+          new BeanSlot(indices.get(definition.getName()), arguments, argumentNames, fields));
+    }
+    this.beans = new Object[indices.size()];
+    this.slots = resolved;
+  }
+
+  /**
+   * Process bean definitions level by level, creating beans of the same level concurrently
    *
    * @param definitions {@link Set<BeanDefinition>}
    */
-  private void processDefinitionsWithNoDependencies(Set<BeanDefinition> definitions) {
-    log.debug("Processing beanDefinitions with no dependencies");
-    Set<BeanDefinition> toBeCreated =
-        definitions.stream().filter(d -> d.getAllDependencies().isEmpty()).collect(toSet());
-    log.debug("Found {} beanDefinitions with no dependencies", toBeCreated.size());
+  private void processDefinitionsInParallel(Set<BeanDefinition> definitions) {
+    var levels = new BeanDependencyGraph(definitions).levels();
+    log.debug("Sorted beanDefinitions into {} levels", levels.size());
 
-    toBeCreated.forEach(this::createBean);
-    definitions.removeAll(toBeCreated);
+    for (var level : levels) {
+      log.debug("Creating {} beans in parallel", level.size());
+      var futures =
+          level.stream()
+              .map(definition -> CompletableFuture.runAsync(() -> createBean(definition), executor))
+              .toList();
+      awaitAll(futures);
+    }
   }
 
   /**
-   * Process bean definitions with dependencies
+   * Chains the creation of every bean onto the creation of its dependencies. Beans are created on
+   * the {@link Executor} if it is provided, otherwise on the thread that completes the last of
+   * their dependencies, e.g. the thread that completes the future of an asynchronous bean.
    *
    * @param definitions {@link Set<BeanDefinition>}
    */
-  private void processDefinitionsWithDependencies(Set<BeanDefinition> definitions) {
-    log.debug("Processing {} beanDefinitions with dependencies", definitions.size());
+  private void pipelineDefinitions(Set<BeanDefinition> definitions) {
+    Map<String, CompletableFuture<Void>> creations = new LinkedHashMap<>();
+    new BeanDependencyGraph(definitions)
+        .forEachInDependencyOrder(
+            definition -> {
+              var dependencies =
+                  definition.getAllDependencies().stream()
+                      .map(creations::get)
+                      .toArray(CompletableFuture<?>[]::new);
+              var ready = CompletableFuture.allOf(dependencies);
+              CompletableFuture<Void> creation;
+              if (definition.isAsync()) {
+                creation =
+                    executor != null
+                        ? ready.thenComposeAsync(ignored -> createAsyncBean(definition), executor)
+                        : ready.thenCompose(ignored -> createAsyncBean(definition));
+              } else {
+                creation =
+                    executor != null
+                        ? ready.thenRunAsync(() -> createBean(definition), executor)
+                        : ready.thenRun(() -> createBean(definition));
+              }
+              creations.put(definition.getName(), creation);
+            });
+    log.debug("Chained creation of {} beans", creations.size());
+
+    awaitCreations(creations);
+  }
+
+  /**
+   * Waits until all beans are created or the startup timeout elapses
+   *
+   * @param creations bean creation tasks by bean name in dependency order
+   * @throws BeanInstantiationException if the startup timeout elapses
+   * @throws RuntimeException the first failure with distinct failures of other beans suppressed
+   */
+  private void awaitCreations(Map<String, CompletableFuture<Void>> creations) {
+    var all = CompletableFuture.allOf(creations.values().toArray(CompletableFuture<?>[]::new));
+    try {
+      if (startupTimeout != null) {
+        all.get(startupTimeout.toNanos(), TimeUnit.NANOSECONDS);
+      } else {
+        all.get();
+      }
+      return;
+    } catch (TimeoutException e) {
+      var pending =
+          creations.entrySet().stream()
+              .filter(entry -> !entry.getValue().isDone())
+              .map(Map.Entry::getKey)
+              .toList();
+      cancelPending(creations);
+      throw new BeanInstantiationException(
+          "Beans %s were not created within startup timeout of %s"
+              .formatted(pending, startupTimeout));
+    } catch (InterruptedException e) {
+      cancelPending(creations);
+      Thread.currentThread().interrupt();
+      throw new BeanInstantiationException("Interrupted while waiting for beans to be created", e);
+    } catch (ExecutionException e) {
+      // failures are collected from every creation below
+    }
 
-    while (!definitions.isEmpty()) {
-      var toBeCreated =
-          definitions.stream().filter(this::areAllDependenciesCreated).collect(toSet());
-      log.debug("Found {} beanDefinitions with dependencies", toBeCreated.size());
+    Set<Throwable> failures = Collections.newSetFromMap(new IdentityHashMap<>());
+    RuntimeException failure = null;
+    for (var creation : creations.values()) {
+      if (!creation.isCompletedExceptionally()) {
+        continue;
+      }
+      var cause = causeOf(creation);
+      if (failures.add(cause)) {
+        var exception =
+            cause instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new BeanInstantiationException("Failed to create an instance of bean", cause);
+        if (failure == null) {
+          failure = exception;
+        } else {
+          failure.addSuppressed(exception);
+        }
+      }
+    }
+    throw failure;
+  }
+
+  /**
+   * Cancels creations that are not done, so beans chained onto them are not created. Futures
+   * returned by {@code @Bean} methods are not cancelled, they are not owned by the context.
+   *
+   * @param creations bean creation tasks by bean name
+   */
+  private static void cancelPending(Map<String, CompletableFuture<Void>> creations) {
+    creations.values().forEach(creation -> creation.cancel(false));
+  }
 
-      toBeCreated.forEach(this::createBean);
-      definitions.removeAll(toBeCreated);
+  private static Throwable causeOf(CompletableFuture<Void> creation) {
+    try {
+      creation.join();
+      throw new IllegalStateException("Creation has not failed");
+    } catch (CompletionException e) {
+      return e.getCause();
+    } catch (CancellationException e) {
+      return e;
     }
   }
 
-  private boolean areAllDependenciesCreated(BeanDefinition definition) {
-    Set<String> allDependencies = definition.getAllDependencies();
-    Set<String> existingBeans = context.getContainer().keySet();
-    return existingBeans.containsAll(allDependencies);
+  /**
+   * Waits for all beans of a level to be created
+   *
+   * @param futures bean creation tasks
+   * @throws RuntimeException the first failure of a task with failures of other tasks suppressed
+   */
+  private void awaitAll(List<CompletableFuture<Void>> futures) {
+    RuntimeException failure = null;
+    for (var future : futures) {
+      try {
+        future.join();
+      } catch (CompletionException e) {
+        var cause =
+            e.getCause() instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new BeanInstantiationException(
+                    "Failed to create an instance of bean", e.getCause());
+        if (failure == null) {
+          failure = cause;
+        } else {
+          failure.addSuppressed(cause);
+        }
+      }
+    }
+
+    if (failure != null) {
+      throw failure;
+    }
   }
 
   /**
-   * Creates and configures bean
+   * Creates and configures bean. For {@link Scope#PROTOTYPE} beans registers a factory that creates
+   * a new instance on every lookup instead, for lazy beans registers a holder that creates the bean
+   * on first access, for {@link Scope#REQUEST} and {@link Scope#THREAD} beans registers a proxy to
+   * the instance of the current scope.
    *
    * @param definition {@link BeanDefinition}
    */
   @SneakyThrows
   private void createBean(BeanDefinition definition) {
+    if (closed) {
+      log.debug("Skipping bean {}, context failed to initialize", definition.getName());
+      return;
+    }
+    if (definition.getScope().isProxied()) {
+      log.debug("Registering {} scoped bean {}", definition.getScope(), definition.getName());
+      register(definition, scopedBeans.createProxy(definition, prepareFactory(definition)));
+      return;
+    }
+    if (definition.getScope() == Scope.PROTOTYPE) {
+      log.debug("Registering prototype bean {}", definition.getName());
+      register(definition, prepareFactory(definition));
+      return;
+    }
+    if (definition.isLazy()) {
+      log.debug("Registering lazy bean {}", definition.getName());
+      Consumer<Object> onCreate = bean -> onSingletonCreated(definition, bean);
+      register(definition, new LazyBeanHolder(prepareFactory(definition), onCreate));
+      return;
+    }
+
     log.debug("Creating bean {}", definition.getName());
 
+    var event = new BeanCreationEvent();
+    event.begin();
+    var start = System.nanoTime();
     Object bean;
     if (definition.isConfigClassDependency()) {
       bean = instantiateConfigBean(definition);
     } else {
       bean = instantiateComponentBean(definition);
     }
+    recorder.recordStep(definition.getName(), "instantiate", System.nanoTime() - start);
 
     log.debug("Instantiated bean: {}", definition.getName());
-    Object configuredBean = configure(bean);
+    registerSingleton(definition, bean, event);
+  }
 
-    context.getContainer().put(definition.getName(), configuredBean);
+  /**
+   * Calls a {@code @Bean} method that returns a {@link CompletableFuture} and registers the bean
+   * once the future completes
+   *
+   * @param definition {@link BeanDefinition} of an asynchronous singleton
+   * @return future completed once the bean is configured and registered
+   */
+  private CompletableFuture<Void> createAsyncBean(BeanDefinition definition) {
+    log.debug("Creating asynchronous bean {}", definition.getName());
+
+    var event = new BeanCreationEvent();
+    event.begin();
+    var start = System.nanoTime();
+    var future = (CompletableFuture<?>) instantiateConfigBean(definition);
+    if (future == null) {
+      throw new BeanInstantiationException(
+          "Bean %s is declared by a method that returned null instead of a CompletableFuture"
+              .formatted(definition.getName()));
+    }
+
+    return future.handle(
+        (bean, failure) -> {
+          if (failure != null) {
+            throw new BeanInstantiationException(
+                "Failed to create an instance of bean %s".formatted(definition),
+                failure instanceof CompletionException ? failure.getCause() : failure);
+          }
+          if (bean == null) {
+            throw new BeanInstantiationException(
+                "Bean %s is declared by a method whose CompletableFuture completed with null"
+                    .formatted(definition.getName()));
+          }
+          if (closed) {
+            log.debug(
+                "Dropping bean {} created after context failed to initialize",
+                definition.getName());
+            return null;
+          }
+          recorder.recordStep(definition.getName(), "instantiate", System.nanoTime() - start);
+          log.debug("Instantiated asynchronous bean: {}", definition.getName());
+          registerSingleton(definition, bean, event);
+          return null;
+        });
+  }
+
+  /**
+   * Configures an instantiated singleton and registers it in the container
+   *
+   * @param definition {@link BeanDefinition} of the bean
+   * @param bean instantiated bean
+   * @param event {@link BeanCreationEvent} that began before the bean was instantiated
+   */
+  private void registerSingleton(BeanDefinition definition, Object bean, BeanCreationEvent event) {
+    Object configuredBean = configure(definition, bean);
+    var start = System.nanoTime();
+    PrototypeBeanFactory.initialize(definition, configuredBean);
+    recorder.recordStep(definition.getName(), "init", System.nanoTime() - start);
+    event.end();
+    if (event.shouldCommit()) {
+      event.beanName = definition.getName();
+      event.beanType = definition.getType();
+      event.commit();
+    }
+
+    onSingletonCreated(definition, configuredBean);
+    if (closed) {
+      // created beans may have been destroyed already, so this one is destroyed on its own
+      destroy(definition);
+      return;
+    }
+    register(definition, configuredBean);
+  }
+
+  /**
+   * Stores a bean, or a holder, factory or proxy of it, in {@link #beans} for the beans that depend
+   * on it and in the container for lookups
+   *
+   * @param definition {@link BeanDefinition} of the bean
+   * @param value value to register
+   */
+  private void register(BeanDefinition definition, Object value) {
+    var slot = slots.get(definition);
+    if (slot != null) {
+      beans[slot.index] = value;
+    }
+    context.getContainer().put(definition.getName(), value);
+  }
+
+  /**
+   * Registers a created singleton to refresh its properties and to destroy it on close
+   *
+   * @param definition {@link BeanDefinition} of an eager or lazy singleton
+   * @param bean configured and initialized bean
+   */
+  private void onSingletonCreated(BeanDefinition definition, Object bean) {
+    if (propertyRefresher != null) {
+      propertyRefresher.register(bean);
+    }
+    if (definition.getLifecycle().hasDestroyMethods()) {
+      destroyableBeans.put(definition.getName(), bean);
+    }
+  }
+
+  /**
+   * Calls {@link org.blyznytsia.annotation.PreDestroy} methods of created singletons in reverse
+   * dependency order, so a bean is destroyed before the beans it depends on. Independent beans are
+   * destroyed concurrently if an {@link Executor} is provided. Failures are logged and don't stop
+   * other beans from being destroyed. Beans are destroyed at most once.
+   */
+  public void destroyBeans() {
+    if (destroyableBeans.isEmpty()) {
+      return;
+    }
+
+    log.info("Destroying {} beans", destroyableBeans.size());
+    var levels = new BeanDependencyGraph(definitions).levels();
+    for (int i = levels.size() - 1; i >= 0; i--) {
+      var level =
+          levels.get(i).stream()
+              .filter(definition -> destroyableBeans.containsKey(definition.getName()))
+              .toList();
+      if (executor != null && level.size() > 1) {
+        level.stream().map(this::destroyAsync).toList().forEach(CompletableFuture::join);
+      } else {
+        level.forEach(this::destroy);
+      }
+    }
+  }
+
+  private CompletableFuture<Void> destroyAsync(BeanDefinition definition) {
+    try {
+      return CompletableFuture.runAsync(() -> destroy(definition), executor);
+    } catch (RejectedExecutionException e) {
+      destroy(definition);
+      return CompletableFuture.completedFuture(null);
+    }
+  }
+
+  private void destroy(BeanDefinition definition) {
+    var bean = destroyableBeans.remove(definition.getName());
+    if (bean == null) {
+      return;
+    }
+    try {
+      definition.getLifecycle().destroy(bean);
+      log.debug("Destroyed bean {}", definition.getName());
+    } catch (RuntimeException | Error e) {
+      log.error("Failed to destroy bean {}", definition.getName(), e);
+    }
+  }
+
+  /**
+   * Prepares a {@link PrototypeBeanFactory} with resolved dependencies
+   *
+   * @param definition {@link BeanDefinition} of a prototype or lazy bean
+   * @return {@link PrototypeBeanFactory}
+   */
+  private PrototypeBeanFactory prepareFactory(BeanDefinition definition) {
+    var dependencies = loadArguments(definition);
+    var target =
+        definition.isConfigClassDependency()
+            ? getConfigInstance(definition.getConfigClass())
+            : null;
+    return new PrototypeBeanFactory(
+        definition,
+        target,
+        dependencies,
+        loadAutowired(definition),
+        postProcessors.toArray(BeanPostProcessor[]::new),
+        context);
   }
 
   private Object instantiateConfigBean(BeanDefinition definition) {
     try {
-      var beanMethod = definition.getBeanMethod();
       var methodArgs = findDependencies(definition);
-      Object configInstance = definition.getConfigClass().getDeclaredConstructor().newInstance();
+      Object configInstance = getConfigInstance(definition.getConfigClass());
 
-      return beanMethod.invoke(configInstance, methodArgs);
+      return definition.getInstantiator().instantiate(configInstance, methodArgs);
     } catch (Exception e) {
       log.error("Failed to create an instance of bean {}", definition);
       throw new BeanInstantiationException(
@@ -133,18 +657,75 @@ public class ObjectFactory {
     }
   }
 
+  /**
+   * Returns an instance of a configuration class, creating it on first use. The instance is not
+   * created inside {@link ConcurrentHashMap#computeIfAbsent}, which holds a monitor and would pin a
+   * virtual thread for the whole constructor call.
+   *
+   * @param configClass class annotated with @Configuration
+   * @return instance shared by all @Bean methods of the class
+   */
+  private Object getConfigInstance(Class<?> configClass) {
+    return configInstances.computeIfAbsent(configClass, ConfigInstance::new).get();
+  }
+
   private Object[] findDependencies(BeanDefinition definition) {
-    return definition.getRequiredDependencies().stream()
-        .map(className -> context.getContainer().get(className))
-        .toArray();
+    var arguments = loadArguments(definition);
+    for (int i = 0; i < arguments.length; i++) {
+      arguments[i] = DeferredBean.resolve(arguments[i]);
+    }
+    return arguments;
+  }
+
+  /**
+   * Loads registered values of the constructor or {@code @Bean} method arguments of a bean by their
+   * indices. Dependencies are created before their dependents, so the loads see them.
+   *
+   * @param definition {@link BeanDefinition}
+   * @return registered beans, holders, factories or proxies in parameter order
+   */
+  private Object[] loadArguments(BeanDefinition definition) {
+    var slot = slots.get(definition);
+    if (slot == null) {
+      return definition.getArgumentNames().stream().map(context.getContainer()::get).toArray();
+    }
+
+    var arguments = new Object[slot.arguments.length];
+    for (int i = 0; i < arguments.length; i++) {
+      var index = slot.arguments[i];
+      arguments[i] =
+          index >= 0 ? beans[index] : context.getContainer().get(slot.argumentNames.get(i));
+    }
+    return arguments;
+  }
+
+  /**
+   * Loads registered values of the {@code @Autowired} fields of a bean by their indices
+   *
+   * @param definition {@link BeanDefinition}
+   * @return registered beans, holders, factories or proxies in the order of {@link
+   *     BeanDefinition#getAutowiredDependencies()}, null slots for beans that are not indexed, null
+   *     if the bean has no indexed fields
+   */
+  private Object[] loadAutowired(BeanDefinition definition) {
+    var slot = slots.get(definition);
+    if (slot == null || slot.fields.length == 0) {
+      return null;
+    }
+
+    var autowired = new Object[slot.fields.length];
+    for (int i = 0; i < autowired.length; i++) {
+      var index = slot.fields[i];
+      autowired[i] = index >= 0 ? beans[index] : null;
+    }
+    return autowired;
   }
 
   private Object instantiateComponentBean(BeanDefinition definition) {
     try {
-      var constructor = definition.getConstructor();
       var constructorArgs = findDependencies(definition);
 
-      return constructor.newInstance(constructorArgs);
+      return definition.getInstantiator().instantiate(null, constructorArgs);
     } catch (Exception e) {
       log.error("Failed to create an instance of bean {}", definition);
       throw new BeanInstantiationException(
@@ -152,16 +733,21 @@ public class ObjectFactory {
     }
   }
 
-  /** Initializes post processors */
-  private void initPostProcessors() {
+  /**
+   * Initializes post processors with a constructor that takes {@link ContextOptions} if they
+   * declare one, or with the default constructor otherwise
+   *
+   * @param postProcessorClasses classes of post processors
+   * @param options settings of the context
+   */
+  private void initPostProcessors(
+      Collection<Class<? extends BeanPostProcessor>> postProcessorClasses, ContextOptions options) {
     log.debug("Initializing of post processors");
-    var postProcessorClasses =
-        new Reflections("org.blyznytsia.bpp").getSubTypesOf(BeanPostProcessor.class);
     log.debug("Found {} post processors", postProcessorClasses);
 
     for (var postProcessorClass : postProcessorClasses) {
       try {
-        postProcessors.add(postProcessorClass.getDeclaredConstructor().newInstance());
+        postProcessors.add(newPostProcessor(postProcessorClass, options));
       } catch (Exception e) {
         log.error(
             "Failed to create bean post-processor of type {}", postProcessorClass.getSimpleName());
@@ -173,17 +759,99 @@ public class ObjectFactory {
     }
   }
 
+  private static BeanPostProcessor newPostProcessor(
+      Class<? extends BeanPostProcessor> postProcessorClass, ContextOptions options)
+      throws ReflectiveOperationException {
+    try {
+      return postProcessorClass.getDeclaredConstructor(ContextOptions.class).newInstance(options);
+    } catch (NoSuchMethodException e) {
+      return postProcessorClass.getDeclaredConstructor().newInstance();
+    }
+  }
+
   /**
    * Configures bean with post processors
    *
+   * @param definition {@link BeanDefinition} of the bean, its name is used to record timings
    * @param bean bean instance
    * @return configured bean
    */
-  private Object configure(Object bean) {
+  private Object configure(BeanDefinition definition, Object bean) {
+    var beanName = definition.getName();
+    var autowiredBeans = loadAutowired(definition);
+    if (autowiredBeans != null) {
+      for (int i = 0; i < autowiredBeans.length; i++) {
+        autowiredBeans[i] = DeferredBean.resolve(autowiredBeans[i]);
+      }
+    }
     for (var postProcessor : postProcessors) {
-      bean = postProcessor.configure(bean, context);
+      var event = new BeanConfigurationEvent();
+      event.begin();
+      var start = System.nanoTime();
+      var beanType = bean.getClass();
+      bean = postProcessor.configure(bean, definition, autowiredBeans, context);
+      recorder.recordStep(
+          beanName, postProcessor.getClass().getSimpleName(), System.nanoTime() - start);
+      event.end();
+      if (event.shouldCommit()) {
+        event.beanName = beanName;
+        event.beanType = beanType;
+        event.postProcessor = postProcessor.getClass();
+        event.commit();
+      }
     }
 
     return bean;
   }
+
+  /**
+   * Index of a bean in {@link #beans} and indices of its arguments and autowired fields, negative
+   * if not indexed
+   */
+  private static final class BeanSlot {
+
+    private final int index;
+    private final int[] arguments;
+    private final List<String> argumentNames;
+    private final int[] fields;
+
+    private BeanSlot(int index, int[] arguments, List<String> argumentNames, int[] fields) {
+      this.index = index;
+      this.arguments = arguments;
+      this.argumentNames = argumentNames;
+      this.fields = fields;
+    }
+  }
+
+  /** Instance of a configuration class created once under a lock of its own */
+  private static final class ConfigInstance {
+
+    private final Class<?> type;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Object instance;
+
+    private ConfigInstance(Class<?> type) {
+      this.type = type;
+    }
+
+    private Object get() {
+      var current = instance;
+      if (current != null) {
+        return current;
+      }
+
+      lock.lock();
+      try {
+        if (instance == null) {
+          instance = type.getDeclaredConstructor().newInstance();
+        }
+        return instance;
+      } catch (ReflectiveOperationException e) {
+        throw new BeanInstantiationException(
+            "Failed to create an instance of configuration %s".formatted(type), e);
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
 }
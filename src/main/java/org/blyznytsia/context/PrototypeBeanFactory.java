@@ -0,0 +1,166 @@
+package org.blyznytsia.context;
+
+import org.blyznytsia.bpp.BeanPostProcessor;
+import org.blyznytsia.exception.BeanInstantiationException;
+import org.blyznytsia.jfr.BeanCreationEvent;
+import org.blyznytsia.model.BeanDefinition;
+import org.blyznytsia.model.BeanInstantiator;
+
+/**
+ * Creates new instances of a bean with {@link org.blyznytsia.model.Scope#PROTOTYPE} scope. It is
+ * registered in the container instead of a bean instance. Everything that does not change between
+ * instances is resolved when the factory is prepared: the instantiator, the configuration instance,
+ * arguments that are already created, the post processors chain and lifecycle callbacks. The bean
+ * class is initialized then as well, so lookups never run a static initializer, which pins a
+ * virtual thread to its carrier. Also creates beans of {@link LazyBeanHolder} and scoped beans.
+ *
+ * @see ObjectFactory
+ * @see BeanRegistry
+ */
+final class PrototypeBeanFactory extends DeferredBean {
+
+  private final BeanDefinition definition;
+  private final BeanInstantiator instantiator;
+  /** Configuration instance for @Bean methods, null for components */
+  private final Object target;
+  /** Arguments with created dependencies resolved ahead, null slots for deferred dependencies */
+  private final Object[] args;
+  /** Deferred dependencies by argument index, null if there are none */
+  private final DeferredBean[] deferredArgs;
+  /** Raw values of indexed @Autowired fields, resolved for every instance, null if none */
+  private final Object[] autowired;
+
+  private final BeanPostProcessor[] postProcessors;
+  private final ApplicationContext context;
+
+  /**
+   * Prepares a factory of a prototype bean
+   *
+   * @param definition {@link BeanDefinition} of the bean
+   * @param target configuration instance for @Bean methods, null for components
+   * @param dependencies raw container values of required dependencies in the order of arguments
+   * @param autowired raw container values of @Autowired fields passed to post processors, null if
+   *     none are indexed
+   * @param postProcessors post processors chain
+   * @param context application context passed to post processors
+   */
+  PrototypeBeanFactory(
+      BeanDefinition definition,
+      Object target,
+      Object[] dependencies,
+      Object[] autowired,
+      BeanPostProcessor[] postProcessors,
+      ApplicationContext context) {
+    this.definition = definition;
+    this.instantiator = definition.getInstantiator();
+    this.target = target;
+    this.autowired = autowired;
+    this.postProcessors = postProcessors;
+    this.context = context;
+
+    this.args = new Object[dependencies.length];
+    DeferredBean[] deferred = null;
+    for (int i = 0; i < dependencies.length; i++) {
+      if (dependencies[i] instanceof DeferredBean deferredBean) {
+        if (deferred == null) {
+          deferred = new DeferredBean[dependencies.length];
+        }
+        deferred[i] = deferredBean;
+      } else {
+        args[i] = dependencies[i];
+      }
+    }
+    this.deferredArgs = deferred;
+    initializeClass(definition.getType());
+    // resolves lifecycle callbacks ahead of the first lookup
+    definition.getLifecycle();
+  }
+
+  @Override
+  Class<?> getType() {
+    return definition.getType();
+  }
+
+  /**
+   * Creates and configures a new instance of the bean
+   *
+   * @return configured bean
+   * @throws BeanInstantiationException if the bean can't be created
+   */
+  @Override
+  Object getObject() {
+    var event = new BeanCreationEvent();
+    event.begin();
+    Object bean;
+    try {
+      bean = instantiator.instantiate(target, resolveArgs());
+    } catch (Exception e) {
+      throw new BeanInstantiationException(
+          "Failed to create an instance of bean %s".formatted(definition), e);
+    }
+
+    var autowiredBeans = resolveAutowired();
+    for (var postProcessor : postProcessors) {
+      bean = postProcessor.configure(bean, definition, autowiredBeans, context);
+    }
+    initialize(definition, bean);
+
+    event.end();
+    if (event.shouldCommit()) {
+      event.beanName = definition.getName();
+      event.beanType = definition.getType();
+      event.commit();
+    }
+    return bean;
+  }
+
+  /**
+   * Calls init callbacks of a configured bean
+   *
+   * @param definition {@link BeanDefinition} of the bean
+   * @param bean configured bean
+   * @throws BeanInstantiationException if a callback fails
+   */
+  static void initialize(BeanDefinition definition, Object bean) {
+    try {
+      definition.getLifecycle().initialize(bean);
+    } catch (RuntimeException e) {
+      throw new BeanInstantiationException(
+          "Failed to initialize bean %s".formatted(definition.getName()), e);
+    }
+  }
+
+  private static void initializeClass(Class<?> type) {
+    try {
+      Class.forName(type.getName(), true, type.getClassLoader());
+    } catch (ClassNotFoundException e) {
+      throw new BeanInstantiationException("Failed to initialize class %s".formatted(type), e);
+    }
+  }
+
+  private Object[] resolveArgs() {
+    if (deferredArgs == null) {
+      return args;
+    }
+
+    var resolved = args.clone();
+    for (int i = 0; i < resolved.length; i++) {
+      if (deferredArgs[i] != null) {
+        resolved[i] = deferredArgs[i].getObject();
+      }
+    }
+    return resolved;
+  }
+
+  private Object[] resolveAutowired() {
+    if (autowired == null) {
+      return null;
+    }
+
+    var resolved = new Object[autowired.length];
+    for (int i = 0; i < resolved.length; i++) {
+      resolved[i] = resolve(autowired[i]);
+    }
+    return resolved;
+  }
+}
@@ -0,0 +1,46 @@
+package org.blyznytsia.context;
+
+/**
+ * Request opened on the current thread with {@link AnnotationApplicationContext#beginRequest()}.
+ * Beans with {@link org.blyznytsia.model.Scope#REQUEST} scope get one instance per request until it
+ * is closed. Closing a request destroys its beans. Requests may be nested, closing a request
+ * restores the enclosing one.
+ *
+ * <p>Example:
+ *
+ * <pre class=code>
+ *     try (var request = context.beginRequest()) {
+ *         handler.handle(input);
+ *     }
+ * </pre>
+ */
+public final class RequestScope implements AutoCloseable {
+
+  private final ScopeInstances scopeInstances;
+  private final ThreadLocal<Object[]> instances;
+  /** Instances of the enclosing request, null if there is none */
+  private final Object[] enclosing;
+
+  RequestScope(ScopeInstances scopeInstances) {
+    this.scopeInstances = scopeInstances;
+    this.instances = scopeInstances.getCurrent();
+    this.enclosing = instances.get();
+    instances.set(new Object[scopeInstances.slotCount()]);
+  }
+
+  /**
+   * Ends the request and calls {@link org.blyznytsia.annotation.PreDestroy} methods of its beans
+   */
+  @Override
+  public void close() {
+    var ended = instances.get();
+    if (enclosing != null) {
+      instances.set(enclosing);
+    } else {
+      instances.remove();
+    }
+    if (ended != enclosing) {
+      scopeInstances.destroy(ended);
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package org.blyznytsia.context;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.blyznytsia.model.Scope;
+
+/**
+ * Instances of the beans of a {@link Scope#REQUEST} or {@link Scope#THREAD} scope and the slots
+ * that own indices in them. Instances of the current request or thread are kept in a {@link
+ * ThreadLocal} array.
+ *
+ * <p>Instances are destroyed with their {@link org.blyznytsia.annotation.PreDestroy} methods in
+ * reverse slot order: request instances when the request ends, thread instances when the context is
+ * closed. Threads are referenced weakly, and arrays of threads that terminated are dropped and
+ * destroyed by a sweep when another thread creates its first instance. A sweep runs only once the
+ * number of tracked threads has doubled since the previous one, so with many short-lived or virtual
+ * threads a store costs amortised constant time.
+ */
+@Slf4j
+final class ScopeInstances {
+
+  private static final int MIN_SWEEP_THRESHOLD = 2;
+
+  private final Scope scope;
+  private final List<ScopedBeanSlot> slots = new CopyOnWriteArrayList<>();
+  /** Instances of the current thread or request, null outside of a request */
+  private final ThreadLocal<Object[]> current;
+  /** Instance arrays by thread id, tracked for {@link Scope#THREAD} only */
+  private final Map<Long, ThreadInstances> threadInstances = new ConcurrentHashMap<>();
+  /** Number of tracked threads that triggers the next sweep of terminated threads */
+  private final AtomicInteger sweepThreshold = new AtomicInteger(MIN_SWEEP_THRESHOLD);
+
+  ScopeInstances(Scope scope) {
+    this.scope = scope;
+    this.current =
+        scope == Scope.THREAD
+            ? ThreadLocal.withInitial(() -> new Object[slots.size()])
+            : new ThreadLocal<>();
+  }
+
+  Scope getScope() {
+    return scope;
+  }
+
+  ThreadLocal<Object[]> getCurrent() {
+    return current;
+  }
+
+  /**
+   * Assigns the next index to a slot
+   *
+   * @param slot slot of a scoped bean
+   * @return index of the slot in instance arrays
+   */
+  synchronized int register(ScopedBeanSlot slot) {
+    slots.add(slot);
+    return slots.size() - 1;
+  }
+
+  /**
+   * Returns the number of slots, instance arrays created earlier grow up to it on demand
+   *
+   * @return number of registered slots
+   */
+  int slotCount() {
+    return slots.size();
+  }
+
+  /**
+   * Tracks the instance array of the current thread after an instance was stored in it
+   *
+   * @param instances instance array of the current thread or request
+   */
+  void stored(Object[] instances) {
+    if (scope != Scope.THREAD) {
+      return;
+    }
+    var thread = Thread.currentThread();
+    var tracked = threadInstances.get(thread.getId());
+    if (tracked != null && tracked.instances == instances) {
+      return;
+    }
+    threadInstances.put(thread.getId(), new ThreadInstances(thread, instances));
+    if (tracked == null && threadInstances.size() >= sweepThreshold.get()) {
+      sweep();
+    }
+  }
+
+  /** Drops and destroys the arrays of terminated threads */
+  private void sweep() {
+    threadInstances.forEach(
+        (id, tracked) -> {
+          if (!tracked.isAlive() && threadInstances.remove(id, tracked)) {
+            destroy(tracked.instances);
+          }
+        });
+    sweepThreshold.set(Math.max(MIN_SWEEP_THRESHOLD, 2 * threadInstances.size()));
+  }
+
+  /**
+   * Destroys the instances of an array and clears it
+   *
+   * @param instances instance array of a request or a thread, may be null
+   */
+  void destroy(Object[] instances) {
+    if (instances == null) {
+      return;
+    }
+    for (int i = instances.length - 1; i >= 0; i--) {
+      var bean = instances[i];
+      if (bean != null) {
+        instances[i] = null;
+        slots.get(i).destroy(bean);
+      }
+    }
+  }
+
+  /** Destroys the instances of all threads and clears the array of the current thread */
+  void close() {
+    if (scope != Scope.THREAD) {
+      return;
+    }
+    log.debug("Destroying {} scoped beans of {} threads", scope, threadInstances.size());
+    threadInstances.forEach(
+        (id, tracked) -> {
+          if (threadInstances.remove(id, tracked)) {
+            destroy(tracked.instances);
+          }
+        });
+    current.remove();
+  }
+
+  /** Instance array of a thread that doesn't keep the thread reachable */
+  private static final class ThreadInstances {
+
+    private final WeakReference<Thread> thread;
+    private final Object[] instances;
+
+    private ThreadInstances(Thread thread, Object[] instances) {
+      this.thread = new WeakReference<>(thread);
+      this.instances = instances;
+    }
+
+    private boolean isAlive() {
+      var referent = thread.get();
+      return referent != null && referent.isAlive();
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package org.blyznytsia.context;
+
+import java.util.Arrays;
+import lombok.extern.slf4j.Slf4j;
+import org.blyznytsia.exception.ScopeNotActiveException;
+import org.blyznytsia.model.BeanDefinition;
+import org.blyznytsia.model.BeanLifecycle;
+import org.blyznytsia.model.Scope;
+
+/**
+ * Instance of a bean with {@link Scope#REQUEST} or {@link Scope#THREAD} scope that a scoped proxy
+ * delegates to. Instances of the current request or thread are kept in a {@link ThreadLocal} array
+ * of {@link ScopeInstances} and every scoped bean of the context owns a fixed index in it, so
+ * resolving an instance is a {@link ThreadLocal} read and an array load without allocations once
+ * the instance is created.
+ *
+ * <p>It is public for proxies generated by {@link org.blyznytsia.processor.ScopedProxyProcessor}.
+ */
+@Slf4j
+public final class ScopedBeanSlot {
+
+  private final String name;
+  private final Scope scope;
+  /** Instances of the current thread or request, null outside of a request */
+  private final ThreadLocal<Object[]> instances;
+
+  private final ScopeInstances scopeInstances;
+
+  private final int index;
+  private final PrototypeBeanFactory factory;
+  private final BeanLifecycle lifecycle;
+
+  ScopedBeanSlot(
+      BeanDefinition definition, ScopeInstances scopeInstances, PrototypeBeanFactory factory) {
+    this.name = definition.getName();
+    this.scope = scopeInstances.getScope();
+    this.instances = scopeInstances.getCurrent();
+    this.scopeInstances = scopeInstances;
+    this.index = scopeInstances.register(this);
+    this.factory = factory;
+    this.lifecycle = definition.getLifecycle();
+  }
+
+  /**
+   * Returns the instance of the current request or thread, creating it on first use
+   *
+   * @return configured bean
+   * @throws ScopeNotActiveException if a request scoped bean is used outside of a request
+   */
+  public Object get() {
+    var current = instances.get();
+    if (current != null && index < current.length) {
+      var bean = current[index];
+      if (bean != null) {
+        return bean;
+      }
+    }
+    return create();
+  }
+
+  private Object create() {
+    if (instances.get() == null) {
+      throw new ScopeNotActiveException(
+          "Bean %s with %s scope is used outside of a request".formatted(name, scope));
+    }
+
+    // creation may use other scoped beans and replace the array of the thread
+    var bean = factory.getObject();
+    var current = instances.get();
+    if (index >= current.length) {
+      current = Arrays.copyOf(current, scopeInstances.slotCount());
+      instances.set(current);
+    }
+    current[index] = bean;
+    scopeInstances.stored(current);
+    return bean;
+  }
+
+  /**
+   * Calls {@link org.blyznytsia.annotation.PreDestroy} methods of an instance that went out of
+   * scope, failures are logged
+   *
+   * @param bean instance created by this slot
+   */
+  void destroy(Object bean) {
+    if (!lifecycle.hasDestroyMethods()) {
+      return;
+    }
+    try {
+      lifecycle.destroy(bean);
+      log.debug("Destroyed {} scoped bean {}", scope, name);
+    } catch (RuntimeException | Error e) {
+      log.error("Failed to destroy {} scoped bean {}", scope, name, e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "ScopedBeanSlot[%s, %s]".formatted(name, scope);
+  }
+}
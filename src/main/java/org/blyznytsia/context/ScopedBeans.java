@@ -0,0 +1,165 @@
+package org.blyznytsia.context;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.blyznytsia.exception.BeanInstantiationException;
+import org.blyznytsia.model.BeanDefinition;
+import org.blyznytsia.model.Scope;
+
+/**
+ * Beans with {@link Scope#REQUEST} and {@link Scope#THREAD} scope of a context. Each of them is
+ * registered in the container as a proxy created once for the bean, so singletons can keep it in
+ * their fields.
+ *
+ * <p>Proxies generated at compile time by {@link org.blyznytsia.processor.ScopedProxyProcessor}
+ * call the target directly. If a proxy wasn't generated, e.g. because an interface has generic
+ * methods, a {@link Proxy} is created instead, which allocates arguments of every call, so a
+ * warning is logged for it.
+ *
+ * <p>Request scoped instances are destroyed when their {@link RequestScope} is closed, thread
+ * scoped instances when the context is closed, see {@link ScopeInstances}.
+ */
+@Slf4j
+final class ScopedBeans {
+
+  /** Suffix of the simple names of generated proxy classes */
+  static final String PROXY_SUFFIX = "_ScopedProxy";
+
+  private final ScopeInstances threadInstances = new ScopeInstances(Scope.THREAD);
+  private final ScopeInstances requestInstances = new ScopeInstances(Scope.REQUEST);
+
+  /**
+   * Assigns a slot to a scoped bean and creates its proxy
+   *
+   * @param definition {@link BeanDefinition} with {@link Scope#REQUEST} or {@link Scope#THREAD}
+   *     scope
+   * @param factory prepared factory that creates instances of the bean
+   * @return proxy that implements interfaces of the bean
+   */
+  Object createProxy(BeanDefinition definition, PrototypeBeanFactory factory) {
+    var slot =
+        new ScopedBeanSlot(
+            definition,
+            definition.getScope() == Scope.THREAD ? threadInstances : requestInstances,
+            factory);
+
+    var proxyClassName = proxyClassName(definition);
+    var classLoader = origin(definition).getClassLoader();
+    try {
+      var proxyClass = Class.forName(proxyClassName, true, classLoader);
+      return proxyClass.getConstructor(ScopedBeanSlot.class).newInstance(slot);
+    } catch (ClassNotFoundException e) {
+      log.warn(
+          "No generated proxy {} for bean {}, using a dynamic proxy that allocates on every call",
+          proxyClassName,
+          definition.getName());
+      return Proxy.newProxyInstance(
+          classLoader, proxiedInterfaces(definition.getType()), new SlotInvocationHandler(slot));
+    } catch (ReflectiveOperationException e) {
+      throw new BeanInstantiationException(
+          "Failed to create a scoped proxy of bean %s".formatted(definition.getName()), e);
+    }
+  }
+
+  /**
+   * Opens a request on the current thread
+   *
+   * @return {@link RequestScope} to be closed when the request ends
+   */
+  RequestScope beginRequest() {
+    return new RequestScope(requestInstances);
+  }
+
+  /** Destroys thread scoped instances of all threads */
+  void close() {
+    threadInstances.close();
+  }
+
+  /**
+   * Name of the class generated for a component or a {@code @Bean} method, mirrored by {@link
+   * org.blyznytsia.processor.ScopedProxyProcessor}
+   */
+  static String proxyClassName(BeanDefinition definition) {
+    var origin = origin(definition);
+    var packageName = origin.getPackageName();
+    var simpleName =
+        origin.getName().substring(packageName.isEmpty() ? 0 : packageName.length() + 1);
+    var name = simpleName.replace('$', '_');
+    if (definition.getBeanMethod() != null) {
+      name += "_" + definition.getBeanMethod().getName();
+    }
+    return (packageName.isEmpty() ? "" : packageName + ".") + name + PROXY_SUFFIX;
+  }
+
+  private static Class<?> origin(BeanDefinition definition) {
+    return definition.getBeanMethod() != null
+        ? definition.getBeanMethod().getDeclaringClass()
+        : definition.getType();
+  }
+
+  /**
+   * Collects interfaces a proxy of the type implements
+   *
+   * @param type declared type of a bean
+   * @return the type itself if it is an interface, all interfaces of the type otherwise
+   */
+  static Class<?>[] proxiedInterfaces(Class<?> type) {
+    if (type.isInterface()) {
+      return new Class<?>[] {type};
+    }
+
+    Set<Class<?>> interfaces = new LinkedHashSet<>();
+    Deque<Class<?>> toVisit = new ArrayDeque<>();
+    for (var current = type; current != null; current = current.getSuperclass()) {
+      Collections.addAll(toVisit, current.getInterfaces());
+    }
+    while (!toVisit.isEmpty()) {
+      var anInterface = toVisit.poll();
+      if (interfaces.add(anInterface)) {
+        Collections.addAll(toVisit, anInterface.getInterfaces());
+      }
+    }
+    return interfaces.toArray(Class<?>[]::new);
+  }
+
+  /** Delegates calls of a dynamic proxy to the instance of the current scope */
+  private static final class SlotInvocationHandler implements InvocationHandler {
+
+    private final ScopedBeanSlot slot;
+
+    private SlotInvocationHandler(ScopedBeanSlot slot) {
+      this.slot = slot;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (method.getDeclaringClass() == Object.class) {
+        switch (method.getName()) {
+          case "equals":
+            return proxy == args[0];
+          case "hashCode":
+            return System.identityHashCode(proxy);
+          default:
+            break;
+        }
+      }
+      if (!Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+        method.setAccessible(true);
+      }
+      try {
+        return method.invoke(slot.get(), args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package org.blyznytsia.context;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Virtual threads of the running JVM. The framework is compiled for Java 17, so virtual threads of
+ * Java 21 are looked up once with method handles and are reported as unsupported on older JVMs.
+ *
+ * <p>Creation and lookup paths of the container do not hold monitors while they create beans or
+ * wait for them: lazy beans are claimed with a compare-and-set, configuration instances are created
+ * under a {@link java.util.concurrent.locks.ReentrantLock} and classes of deferred beans are
+ * initialized when their factories are prepared. So virtual threads that look beans up don't pin
+ * their carrier threads.
+ *
+ * <p>Example of parallel startup on virtual threads:
+ *
+ * <pre class=code>
+ *     var options = ContextOptions.builder().executor(VirtualThreads.newExecutor()).build();
+ *     var context = new AnnotationApplicationContext("org.example", options);
+ * </pre>
+ */
+public final class VirtualThreads {
+
+  /** {@code Executors.newVirtualThreadPerTaskExecutor()}, null if the JVM has no virtual threads */
+  private static final MethodHandle NEW_EXECUTOR = findNewExecutor();
+
+  private VirtualThreads() {}
+
+  /**
+   * Checks whether the JVM supports virtual threads
+   *
+   * @return true on Java 21 and later
+   */
+  public static boolean isSupported() {
+    return NEW_EXECUTOR != null;
+  }
+
+  /**
+   * Creates an executor that starts a new virtual thread for every task. It doesn't need to be shut
+   * down since its threads are not pooled.
+   *
+   * @return {@link ExecutorService} of virtual threads
+   * @throws UnsupportedOperationException if the JVM doesn't support virtual threads
+   */
+  public static ExecutorService newExecutor() {
+    if (NEW_EXECUTOR == null) {
+      throw new UnsupportedOperationException(
+          "Virtual threads are not supported by Java %s"
+              .formatted(System.getProperty("java.version")));
+    }
+    try {
+      return (ExecutorService) NEW_EXECUTOR.invokeExact();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException("Failed to create executor of virtual threads", e);
+    }
+  }
+
+  private static MethodHandle findNewExecutor() {
+    try {
+      return MethodHandles.publicLookup()
+          .findStatic(
+              Executors.class,
+              "newVirtualThreadPerTaskExecutor",
+              MethodType.methodType(ExecutorService.class));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,190 @@
+package org.blyznytsia.convert;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Registry of converters from property values to field types, indexed by type.
+ *
+ * <p>The default registry converts to {@link String}, primitive types and their wrappers, {@link
+ * Duration}, {@link DataSize}, any enum and {@link List} or {@link Set} of any of these types,
+ * where elements are separated by commas. Converters of other types can be added with {@link
+ * #register(Class, Function)} before the first bean with a field of this type is configured, since
+ * converters are resolved once per field and reused afterwards.
+ *
+ * <p>Example:
+ *
+ * <pre class=code>
+ *     ConverterRegistry.getDefault().register(URI.class, URI::create);
+ * </pre>
+ */
+public class ConverterRegistry {
+
+  private static final ConverterRegistry DEFAULT = new ConverterRegistry();
+
+  private static final Map<Class<?>, Class<?>> WRAPPERS =
+      Map.of(
+          boolean.class, Boolean.class,
+          byte.class, Byte.class,
+          short.class, Short.class,
+          int.class, Integer.class,
+          long.class, Long.class,
+          float.class, Float.class,
+          double.class, Double.class,
+          char.class, Character.class);
+
+  private final Map<Class<?>, Function<String, ?>> converters = new ConcurrentHashMap<>();
+
+  /** Creates a registry with the default converters */
+  public ConverterRegistry() {
+    register(String.class, value -> value);
+    register(Boolean.class, ConverterRegistry::parseBoolean);
+    register(Byte.class, Byte::parseByte);
+    register(Short.class, Short::parseShort);
+    register(Integer.class, Integer::parseInt);
+    register(Long.class, Long::parseLong);
+    register(Float.class, Float::parseFloat);
+    register(Double.class, Double::parseDouble);
+    register(Character.class, ConverterRegistry::parseCharacter);
+    register(Duration.class, ConverterRegistry::parseDuration);
+    register(DataSize.class, DataSize::parse);
+  }
+
+  /**
+   * Returns the registry used by {@link org.blyznytsia.bpp.ValueAnnotationBeanPostProcessor}
+   *
+   * @return shared {@link ConverterRegistry}
+   */
+  public static ConverterRegistry getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Registers a converter of a type, replacing a previous one
+   *
+   * @param type target type, a wrapper type also applies to its primitive type
+   * @param converter converter of a non-null property value
+   */
+  public <T> void register(Class<T> type, Function<String, ? extends T> converter) {
+    converters.put(type, converter);
+  }
+
+  /**
+   * Resolves a converter of a type once, so it can be reused for every value of the type. A null
+   * value is converted to null for {@link String} and collections.
+   *
+   * @param type target type, e.g. a generic type of a field
+   * @return converter that throws {@link ClassCastException} if the type isn't supported
+   */
+  public Function<String, Object> converterFor(Type type) {
+    if (type instanceof ParameterizedType parameterizedType
+        && (parameterizedType.getRawType() == List.class
+            || parameterizedType.getRawType() == Set.class)) {
+      var elementConverter = converterFor(parameterizedType.getActualTypeArguments()[0]);
+      return parameterizedType.getRawType() == List.class
+          ? value -> value == null ? null : List.copyOf(split(value, elementConverter))
+          : value -> value == null ? null : Set.copyOf(split(value, elementConverter));
+    }
+
+    if (type instanceof Class<?> targetClass) {
+      var converter = converters.get(WRAPPERS.getOrDefault(targetClass, targetClass));
+      if (converter != null) {
+        return converter::apply;
+      }
+      if (targetClass.isEnum()) {
+        return enumConverter(targetClass);
+      }
+    }
+
+    return value -> {
+      throw new ClassCastException(
+          "Failed to cast %s value to %s type".formatted(value, type.getTypeName()));
+    };
+  }
+
+  private static List<Object> split(String value, Function<String, Object> elementConverter) {
+    List<Object> elements = new ArrayList<>();
+    for (var element : value.split(",")) {
+      var trimmed = element.trim();
+      if (!trimmed.isEmpty()) {
+        elements.add(elementConverter.apply(trimmed));
+      }
+    }
+    return elements;
+  }
+
+  /** Matches constant names exactly first and then ignoring case */
+  private static Function<String, Object> enumConverter(Class<?> enumType) {
+    Map<String, Object> constants = new HashMap<>();
+    for (var constant : enumType.getEnumConstants()) {
+      constants.putIfAbsent(((Enum<?>) constant).name().toUpperCase(Locale.ROOT), constant);
+    }
+    for (var constant : enumType.getEnumConstants()) {
+      constants.put(((Enum<?>) constant).name(), constant);
+    }
+    return value -> {
+      var trimmed = value.trim();
+      var constant =
+          constants.getOrDefault(trimmed, constants.get(trimmed.toUpperCase(Locale.ROOT)));
+      if (constant == null) {
+        throw new IllegalArgumentException(
+            "No constant %s in %s".formatted(value, enumType.getName()));
+      }
+      return constant;
+    };
+  }
+
+  private static Boolean parseBoolean(String value) {
+    var trimmed = value.trim();
+    if (trimmed.equalsIgnoreCase("true")) {
+      return Boolean.TRUE;
+    } else if (trimmed.equalsIgnoreCase("false")) {
+      return Boolean.FALSE;
+    }
+    throw new IllegalArgumentException("Failed to parse '%s' as a boolean".formatted(value));
+  }
+
+  private static Character parseCharacter(String value) {
+    if (value.length() != 1) {
+      throw new IllegalArgumentException("Failed to parse '%s' as a character".formatted(value));
+    }
+    return value.charAt(0);
+  }
+
+  /**
+   * Parses ISO-8601 durations like {@code PT30S} or a number with an optional {@code ns}, {@code
+   * us}, {@code ms}, {@code s}, {@code m}, {@code h} or {@code d} unit, milliseconds by default
+   */
+  private static Duration parseDuration(String value) {
+    var text = value.trim().toLowerCase(Locale.ROOT);
+    if (text.startsWith("p") || text.startsWith("-p")) {
+      return Duration.parse(text.toUpperCase(Locale.ROOT));
+    }
+
+    int unitStart = text.length();
+    while (unitStart > 0 && Character.isLetter(text.charAt(unitStart - 1))) {
+      unitStart--;
+    }
+    long amount = Long.parseLong(text.substring(0, unitStart).trim());
+    return switch (text.substring(unitStart)) {
+      case "ns" -> Duration.ofNanos(amount);
+      case "us" -> Duration.ofNanos(Math.multiplyExact(amount, 1000));
+      case "", "ms" -> Duration.ofMillis(amount);
+      case "s" -> Duration.ofSeconds(amount);
+      case "m" -> Duration.ofMinutes(amount);
+      case "h" -> Duration.ofHours(amount);
+      case "d" -> Duration.ofDays(amount);
+      default -> throw new IllegalArgumentException(
+          "Unknown duration unit in '%s'".formatted(value));
+    };
+  }
+}
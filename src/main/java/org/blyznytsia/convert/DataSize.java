@@ -0,0 +1,77 @@
+package org.blyznytsia.convert;
+
+import java.util.Locale;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Amount of data in bytes, e.g. a buffer or a cache size, that can be injected with {@link
+ * org.blyznytsia.annotation.Value} from values like {@code 512}, {@code 64KB}, {@code 10MB} or
+ * {@code 1GB}. Units are binary, so {@code 1KB} is 1024 bytes, and a value without a unit is in
+ * bytes.
+ */
+@Getter
+@EqualsAndHashCode
+public final class DataSize {
+
+  private static final long KILOBYTE = 1024;
+  private static final long MEGABYTE = KILOBYTE * 1024;
+  private static final long GIGABYTE = MEGABYTE * 1024;
+  private static final long TERABYTE = GIGABYTE * 1024;
+
+  private final long bytes;
+
+  private DataSize(long bytes) {
+    this.bytes = bytes;
+  }
+
+  public static DataSize ofBytes(long bytes) {
+    return new DataSize(bytes);
+  }
+
+  public static DataSize ofKilobytes(long kilobytes) {
+    return new DataSize(Math.multiplyExact(kilobytes, KILOBYTE));
+  }
+
+  public static DataSize ofMegabytes(long megabytes) {
+    return new DataSize(Math.multiplyExact(megabytes, MEGABYTE));
+  }
+
+  public static DataSize ofGigabytes(long gigabytes) {
+    return new DataSize(Math.multiplyExact(gigabytes, GIGABYTE));
+  }
+
+  /**
+   * Parses a data size with an optional {@code B}, {@code KB}, {@code MB}, {@code GB} or {@code TB}
+   * unit, case-insensitive
+   *
+   * @param value text like {@code 10MB}
+   * @return {@link DataSize}
+   * @throws IllegalArgumentException if the value isn't a data size
+   */
+  public static DataSize parse(String value) {
+    var text = value.trim().toUpperCase(Locale.ROOT);
+    int unitStart = text.length();
+    while (unitStart > 0 && Character.isLetter(text.charAt(unitStart - 1))) {
+      unitStart--;
+    }
+
+    long multiplier =
+        switch (text.substring(unitStart)) {
+          case "", "B" -> 1;
+          case "KB" -> KILOBYTE;
+          case "MB" -> MEGABYTE;
+          case "GB" -> GIGABYTE;
+          case "TB" -> TERABYTE;
+          default -> throw new IllegalArgumentException(
+              "Unknown data size unit in '%s'".formatted(value));
+        };
+    return new DataSize(
+        Math.multiplyExact(Long.parseLong(text.substring(0, unitStart).trim()), multiplier));
+  }
+
+  @Override
+  public String toString() {
+    return bytes + "B";
+  }
+}
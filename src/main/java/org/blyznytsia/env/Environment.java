@@ -0,0 +1,289 @@
+package org.blyznytsia.env;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.blyznytsia.exception.PropertyResolutionException;
+
+/**
+ * Immutable properties of an application flattened out of layered {@link PropertySource}s with all
+ * {@code ${key}} and {@code ${key:default}} placeholders resolved up front, so reading a property
+ * is a single map lookup no matter how many layers exist.
+ *
+ * <p>{@link #load()} layers the sources from the highest precedence to the lowest:
+ *
+ * <ol>
+ *   <li>system properties, e.g. {@code -Dapp.port=8080}
+ *   <li>environment variables, e.g. {@code APP_PORT=8080}
+ *   <li>{@code application-<profile>.properties} of every active profile, later profiles first
+ *   <li>{@code application.properties}
+ * </ol>
+ *
+ * <p>{@link #load(Path)} also reads the files from a directory, each of them overrides the
+ * classpath file with the same name.
+ *
+ * <p>Active profiles are listed in the {@value #ACTIVE_PROFILES_PROPERTY} property separated by
+ * commas. A property whose placeholders can't be resolved fails only when it is read.
+ */
+@Slf4j
+public final class Environment {
+
+  public static final String ACTIVE_PROFILES_PROPERTY = "bring.profiles.active";
+  public static final String APPLICATION_PROPERTIES = "application.properties";
+
+  /** Resolved properties */
+  private final Map<String, String> properties;
+
+  /** Failures of properties with unresolvable placeholders by property key */
+  private final Map<String, String> failures;
+
+  private final List<String> activeProfiles;
+
+  private Environment(List<PropertySource> sources, List<String> activeProfiles) {
+    var raw = flatten(sources);
+    Map<String, String> resolved = new HashMap<>();
+    Map<String, String> failed = new HashMap<>();
+    for (var key : raw.keySet()) {
+      try {
+        resolve(key, raw, resolved, new LinkedHashSet<>());
+      } catch (PropertyResolutionException e) {
+        log.debug("Property {} can't be resolved: {}", key, e.getMessage());
+        failed.put(key, e.getMessage());
+      }
+    }
+    resolved.keySet().removeAll(failed.keySet());
+
+    this.properties = Map.copyOf(resolved);
+    this.failures = Map.copyOf(failed);
+    this.activeProfiles = List.copyOf(activeProfiles);
+  }
+
+  /**
+   * Flattens property sources
+   *
+   * @param sources property sources from the highest precedence to the lowest
+   * @return {@link Environment}
+   */
+  public static Environment of(List<PropertySource> sources) {
+    return new Environment(sources, List.of());
+  }
+
+  /**
+   * Loads system properties, environment variables, profile files and {@value
+   * #APPLICATION_PROPERTIES} from the system class loader
+   *
+   * @return {@link Environment}
+   */
+  public static Environment load() {
+    return load(null);
+  }
+
+  /**
+   * Loads system properties, environment variables, profile files and {@value
+   * #APPLICATION_PROPERTIES} from a directory and from the system class loader
+   *
+   * @param directory directory with property files that override the classpath ones, or null
+   * @return {@link Environment}
+   */
+  public static Environment load(Path directory) {
+    var classLoader = ClassLoader.getSystemClassLoader();
+    List<PropertySource> sources = new ArrayList<>();
+    sources.add(MapPropertySource.fromProperties("systemProperties", System.getProperties()));
+    sources.add(new EnvironmentVariablesPropertySource());
+    List<MapPropertySource> base = new ArrayList<>();
+    if (directory != null) {
+      MapPropertySource.fromFile(directory.resolve(APPLICATION_PROPERTIES)).ifPresent(base::add);
+    }
+    MapPropertySource.fromResource(APPLICATION_PROPERTIES, classLoader).ifPresent(base::add);
+
+    var profilesValue =
+        firstValue(ACTIVE_PROFILES_PROPERTY, sources)
+            .or(() -> firstValue(ACTIVE_PROFILES_PROPERTY, base))
+            .orElse(null);
+    var profiles =
+        profilesValue == null
+            ? List.<String>of()
+            : Arrays.stream(profilesValue.split(","))
+                .map(String::trim)
+                .filter(profile -> !profile.isEmpty())
+                .toList();
+
+    for (int i = profiles.size() - 1; i >= 0; i--) {
+      var fileName = "application-%s.properties".formatted(profiles.get(i));
+      if (directory != null) {
+        MapPropertySource.fromFile(directory.resolve(fileName)).ifPresent(sources::add);
+      }
+      MapPropertySource.fromResource(fileName, classLoader).ifPresent(sources::add);
+    }
+    sources.addAll(base);
+
+    log.debug("Loaded property sources {} for profiles {}", names(sources), profiles);
+    return new Environment(sources, profiles);
+  }
+
+  /**
+   * Returns a resolved property
+   *
+   * @param key property key
+   * @return value or null if no source defines the key
+   * @throws PropertyResolutionException if the value has placeholders that can't be resolved
+   */
+  public String getProperty(String key) {
+    var value = properties.get(key);
+    if (value == null) {
+      var failure = failures.get(key);
+      if (failure != null) {
+        throw new PropertyResolutionException(failure);
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Returns all resolved properties
+   *
+   * @return unmodifiable {@link Map} of properties without the ones that failed to resolve
+   */
+  public Map<String, String> getProperties() {
+    return properties;
+  }
+
+  public List<String> getActiveProfiles() {
+    return activeProfiles;
+  }
+
+  /**
+   * Compares properties with a previous environment
+   *
+   * @param previous environment to compare with
+   * @return keys that were added, removed or changed their values or resolution failures
+   */
+  public Set<String> changedKeys(Environment previous) {
+    Set<String> keys = new HashSet<>(properties.keySet());
+    keys.addAll(failures.keySet());
+    keys.addAll(previous.properties.keySet());
+    keys.addAll(previous.failures.keySet());
+    keys.removeIf(
+        key ->
+            Objects.equals(properties.get(key), previous.properties.get(key))
+                && Objects.equals(failures.get(key), previous.failures.get(key)));
+    return keys;
+  }
+
+  private static Optional<String> firstValue(String key, List<? extends PropertySource> sources) {
+    return sources.stream()
+        .map(source -> source.getProperty(key))
+        .filter(value -> value != null)
+        .findFirst();
+  }
+
+  private static List<String> names(List<PropertySource> sources) {
+    return sources.stream().map(PropertySource::getName).toList();
+  }
+
+  /** Takes every key defined by any source from the first source that has a value for it */
+  private static Map<String, String> flatten(List<PropertySource> sources) {
+    Set<String> keys = new HashSet<>();
+    sources.forEach(source -> keys.addAll(source.getProperties().keySet()));
+
+    Map<String, String> flattened = new HashMap<>();
+    for (var key : keys) {
+      for (var source : sources) {
+        var value = source.getProperty(key);
+        if (value != null) {
+          flattened.put(key, value);
+          break;
+        }
+      }
+    }
+    return flattened;
+  }
+
+  private static String resolve(
+      String key, Map<String, String> raw, Map<String, String> resolved, Set<String> inProgress) {
+    var value = resolved.get(key);
+    if (value != null) {
+      return value;
+    }
+    value = raw.get(key);
+    if (value == null) {
+      return null;
+    }
+    if (!inProgress.add(key)) {
+      throw new PropertyResolutionException(
+          "Circular placeholder reference %s -> %s"
+              .formatted(String.join(" -> ", inProgress), key));
+    }
+
+    value = substitute(value, raw, resolved, inProgress);
+    inProgress.remove(key);
+    resolved.put(key, value);
+    return value;
+  }
+
+  /** Replaces placeholders, including nested ones like {@code ${a.${b}}}, in a raw value */
+  private static String substitute(
+      String text, Map<String, String> raw, Map<String, String> resolved, Set<String> inProgress) {
+    int start = text.indexOf("${");
+    if (start < 0) {
+      return text;
+    }
+
+    var result = new StringBuilder();
+    int position = 0;
+    while (start >= 0) {
+      int end = findPlaceholderEnd(text, start);
+      if (end < 0) {
+        break;
+      }
+      result.append(text, position, start);
+
+      var placeholder = text.substring(start + 2, end);
+      int separator = placeholder.indexOf(':');
+      var key =
+          substitute(
+              separator < 0 ? placeholder : placeholder.substring(0, separator),
+              raw,
+              resolved,
+              inProgress);
+      var value = resolve(key, raw, resolved, inProgress);
+      if (value == null) {
+        if (separator < 0) {
+          throw new PropertyResolutionException(
+              "Could not resolve placeholder '%s' in value '%s'".formatted(key, text));
+        }
+        value = substitute(placeholder.substring(separator + 1), raw, resolved, inProgress);
+      }
+      result.append(value);
+
+      position = end + 1;
+      start = text.indexOf("${", position);
+    }
+    return result.append(text, position, text.length()).toString();
+  }
+
+  private static int findPlaceholderEnd(String text, int start) {
+    int depth = 0;
+    for (int i = start + 2; i < text.length(); i++) {
+      if (text.startsWith("${", i)) {
+        depth++;
+        i++;
+      } else if (text.charAt(i) == '}') {
+        if (depth == 0) {
+          return i;
+        }
+        depth--;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,33 @@
+package org.blyznytsia.env;
+
+import java.util.Locale;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * {@link PropertySource} of environment variables. Besides exact names, a property key matches a
+ * variable named in upper case with dots and dashes replaced by underscores, so {@code APP_PORT}
+ * overrides {@code app.port}.
+ */
+@Getter
+public class EnvironmentVariablesPropertySource implements PropertySource {
+
+  private final String name = "environmentVariables";
+  private final Map<String, String> properties;
+
+  public EnvironmentVariablesPropertySource() {
+    this(System.getenv());
+  }
+
+  public EnvironmentVariablesPropertySource(Map<String, String> variables) {
+    this.properties = Map.copyOf(variables);
+  }
+
+  @Override
+  public String getProperty(String key) {
+    var value = properties.get(key);
+    return value != null
+        ? value
+        : properties.get(key.replace('.', '_').replace('-', '_').toUpperCase(Locale.ROOT));
+  }
+}
@@ -0,0 +1,81 @@
+package org.blyznytsia.env;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import lombok.Getter;
+
+/** {@link PropertySource} backed by an immutable copy of a {@link Map} or {@link Properties} */
+@Getter
+public class MapPropertySource implements PropertySource {
+
+  private final String name;
+  private final Map<String, String> properties;
+
+  public MapPropertySource(String name, Map<String, String> properties) {
+    this.name = name;
+    this.properties = Map.copyOf(properties);
+  }
+
+  /**
+   * Creates a source out of string entries of {@link Properties}, e.g. system properties
+   *
+   * @param name name of the source
+   * @param properties properties to copy
+   * @return {@link MapPropertySource}
+   */
+  public static MapPropertySource fromProperties(String name, Properties properties) {
+    Map<String, String> map = new HashMap<>();
+    for (var key : properties.stringPropertyNames()) {
+      map.put(key, properties.getProperty(key));
+    }
+    return new MapPropertySource(name, map);
+  }
+
+  /**
+   * Loads a properties file from the classpath
+   *
+   * @param resourceName name of the classpath resource
+   * @param classLoader class loader to find the resource with
+   * @return {@link MapPropertySource} or empty if the resource doesn't exist
+   * @throws IllegalStateException if the resource can't be read
+   */
+  public static Optional<MapPropertySource> fromResource(
+      String resourceName, ClassLoader classLoader) {
+    try (var inputStream = classLoader.getResourceAsStream(resourceName)) {
+      if (inputStream == null) {
+        return Optional.empty();
+      }
+      var properties = new Properties();
+      properties.load(inputStream);
+      return Optional.of(fromProperties(resourceName, properties));
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          "Failed to load properties from %s".formatted(resourceName), e);
+    }
+  }
+
+  /**
+   * Loads a properties file from the file system
+   *
+   * @param file path of the file
+   * @return {@link MapPropertySource} or empty if the file doesn't exist
+   * @throws IllegalStateException if the file can't be read
+   */
+  public static Optional<MapPropertySource> fromFile(Path file) {
+    try (var inputStream = Files.newInputStream(file)) {
+      var properties = new Properties();
+      properties.load(inputStream);
+      return Optional.of(fromProperties(file.toString(), properties));
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to load properties from %s".formatted(file), e);
+    }
+  }
+}
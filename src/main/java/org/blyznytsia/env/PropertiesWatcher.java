@@ -0,0 +1,88 @@
+package org.blyznytsia.env;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchService;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Watches a directory with property files on a daemon thread with a {@link WatchService} and runs a
+ * callback when any {@code .properties} file of the directory is created, modified or deleted.
+ * Events that arrive together, e.g. several writes of one save, trigger a single callback.
+ */
+@Slf4j
+public final class PropertiesWatcher implements Closeable {
+
+  private final Path directory;
+  private final Runnable onChange;
+  private final WatchService watchService;
+  private final Thread thread;
+
+  /**
+   * Starts watching a directory
+   *
+   * @param directory directory with property files
+   * @param onChange callback run on the watcher thread after property files change
+   * @throws IllegalStateException if the directory can't be watched
+   */
+  public PropertiesWatcher(Path directory, Runnable onChange) {
+    this.directory = directory;
+    this.onChange = onChange;
+    try {
+      this.watchService = FileSystems.getDefault().newWatchService();
+      directory.register(
+          watchService,
+          StandardWatchEventKinds.ENTRY_CREATE,
+          StandardWatchEventKinds.ENTRY_MODIFY,
+          StandardWatchEventKinds.ENTRY_DELETE);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to watch %s".formatted(directory), e);
+    }
+    this.thread = new Thread(this::watch, "bring-properties-watcher");
+    thread.setDaemon(true);
+    thread.start();
+    log.debug("Watching property files of {}", directory);
+  }
+
+  private void watch() {
+    try {
+      while (true) {
+        var key = watchService.take();
+        var changed =
+            key.pollEvents().stream()
+                .map(event -> event.context())
+                .anyMatch(context -> context == null || context.toString().endsWith(".properties"));
+        key.reset();
+        if (changed) {
+          log.debug("Property files of {} changed", directory);
+          runCallback();
+        }
+      }
+    } catch (InterruptedException | ClosedWatchServiceException e) {
+      log.debug("Stopped watching property files of {}", directory);
+    }
+  }
+
+  private void runCallback() {
+    try {
+      onChange.run();
+    } catch (RuntimeException e) {
+      log.error("Failed to refresh properties of {}", directory, e);
+    }
+  }
+
+  /** Stops watching the directory */
+  @Override
+  public void close() {
+    try {
+      watchService.close();
+    } catch (IOException e) {
+      log.warn("Failed to close watch service of {}", directory, e);
+    }
+    thread.interrupt();
+  }
+}
@@ -0,0 +1,36 @@
+package org.blyznytsia.env;
+
+import java.util.Map;
+
+/**
+ * Named layer of properties, e.g. a properties file, system properties or environment variables.
+ * Layers are flattened by {@link Environment} once, so property sources are never queried while
+ * beans are configured.
+ */
+public interface PropertySource {
+
+  /**
+   * Returns the name of the source used in logs and error messages
+   *
+   * @return name of the source
+   */
+  String getName();
+
+  /**
+   * Returns all properties defined by the source
+   *
+   * @return {@link Map} of property keys to raw values, placeholders are not resolved
+   */
+  Map<String, String> getProperties();
+
+  /**
+   * Returns a property defined by the source. Sources that match keys loosely, like environment
+   * variables, override this method to find values of keys defined by other sources.
+   *
+   * @param key property key
+   * @return raw value or null if the source doesn't define the key
+   */
+  default String getProperty(String key) {
+    return getProperties().get(key);
+  }
+}
@@ -2,6 +2,10 @@ package org.blyznytsia.exception;
 
 public class BeanInstantiationException extends RuntimeException {
 
+  public BeanInstantiationException(String message) {
+    super(message);
+  }
+
   public BeanInstantiationException(String message, Throwable cause) {
     super(message, cause);
   }
@@ -0,0 +1,36 @@
+package org.blyznytsia.exception;
+
+import java.util.List;
+
+/**
+ * Exception that aggregates all failures of bean validators. Every failure is also attached as a
+ * suppressed exception, so its stack trace is preserved.
+ */
+public class BeanValidationException extends RuntimeException {
+
+  private final List<RuntimeException> errors;
+
+  public BeanValidationException(List<RuntimeException> errors) {
+    super(buildMessage(errors));
+    this.errors = List.copyOf(errors);
+    errors.forEach(this::addSuppressed);
+  }
+
+  /**
+   * Returns failures of validators in the order validators were run
+   *
+   * @return unmodifiable {@link List} of failures
+   */
+  public List<RuntimeException> getErrors() {
+    return errors;
+  }
+
+  private static String buildMessage(List<RuntimeException> errors) {
+    var message = new StringBuilder("Validation of bean definitions failed with ");
+    message.append(errors.size()).append(errors.size() == 1 ? " error:" : " errors:");
+    for (int i = 0; i < errors.size(); i++) {
+      message.append("\n").append(i).append(": ").append(errors.get(i).getMessage());
+    }
+    return message.toString();
+  }
+}
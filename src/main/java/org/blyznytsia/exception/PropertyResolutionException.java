@@ -0,0 +1,9 @@
+package org.blyznytsia.exception;
+
+/** Exception thrown when a property placeholder can't be resolved */
+public class PropertyResolutionException extends RuntimeException {
+
+  public PropertyResolutionException(String message) {
+    super(message);
+  }
+}
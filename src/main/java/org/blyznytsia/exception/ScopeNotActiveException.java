@@ -0,0 +1,8 @@
+package org.blyznytsia.exception;
+
+public class ScopeNotActiveException extends RuntimeException {
+
+  public ScopeNotActiveException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,24 @@
+package org.blyznytsia.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** JFR event that spans configuration of a bean by a single post processor */
+@Name("org.blyznytsia.BeanConfiguration")
+@Label("Bean Configuration")
+@Category({"Bring", "Beans"})
+@Description("Configuration of a bean by a post processor")
+public class BeanConfigurationEvent extends Event {
+
+  @Label("Bean")
+  public String beanName;
+
+  @Label("Type")
+  public Class<?> beanType;
+
+  @Label("Post Processor")
+  public Class<?> postProcessor;
+}
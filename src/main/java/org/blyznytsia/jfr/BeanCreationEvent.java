@@ -0,0 +1,24 @@
+package org.blyznytsia.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event that spans creation of a bean: instantiation and all post processors. Emitted for
+ * singletons during context startup and for prototype and lazy beans on lookup.
+ */
+@Name("org.blyznytsia.BeanCreation")
+@Label("Bean Creation")
+@Category({"Bring", "Beans"})
+@Description("Creation and configuration of a bean")
+public class BeanCreationEvent extends Event {
+
+  @Label("Bean")
+  public String beanName;
+
+  @Label("Type")
+  public Class<?> beanType;
+}
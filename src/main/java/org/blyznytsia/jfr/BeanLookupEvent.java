@@ -0,0 +1,28 @@
+package org.blyznytsia.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event that spans a bean lookup. Lookups of created beans take nanoseconds, so by default only
+ * lookups longer than 1 ms are recorded, e.g. the ones that create prototype or lazy beans. Set the
+ * threshold to 0 in recording settings to record every lookup.
+ */
+@Name("org.blyznytsia.BeanLookup")
+@Label("Bean Lookup")
+@Category({"Bring", "Beans"})
+@Description("Lookup of a bean in the application context")
+@Threshold("1 ms")
+public class BeanLookupEvent extends Event {
+
+  @Label("Bean")
+  @Description("Name of the bean, null for lookups by type")
+  public String beanName;
+
+  @Label("Type")
+  public Class<?> beanType;
+}
@@ -0,0 +1,26 @@
+package org.blyznytsia.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/** JFR event with the duration of a step that created a bean during context startup */
+@Name("org.blyznytsia.BeanStartup")
+@Label("Bean Startup Step")
+@Category({"Bring", "Startup"})
+@Description("Step of bean creation during application context startup")
+public class BeanStartupEvent extends Event {
+
+  @Label("Bean")
+  public String beanName;
+
+  @Label("Step")
+  public String step;
+
+  @Label("Duration")
+  @Timespan(Timespan.NANOSECONDS)
+  public long durationNanos;
+}
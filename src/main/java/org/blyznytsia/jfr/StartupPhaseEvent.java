@@ -0,0 +1,28 @@
+package org.blyznytsia.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/** JFR event with the duration and allocations of a phase of context startup */
+@Name("org.blyznytsia.StartupPhase")
+@Label("Startup Phase")
+@Category({"Bring", "Startup"})
+@Description("Phase of application context startup")
+public class StartupPhaseEvent extends Event {
+
+  @Label("Phase")
+  public String phase;
+
+  @Label("Duration")
+  @Timespan(Timespan.NANOSECONDS)
+  public long durationNanos;
+
+  @Label("Allocated")
+  @DataAmount(DataAmount.BYTES)
+  public long allocatedBytes;
+}
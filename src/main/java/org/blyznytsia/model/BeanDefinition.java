@@ -3,21 +3,37 @@ package org.blyznytsia.model;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 // TODO: define fields to be used in equals and hashcode
 public class BeanDefinition {
 
   private Class<?> type;
   private String name;
   @Builder.Default private Scope scope = Scope.SINGLETON;
+  // true for singletons annotated with @Lazy
+  private boolean lazy;
   private Set<String> fieldDependencies;
   // constructor or @Bean method dependencies
   private Set<String> requiredDependencies;
+  // constructor or @Bean method parameters in order, see DependencyDescriptor;
+  // derived from the constructor or method and the dependency names, so not part of equality
+  @EqualsAndHashCode.Exclude private List<DependencyDescriptor> parameterDependencies;
+  // fields annotated with @Autowired, see DependencyDescriptor
+  @EqualsAndHashCode.Exclude private List<DependencyDescriptor> autowiredDependencies;
+  // property keys of fields annotated with @Value, derived from the type like autowiredDependencies
+  @EqualsAndHashCode.Exclude private List<String> valueKeys;
   // true for beans declared in @Configuration classes
   private boolean configClassDependency;
   private Constructor<?> constructor;
@@ -29,10 +45,93 @@ public class BeanDefinition {
   //  stores method name from @Bean(initMethod="")
   private String initMethod;
 
+  //  cached on first use, see getInstantiator()
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private volatile BeanInstantiator instantiator;
+
+  //  cached on first use, see getLifecycle()
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private volatile BeanLifecycle lifecycle;
+
+  /**
+   * Returns names of all beans this bean depends on, injected into fields or passed to the
+   * constructor or the {@code @Bean} method
+   *
+   * @return {@link Set} of bean names, empty if no dependencies are set
+   */
   public Set<String> getAllDependencies() {
     Set<String> dependencies = new HashSet<>();
-    dependencies.addAll(fieldDependencies);
-    dependencies.addAll(requiredDependencies);
+    if (fieldDependencies != null) {
+      dependencies.addAll(fieldDependencies);
+    }
+    if (requiredDependencies != null) {
+      dependencies.addAll(requiredDependencies);
+    }
     return dependencies;
   }
+
+  /**
+   * Returns names of the beans passed to the constructor or the {@code @Bean} method, one for every
+   * parameter even if several parameters get the same bean
+   *
+   * @return {@link List} of bean names from {@link #getParameterDependencies()}, or {@link
+   *     #getRequiredDependencies()} in iteration order if dependencies are not described
+   */
+  public List<String> getArgumentNames() {
+    if (parameterDependencies != null) {
+      return parameterDependencies.stream().map(DependencyDescriptor::getBeanName).toList();
+    }
+    return requiredDependencies != null ? List.copyOf(requiredDependencies) : List.of();
+  }
+
+  /**
+   * Checks whether the bean is created asynchronously by a {@code @Bean} method that returns a
+   * {@link CompletableFuture}. {@link #getType()} is the type of the future value then.
+   *
+   * @return true if the {@code @Bean} method returns a {@link CompletableFuture}
+   */
+  public boolean isAsync() {
+    return beanMethod != null
+        && CompletableFuture.class.isAssignableFrom(beanMethod.getReturnType());
+  }
+
+  /**
+   * Returns an instantiator for the constructor or the {@code @Bean} method of this bean. It is
+   * built on the first call and reused afterwards.
+   *
+   * @return {@link BeanInstantiator}
+   */
+  public BeanInstantiator getInstantiator() {
+    var result = instantiator;
+    if (result == null) {
+      result =
+          configClassDependency
+              ? BeanInstantiator.forMethod(beanMethod)
+              : BeanInstantiator.forConstructor(constructor);
+      instantiator = result;
+    }
+    return result;
+  }
+
+  /**
+   * Returns lifecycle callbacks of this bean: methods annotated with {@link
+   * org.blyznytsia.annotation.PostConstruct} and {@link org.blyznytsia.annotation.PreDestroy} and
+   * {@link #getInitMethod()}. They are resolved on the first call and reused afterwards.
+   *
+   * @return {@link BeanLifecycle}
+   */
+  public BeanLifecycle getLifecycle() {
+    var result = lifecycle;
+    if (result == null) {
+      result = BeanLifecycle.forType(type, initMethod);
+      lifecycle = result;
+    }
+    return result;
+  }
 }
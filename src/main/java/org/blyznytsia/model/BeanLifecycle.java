@@ -0,0 +1,194 @@
+package org.blyznytsia.model;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.blyznytsia.annotation.PostConstruct;
+import org.blyznytsia.annotation.PreDestroy;
+import org.blyznytsia.exception.BeanInstantiationException;
+
+/**
+ * Lifecycle callbacks of a bean resolved once into {@link MethodHandle}s adapted to the {@code
+ * (Object)void} signature: methods annotated with {@link PostConstruct} followed by {@code
+ * Bean.initMethod()}, and methods annotated with {@link PreDestroy}.
+ *
+ * <p>Init methods of superclasses are called first, destroy methods of subclasses are called first.
+ * A callback overridden in a subclass is called once, through the override, even if both methods
+ * are annotated.
+ *
+ * @see BeanDefinition#getLifecycle()
+ */
+public class BeanLifecycle {
+
+  private static final MethodType CALLBACK_TYPE = MethodType.methodType(void.class, Object.class);
+
+  private final MethodHandle[] initMethods;
+  private final MethodHandle[] destroyMethods;
+
+  private BeanLifecycle(List<MethodHandle> initMethods, List<MethodHandle> destroyMethods) {
+    this.initMethods = initMethods.toArray(MethodHandle[]::new);
+    this.destroyMethods = destroyMethods.toArray(MethodHandle[]::new);
+  }
+
+  /**
+   * Resolves callbacks of a bean type
+   *
+   * @param type type of the bean
+   * @param initMethod name of a method from {@code Bean.initMethod()}, null or empty if there is
+   *     none
+   * @return {@link BeanLifecycle}
+   * @throws BeanInstantiationException if a callback has parameters or the init method is not found
+   */
+  public static BeanLifecycle forType(Class<?> type, String initMethod) {
+    Deque<Class<?>> hierarchy = new ArrayDeque<>();
+    for (var current = type; current != null && current != Object.class; ) {
+      hierarchy.push(current);
+      current = current.getSuperclass();
+    }
+
+    List<MethodHandle> initMethods = new ArrayList<>();
+    List<MethodHandle> destroyMethods = new ArrayList<>();
+    Set<Method> initImplementations = new HashSet<>();
+    Set<Method> destroyImplementations = new HashSet<>();
+    for (var declaringClass : hierarchy) {
+      for (var method : declaringClass.getDeclaredMethods()) {
+        // handles dispatch virtually, so a method and its overrides are called once
+        if (method.isAnnotationPresent(PostConstruct.class)
+            && initImplementations.add(findImplementation(type, method))) {
+          initMethods.add(toHandle(method));
+        }
+        if (method.isAnnotationPresent(PreDestroy.class)
+            && destroyImplementations.add(findImplementation(type, method))) {
+          destroyMethods.add(0, toHandle(method));
+        }
+      }
+    }
+    if (initMethod != null && !initMethod.isEmpty()) {
+      initMethods.add(toHandle(findMethod(type, initMethod)));
+    }
+    return new BeanLifecycle(initMethods, destroyMethods);
+  }
+
+  /**
+   * Checks whether the bean has callbacks to call when the context is closed
+   *
+   * @return true if the bean has methods annotated with {@link PreDestroy}
+   */
+  public boolean hasDestroyMethods() {
+    return destroyMethods.length > 0;
+  }
+
+  /**
+   * Calls init callbacks of a created and configured bean
+   *
+   * @param bean bean instance
+   * @throws RuntimeException thrown by a callback, checked exceptions are wrapped into {@link
+   *     UndeclaredThrowableException}
+   */
+  public void initialize(Object bean) {
+    invokeAll(initMethods, bean);
+  }
+
+  /**
+   * Calls destroy callbacks of a bean
+   *
+   * @param bean bean instance
+   * @throws RuntimeException thrown by a callback, checked exceptions are wrapped into {@link
+   *     UndeclaredThrowableException}
+   */
+  public void destroy(Object bean) {
+    invokeAll(destroyMethods, bean);
+  }
+
+  private static void invokeAll(MethodHandle[] callbacks, Object bean) {
+    for (var callback : callbacks) {
+      try {
+        callback.invokeExact(bean);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new UndeclaredThrowableException(e);
+      }
+    }
+  }
+
+  private static Method findMethod(Class<?> type, String name) {
+    for (var current = type; current != null; current = current.getSuperclass()) {
+      try {
+        return current.getDeclaredMethod(name);
+      } catch (NoSuchMethodException e) {
+        // look up the hierarchy
+      }
+    }
+    try {
+      return type.getMethod(name);
+    } catch (NoSuchMethodException e) {
+      throw new BeanInstantiationException(
+          "Init method %s without parameters is not found in %s".formatted(name, type), e);
+    }
+  }
+
+  /**
+   * Finds the method that a virtual call of a callback dispatches to for instances of the type
+   *
+   * @param type type of the bean
+   * @param method callback declared by the type or one of its superclasses
+   * @return the most specific override of the method, or the method itself
+   */
+  private static Method findImplementation(Class<?> type, Method method) {
+    var modifiers = method.getModifiers();
+    if (Modifier.isPrivate(modifiers) || Modifier.isStatic(modifiers)) {
+      return method;
+    }
+    var declaringClass = method.getDeclaringClass();
+    for (var current = type; current != declaringClass; current = current.getSuperclass()) {
+      try {
+        var candidate = current.getDeclaredMethod(method.getName(), method.getParameterTypes());
+        if (overrides(candidate, method)) {
+          return candidate;
+        }
+      } catch (NoSuchMethodException e) {
+        // look up the hierarchy
+      }
+    }
+    return method;
+  }
+
+  private static boolean overrides(Method candidate, Method method) {
+    var modifiers = candidate.getModifiers();
+    if (Modifier.isPrivate(modifiers) || Modifier.isStatic(modifiers)) {
+      return false;
+    }
+    if (Modifier.isPublic(method.getModifiers()) || Modifier.isProtected(method.getModifiers())) {
+      return true;
+    }
+    // package-private methods are overridden only within the same runtime package
+    var declaringClass = method.getDeclaringClass();
+    var overridingClass = candidate.getDeclaringClass();
+    return declaringClass.getPackageName().equals(overridingClass.getPackageName())
+        && declaringClass.getClassLoader() == overridingClass.getClassLoader();
+  }
+
+  private static MethodHandle toHandle(Method method) {
+    if (method.getParameterCount() > 0 || Modifier.isStatic(method.getModifiers())) {
+      throw new BeanInstantiationException(
+          "Lifecycle method %s must be an instance method without parameters".formatted(method));
+    }
+    try {
+      method.setAccessible(true);
+      return MethodHandles.lookup().unreflect(method).asType(CALLBACK_TYPE);
+    } catch (IllegalAccessException | RuntimeException e) {
+      throw new BeanInstantiationException(
+          "Failed to access lifecycle method %s".formatted(method), e);
+    }
+  }
+}
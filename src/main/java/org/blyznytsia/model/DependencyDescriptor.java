@@ -0,0 +1,96 @@
+package org.blyznytsia.model;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.blyznytsia.annotation.Component;
+import org.blyznytsia.annotation.Qualifier;
+import org.blyznytsia.util.BeanDefinitionUtils;
+
+/**
+ * Dependency of a bean injected into a constructor or {@code @Bean} method parameter or into an
+ * {@link org.blyznytsia.annotation.Autowired} field: the required type, an optional {@link
+ * Qualifier} and the name of the bean that satisfies it.
+ *
+ * <p>Scanners describe a dependency with the qualifier or the default name of its type, and {@link
+ * org.blyznytsia.scanner.DependencyResolver} resolves it by type once all bean definitions are
+ * known.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class DependencyDescriptor {
+
+  private final Class<?> type;
+  /** Name from {@link Qualifier}, null if the dependency is resolved by type */
+  private final String qualifier;
+  /** Name of the bean that is injected */
+  private final String beanName;
+
+  private DependencyDescriptor(Class<?> type, String qualifier, String beanName) {
+    this.type = type;
+    this.qualifier = qualifier;
+    this.beanName = beanName;
+  }
+
+  /**
+   * Describes a constructor or {@code @Bean} method parameter
+   *
+   * @param parameter parameter to inject a bean into
+   * @return {@link DependencyDescriptor} named by the qualifier or the default name of the type
+   */
+  public static DependencyDescriptor forParameter(Parameter parameter) {
+    return of(parameter.getType(), parameter.getAnnotation(Qualifier.class));
+  }
+
+  /**
+   * Describes an {@link org.blyznytsia.annotation.Autowired} field
+   *
+   * @param field field to inject a bean into
+   * @return {@link DependencyDescriptor} named by the qualifier or the default name of the type
+   */
+  public static DependencyDescriptor forField(Field field) {
+    return of(field.getType(), field.getAnnotation(Qualifier.class));
+  }
+
+  private static DependencyDescriptor of(Class<?> type, Qualifier qualifier) {
+    return qualifier != null
+        ? new DependencyDescriptor(type, qualifier.value(), qualifier.value())
+        : new DependencyDescriptor(type, null, defaultName(type));
+  }
+
+  /**
+   * Name a bean of the type gets if it is a component, the value of {@link Component} or the simple
+   * name starting with a lowercase letter
+   *
+   * @param type required type
+   * @return default bean name of the type
+   */
+  public static String defaultName(Class<?> type) {
+    var component = type.getAnnotation(Component.class);
+    return component != null && !component.value().isBlank()
+        ? component.value()
+        : BeanDefinitionUtils.resolveBeanName(type);
+  }
+
+  /**
+   * Returns the same dependency satisfied by another bean
+   *
+   * @param name name of the resolved bean
+   * @return {@link DependencyDescriptor} with the bean name
+   */
+  public DependencyDescriptor resolvedTo(String name) {
+    return name.equals(beanName) ? this : new DependencyDescriptor(type, qualifier, name);
+  }
+
+  /**
+   * Checks whether the dependency names its bean explicitly
+   *
+   * @return true if the dependency has a {@link Qualifier}
+   */
+  public boolean isQualified() {
+    return qualifier != null;
+  }
+}
@@ -1,6 +1,24 @@
 package org.blyznytsia.model;
 
+/**
+ * Scope of a bean. Beans with {@link #REQUEST} and {@link #THREAD} scope are injected as proxies
+ * that delegate every call to the instance of the current request or thread, so they must implement
+ * at least one interface and are looked up by their interfaces.
+ */
 public enum Scope {
   SINGLETON,
-  PROTOTYPE;
+  PROTOTYPE,
+  /** One instance per request opened with {@code AnnotationApplicationContext.beginRequest()} */
+  REQUEST,
+  /** One instance per thread */
+  THREAD;
+
+  /**
+   * Returns whether beans of the scope are injected as proxies
+   *
+   * @return true for {@link #REQUEST} and {@link #THREAD}
+   */
+  public boolean isProxied() {
+    return this == REQUEST || this == THREAD;
+  }
 }
@@ -0,0 +1,196 @@
+package org.blyznytsia.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that writes an index of Bring types at compile time, so the application
+ * context can find them without scanning the classpath at startup.
+ *
+ * <p>The index is written to {@value #INDEX_LOCATION} in properties format, where a key is a binary
+ * class name and a value is a comma separated list of stereotypes of this class: {@link
+ * org.blyznytsia.annotation.Component}, {@link org.blyznytsia.annotation.Configuration} and {@link
+ * org.blyznytsia.annotation.Bean} annotations or implemented framework extension interfaces.
+ *
+ * <p>Example:
+ *
+ * <pre class=code>
+ * org.example=package
+ * org.example.SomeService=org.blyznytsia.annotation.Component
+ * org.example.SomePostProcessor=org.blyznytsia.bpp.BeanPostProcessor
+ * </pre>
+ *
+ * <p>Keys with the {@value #PACKAGE} value are the packages of compiled types, so the context uses
+ * the index only for the packages it covers. If the index already exists in the class output, e.g.
+ * after an incremental compilation, entries of types that were not recompiled but still exist are
+ * kept.
+ *
+ * @see org.blyznytsia.scanner.ComponentIndex
+ */
+@SupportedAnnotationTypes("*")
+public class ComponentIndexProcessor extends AbstractProcessor {
+
+  /** Location of the index in the class output */
+  public static final String INDEX_LOCATION = "META-INF/bring.components";
+
+  /** Value of the keys that are packages covered by the index */
+  public static final String PACKAGE = "package";
+
+  /** Annotations whose annotated types are indexed */
+  private static final List<String> TYPE_ANNOTATIONS =
+      List.of("org.blyznytsia.annotation.Component", "org.blyznytsia.annotation.Configuration");
+
+  /** Annotation whose declaring types of annotated methods are indexed */
+  private static final String BEAN_ANNOTATION = "org.blyznytsia.annotation.Bean";
+
+  /** Framework extension interfaces whose implementations are indexed */
+  private static final List<String> EXTENSIONS =
+      List.of(
+          "org.blyznytsia.scanner.BeanScanner",
+          "org.blyznytsia.validator.BeanValidator",
+          "org.blyznytsia.bpp.BeanPostProcessor");
+
+  /** Stereotypes by binary class name collected over all rounds */
+  private final Map<String, Set<String>> index = new TreeMap<>();
+
+  /** Binary names of the types compiled in this compilation */
+  private final Set<String> compiled = new TreeSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      writeIndex();
+    } else {
+      ElementFilter.typesIn(roundEnv.getRootElements()).forEach(this::indexType);
+    }
+    return false;
+  }
+
+  private void indexType(TypeElement type) {
+    var elementUtils = processingEnv.getElementUtils();
+    compiled.add(elementUtils.getBinaryName(type).toString());
+    index
+        .computeIfAbsent(
+            elementUtils.getPackageOf(type).getQualifiedName().toString(), name -> new TreeSet<>())
+        .add(PACKAGE);
+
+    for (var annotation : TYPE_ANNOTATIONS) {
+      if (isAnnotatedWith(type, annotation)) {
+        addToIndex(type, annotation);
+      }
+    }
+
+    if (ElementFilter.methodsIn(type.getEnclosedElements()).stream()
+        .anyMatch(method -> isAnnotatedWith(method, BEAN_ANNOTATION))) {
+      addToIndex(type, BEAN_ANNOTATION);
+    }
+
+    if (type.getKind() == ElementKind.CLASS && !type.getModifiers().contains(Modifier.ABSTRACT)) {
+      for (var extension : EXTENSIONS) {
+        if (isSubtypeOf(type, extension)) {
+          addToIndex(type, extension);
+        }
+      }
+    }
+
+    ElementFilter.typesIn(type.getEnclosedElements()).forEach(this::indexType);
+  }
+
+  /**
+   * Keeps entries of an index written by a previous compilation to the same class output for types
+   * that were not recompiled and still exist, and for their packages
+   */
+  private void readPreviousIndex() {
+    var properties = new Properties();
+    try {
+      var previous =
+          processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+      try (var reader = previous.openReader(true)) {
+        properties.load(reader);
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      return;
+    }
+
+    var elementUtils = processingEnv.getElementUtils();
+    properties.forEach(
+        (key, value) -> {
+          var name = (String) key;
+          var stereotypes = ((String) value).split(",");
+          var exists =
+              PACKAGE.equals(value)
+                  ? elementUtils.getPackageElement(name) != null
+                  : !compiled.contains(name)
+                      && elementUtils.getTypeElement(name.replace('$', '.')) != null;
+          if (exists) {
+            index.computeIfAbsent(name, ignored -> new TreeSet<>()).addAll(List.of(stereotypes));
+          }
+        });
+  }
+
+  private boolean isAnnotatedWith(Element element, String annotation) {
+    return element.getAnnotationMirrors().stream()
+        .anyMatch(mirror -> mirror.getAnnotationType().toString().equals(annotation));
+  }
+
+  private boolean isSubtypeOf(TypeElement type, String typeName) {
+    var superType = processingEnv.getElementUtils().getTypeElement(typeName);
+    if (superType == null) {
+      return false;
+    }
+    var typeUtils = processingEnv.getTypeUtils();
+    return typeUtils.isAssignable(
+        typeUtils.erasure(type.asType()), typeUtils.erasure(superType.asType()));
+  }
+
+  private void addToIndex(TypeElement type, String stereotype) {
+    var className = processingEnv.getElementUtils().getBinaryName(type).toString();
+    index.computeIfAbsent(className, name -> new TreeSet<>()).add(stereotype);
+  }
+
+  private void writeIndex() {
+    if (index.isEmpty()) {
+      return;
+    }
+    readPreviousIndex();
+
+    try {
+      var resource =
+          processingEnv
+              .getFiler()
+              .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+      try (var writer = new PrintWriter(resource.openWriter())) {
+        index.forEach(
+            (className, stereotypes) ->
+                writer.println(className + "=" + String.join(",", stereotypes)));
+      }
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.WARNING, "Failed to write Bring component index: " + e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,652 @@
+package org.blyznytsia.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that generates plain Java code wiring the beans of a package, so the
+ * application context can create them without scanning, reflection or bean post processors.
+ *
+ * <p>For every package that declares a {@link org.blyznytsia.annotation.Component} or a {@link
+ * org.blyznytsia.annotation.Configuration} class, the processor generates a {@value #CLASS_NAME}
+ * class implementing {@code org.blyznytsia.context.GeneratedContext} that covers the package and
+ * all of its subpackages, the same beans a context created for this package would scan. The class
+ * calls constructors, {@link org.blyznytsia.annotation.Bean} methods and assigns {@link
+ * org.blyznytsia.annotation.Autowired} and {@link org.blyznytsia.annotation.Value} fields directly
+ * in dependency order. It also lists the classes it was generated from, so the context can ignore
+ * code of an incremental compilation that saw only some of them. Generated classes are registered
+ * in {@value #SERVICE_LOCATION}.
+ *
+ * <p>A package is skipped and left to runtime scanning if any of its beans can't be wired by plain
+ * code:
+ *
+ * <ul>
+ *   <li>a constructor, method or field used for injection is private or isn't visible from the
+ *       package
+ *   <li>a bean is lazy or isn't a singleton
+ *   <li>a {@link org.blyznytsia.annotation.Bean} method returns a {@code CompletableFuture}
+ *   <li>a bean has lifecycle callbacks: an init method of {@link org.blyznytsia.annotation.Bean} or
+ *       methods annotated with {@link org.blyznytsia.annotation.PostConstruct} or {@link
+ *       org.blyznytsia.annotation.PreDestroy}, since the generated context is never closed
+ *   <li>a dependency is missing, ambiguous or has an incompatible type
+ *   <li>beans depend on each other in a cycle
+ * </ul>
+ *
+ * <p>Fields of beans created by {@link org.blyznytsia.annotation.Bean} methods are resolved from
+ * the declared return type of the method.
+ */
+@SupportedAnnotationTypes({
+  "org.blyznytsia.annotation.Component",
+  "org.blyznytsia.annotation.Configuration"
+})
+public class GeneratedContextProcessor extends AbstractProcessor {
+
+  /** Simple name of a generated class */
+  public static final String CLASS_NAME = "BringGeneratedContext";
+
+  /** Location of the service file that lists generated classes in the class output */
+  public static final String SERVICE_LOCATION =
+      "META-INF/services/org.blyznytsia.context.GeneratedContext";
+
+  private static final String COMPONENT = "org.blyznytsia.annotation.Component";
+  private static final String CONFIGURATION = "org.blyznytsia.annotation.Configuration";
+  private static final String BEAN = "org.blyznytsia.annotation.Bean";
+  private static final String AUTOWIRED = "org.blyznytsia.annotation.Autowired";
+  private static final String VALUE = "org.blyznytsia.annotation.Value";
+  private static final String LAZY = "org.blyznytsia.annotation.Lazy";
+  private static final String QUALIFIER = "org.blyznytsia.annotation.Qualifier";
+  private static final String POST_CONSTRUCT = "org.blyznytsia.annotation.PostConstruct";
+  private static final String PRE_DESTROY = "org.blyznytsia.annotation.PreDestroy";
+  private static final String COMPLETABLE_FUTURE = "java.util.concurrent.CompletableFuture";
+  private static final String SINGLETON = "SINGLETON";
+  /** Non-generic types supported by the default converter registry, enums are supported too */
+  private static final Set<String> VALUE_TYPES =
+      Set.of(
+          "java.lang.String",
+          "java.lang.Boolean",
+          "java.lang.Byte",
+          "java.lang.Short",
+          "java.lang.Integer",
+          "java.lang.Long",
+          "java.lang.Float",
+          "java.lang.Double",
+          "java.lang.Character",
+          "java.time.Duration",
+          "org.blyznytsia.convert.DataSize");
+
+  /** Binary names of component and configuration classes collected over all rounds */
+  private final Set<String> sourceTypes = new TreeSet<>();
+
+  /** Binary names of generated classes */
+  private final Set<String> generated = new TreeSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      generateContexts();
+      writeServiceFile();
+    } else {
+      ElementFilter.typesIn(roundEnv.getRootElements()).forEach(this::collectType);
+    }
+    return false;
+  }
+
+  private void collectType(TypeElement type) {
+    if (isAnnotatedWith(type, COMPONENT) || isAnnotatedWith(type, CONFIGURATION)) {
+      sourceTypes.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+    }
+    ElementFilter.typesIn(type.getEnclosedElements()).forEach(this::collectType);
+  }
+
+  /**
+   * Resolves types again once all rounds are over, so members added by other processors, e.g.
+   * Lombok constructors, are visible
+   */
+  private void generateContexts() {
+    var elements = processingEnv.getElementUtils();
+    Map<String, List<BeanSource>> beansByPackage = new TreeMap<>();
+    Map<String, Set<String>> typesByPackage = new HashMap<>();
+    for (var typeName : sourceTypes) {
+      var type = elements.getTypeElement(typeName.replace('$', '.'));
+      if (type == null) {
+        continue;
+      }
+      var packageName = elements.getPackageOf(type).getQualifiedName().toString();
+      typesByPackage.computeIfAbsent(packageName, name -> new TreeSet<>()).add(typeName);
+      var beans = beansByPackage.computeIfAbsent(packageName, name -> new ArrayList<>());
+      if (isAnnotatedWith(type, COMPONENT)) {
+        beans.add(componentSource(type));
+      }
+      if (isAnnotatedWith(type, CONFIGURATION)) {
+        for (var method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+          if (isAnnotatedWith(method, BEAN)) {
+            beans.add(beanMethodSource(type, method));
+          }
+        }
+      }
+    }
+
+    for (var packageName : beansByPackage.keySet()) {
+      var beans =
+          beansByPackage.entrySet().stream()
+              .filter(entry -> isInPackage(entry.getKey(), packageName))
+              .flatMap(entry -> entry.getValue().stream())
+              .toList();
+      var types =
+          typesByPackage.entrySet().stream()
+              .filter(entry -> isInPackage(entry.getKey(), packageName))
+              .flatMap(entry -> entry.getValue().stream())
+              .collect(Collectors.toCollection(TreeSet::new));
+      planWiring(packageName, beans).ifPresent(plan -> writeContext(packageName, plan, types));
+    }
+  }
+
+  private static boolean isInPackage(String name, String packageName) {
+    return name.equals(packageName) || name.startsWith(packageName + ".");
+  }
+
+  private BeanSource componentSource(TypeElement type) {
+    var name = stringValue(type, COMPONENT, "value");
+    ExecutableElement constructor = null;
+    ExecutableElement defaultConstructor = null;
+    boolean ambiguous = false;
+    for (var candidate : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+      if (candidate.getParameters().isEmpty()) {
+        defaultConstructor = candidate;
+      }
+      if (isAnnotatedWith(candidate, AUTOWIRED)) {
+        ambiguous |= constructor != null;
+        constructor = candidate;
+      }
+    }
+    return new BeanSource(
+        name.isBlank() ? decapitalize(type.getSimpleName().toString()) : name,
+        type,
+        null,
+        ambiguous ? null : constructor != null ? constructor : defaultConstructor,
+        isSingleton(type)
+            && !isAnnotatedWith(type, LAZY)
+            && !hasLifecycleMethods(type)
+            && isInstantiable(type),
+        type);
+  }
+
+  private BeanSource beanMethodSource(TypeElement configClass, ExecutableElement method) {
+    var name = stringValue(method, BEAN, "value");
+    var returnType = method.getReturnType();
+    return new BeanSource(
+        name.isEmpty() ? method.getSimpleName().toString() : name,
+        configClass,
+        configClass,
+        method,
+        isSingleton(method)
+            && !isAnnotatedWith(method, LAZY)
+            && !isFuture(returnType)
+            && stringValue(method, BEAN, "initMethod").isEmpty()
+            && !(returnType.getKind() == TypeKind.DECLARED
+                && hasLifecycleMethods((TypeElement) ((DeclaredType) returnType).asElement()))
+            && isInstantiable(configClass),
+        returnType.getKind() == TypeKind.DECLARED
+            ? (TypeElement) ((DeclaredType) returnType).asElement()
+            : null);
+  }
+
+  private boolean isSingleton(Element element) {
+    var scope =
+        annotationValue(
+            element, element.getKind() == ElementKind.METHOD ? BEAN : COMPONENT, "scope");
+    return scope == null || scope.getValue().toString().equals(SINGLETON);
+  }
+
+  private boolean hasLifecycleMethods(TypeElement type) {
+    return ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type)).stream()
+        .anyMatch(
+            method ->
+                isAnnotatedWith(method, POST_CONSTRUCT) || isAnnotatedWith(method, PRE_DESTROY));
+  }
+
+  private boolean isFuture(TypeMirror type) {
+    return type.getKind() == TypeKind.DECLARED
+        && ((TypeElement) ((DeclaredType) type).asElement())
+            .getQualifiedName()
+            .contentEquals(COMPLETABLE_FUTURE);
+  }
+
+  private boolean isInstantiable(TypeElement type) {
+    return type.getKind() == ElementKind.CLASS
+        && !type.getModifiers().contains(Modifier.ABSTRACT)
+        && (type.getNestingKind() == NestingKind.TOP_LEVEL
+            || type.getModifiers().contains(Modifier.STATIC));
+  }
+
+  /**
+   * Resolves dependencies of the beans the same way the runtime does and orders them
+   *
+   * @return beans in creation order or empty if any bean can't be wired by plain code
+   */
+  private Optional<List<WiredBean>> planWiring(String packageName, List<BeanSource> sources) {
+    Map<String, BeanSource> byName = new HashMap<>();
+    for (var source : sources) {
+      if (!source.supported()
+          || source.factory() == null
+          || source.type() == null
+          || byName.put(source.name(), source) != null
+          || !isAccessible(source.factory(), packageName)
+          || (source.configClass() != null
+              && !hasAccessibleDefaultConstructor(source, packageName))) {
+        return Optional.empty();
+      }
+    }
+
+    Map<String, WiredBean> wired = new TreeMap<>();
+    for (var source : sources) {
+      List<BeanSource> arguments = new ArrayList<>();
+      for (var parameter : source.factory().getParameters()) {
+        var dependency = resolveDependency(source, parameter, sources, byName);
+        if (dependency == null) {
+          return Optional.empty();
+        }
+        arguments.add(dependency);
+      }
+
+      Map<VariableElement, BeanSource> autowired = new LinkedHashMap<>();
+      Map<VariableElement, String> values = new LinkedHashMap<>();
+      for (var field : ElementFilter.fieldsIn(source.type().getEnclosedElements())) {
+        var isAutowired = isAnnotatedWith(field, AUTOWIRED);
+        var isValue = isAnnotatedWith(field, VALUE);
+        if (!isAutowired && !isValue) {
+          continue;
+        }
+        if (field.getModifiers().contains(Modifier.FINAL)
+            || field.getModifiers().contains(Modifier.STATIC)
+            || !isAccessible(field, packageName)) {
+          return Optional.empty();
+        }
+        if (isAutowired) {
+          var dependency = resolveDependency(source, field, sources, byName);
+          if (dependency == null) {
+            return Optional.empty();
+          }
+          autowired.put(field, dependency);
+        }
+        if (isValue) {
+          if (boxedValueType(field.asType()) == null
+              || (isEnum(field.asType())
+                  && !isAccessible(asElement(field.asType()), packageName))) {
+            return Optional.empty();
+          }
+          var key = stringValue(field, VALUE, "value");
+          values.put(field, key.isBlank() ? field.getSimpleName().toString() : key);
+        }
+      }
+      wired.put(source.name(), new WiredBean(source, arguments, autowired, values));
+    }
+
+    return sortByDependencies(wired);
+  }
+
+  /**
+   * Mirrors {@code DependencyResolver}: the bean named by the qualifier, the single other bean of
+   * the required type or the one of several with the default name of the type
+   *
+   * @return resolved bean or null if the dependency can't be resolved
+   */
+  private BeanSource resolveDependency(
+      BeanSource source,
+      VariableElement element,
+      List<BeanSource> sources,
+      Map<String, BeanSource> byName) {
+    var required = element.asType();
+    if (isAnnotatedWith(element, QUALIFIER)) {
+      var qualified = byName.get(stringValue(element, QUALIFIER, "value"));
+      return qualified != null && isAssignable(qualified, required) ? qualified : null;
+    }
+
+    var candidates =
+        sources.stream().filter(bean -> bean != source && isAssignable(bean, required)).toList();
+    if (candidates.size() == 1) {
+      return candidates.get(0);
+    }
+    var defaultName = beanName(required);
+    return candidates.stream()
+        .filter(bean -> bean.name().equals(defaultName))
+        .findFirst()
+        .orElse(null);
+  }
+
+  /** Orders beans so every bean follows its dependencies, empty if the beans form a cycle */
+  private Optional<List<WiredBean>> sortByDependencies(Map<String, WiredBean> beans) {
+    Map<String, Integer> pending = new TreeMap<>();
+    Map<String, List<String>> dependents = new HashMap<>();
+    beans.forEach(
+        (name, bean) -> {
+          var dependencies = bean.dependencyNames();
+          pending.put(name, dependencies.size());
+          dependencies.forEach(
+              dependency ->
+                  dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(name));
+        });
+
+    var ready = new ArrayDeque<String>();
+    pending.forEach(
+        (name, count) -> {
+          if (count == 0) {
+            ready.add(name);
+          }
+        });
+    List<WiredBean> ordered = new ArrayList<>();
+    while (!ready.isEmpty()) {
+      var name = ready.poll();
+      ordered.add(beans.get(name));
+      for (var dependent : dependents.getOrDefault(name, List.of())) {
+        if (pending.merge(dependent, -1, Integer::sum) == 0) {
+          ready.add(dependent);
+        }
+      }
+    }
+    return ordered.size() == beans.size() ? Optional.of(ordered) : Optional.empty();
+  }
+
+  private void writeContext(String packageName, List<WiredBean> beans, Set<String> types) {
+    var className = packageName.isEmpty() ? CLASS_NAME : packageName + "." + CLASS_NAME;
+    Map<String, String> variables = new HashMap<>();
+    Map<TypeElement, String> configVariables = new LinkedHashMap<>();
+    for (var bean : beans) {
+      variables.put(bean.source().name(), "bean" + variables.size());
+      if (bean.source().configClass() != null) {
+        configVariables.putIfAbsent(bean.source().configClass(), "config" + configVariables.size());
+      }
+    }
+
+    try {
+      var file =
+          processingEnv
+              .getFiler()
+              .createSourceFile(
+                  className,
+                  beans.stream().map(bean -> bean.source().origin()).toArray(Element[]::new));
+      try (var writer = new PrintWriter(file.openWriter())) {
+        if (!packageName.isEmpty()) {
+          writer.println("package " + packageName + ";");
+          writer.println();
+        }
+        writer.println("/** Creates beans of the {@code " + packageName + "} package */");
+        writer.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+        writer.println(
+            "public final class "
+                + CLASS_NAME
+                + " implements org.blyznytsia.context.GeneratedContext {");
+        writer.println();
+        writer.println("  @Override");
+        writer.println("  public java.util.Set<String> getSourceTypes() {");
+        writer.println("    return java.util.Set.of(");
+        writer.println(
+            String.join(
+                    ",\n", types.stream().map(type -> "        \"" + escape(type) + "\"").toList())
+                + ");");
+        writer.println("  }");
+        writer.println();
+        writer.println("  @Override");
+        writer.println(
+            "  public void registerBeans(java.util.Map<String, Object> container) throws Exception {");
+        if (beans.stream().anyMatch(bean -> !bean.values().isEmpty())) {
+          writer.println(
+              "    var properties = new org.blyznytsia.bpp.ValueAnnotationBeanPostProcessor();");
+        }
+        configVariables.forEach(
+            (configClass, variable) ->
+                writer.println(
+                    "    var " + variable + " = new " + configClass.getQualifiedName() + "();"));
+        for (var bean : beans) {
+          writeBean(writer, bean, variables, configVariables);
+        }
+        writer.println("  }");
+        writer.println("}");
+      }
+      generated.add(className);
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.WARNING,
+              "Failed to write Bring generated context: " + e.getMessage());
+    }
+  }
+
+  private void writeBean(
+      PrintWriter writer,
+      WiredBean bean,
+      Map<String, String> variables,
+      Map<TypeElement, String> configVariables) {
+    var source = bean.source();
+    var variable = variables.get(source.name());
+    var arguments =
+        String.join(
+            ", ",
+            bean.arguments().stream().map(argument -> variables.get(argument.name())).toList());
+    String target;
+    if (source.configClass() == null) {
+      target = "new " + source.type().getQualifiedName();
+    } else if (source.factory().getModifiers().contains(Modifier.STATIC)) {
+      target = source.configClass().getQualifiedName() + "." + source.factory().getSimpleName();
+    } else {
+      target = configVariables.get(source.configClass()) + "." + source.factory().getSimpleName();
+    }
+    writer.println("    var " + variable + " = " + target + "(" + arguments + ");");
+    bean.autowired()
+        .forEach(
+            (field, dependency) ->
+                writer.println(
+                    "    "
+                        + variable
+                        + "."
+                        + field.getSimpleName()
+                        + " = "
+                        + variables.get(dependency.name())
+                        + ";"));
+    bean.values()
+        .forEach(
+            (field, key) -> {
+              var type = boxedValueType(field.asType());
+              writer.println(
+                  "    "
+                      + variable
+                      + "."
+                      + field.getSimpleName()
+                      + " = ("
+                      + type
+                      + ") properties.resolveValue(\""
+                      + escape(key)
+                      + "\", "
+                      + type
+                      + ".class);");
+            });
+    writer.println("    container.put(\"" + escape(source.name()) + "\", " + variable + ");");
+  }
+
+  private void writeServiceFile() {
+    if (generated.isEmpty()) {
+      return;
+    }
+
+    try {
+      var resource =
+          processingEnv
+              .getFiler()
+              .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_LOCATION);
+      try (var writer = new PrintWriter(resource.openWriter())) {
+        generated.forEach(writer::println);
+      }
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.WARNING,
+              "Failed to write Bring generated context services: " + e.getMessage());
+    }
+  }
+
+  private boolean hasAccessibleDefaultConstructor(BeanSource source, String packageName) {
+    return ElementFilter.constructorsIn(source.configClass().getEnclosedElements()).stream()
+        .anyMatch(
+            constructor ->
+                constructor.getParameters().isEmpty() && isAccessible(constructor, packageName));
+  }
+
+  /** Checks that the element and all of its enclosing types can be referenced from the package */
+  private boolean isAccessible(Element element, String packageName) {
+    for (var current = element;
+        current != null && current.getKind() != ElementKind.PACKAGE;
+        current = current.getEnclosingElement()) {
+      var modifiers = current.getModifiers();
+      if (modifiers.contains(Modifier.PRIVATE)
+          || (!modifiers.contains(Modifier.PUBLIC)
+              && !processingEnv
+                  .getElementUtils()
+                  .getPackageOf(current)
+                  .getQualifiedName()
+                  .contentEquals(packageName))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean isAssignable(BeanSource bean, TypeMirror target) {
+    var typeUtils = processingEnv.getTypeUtils();
+    var beanType =
+        bean.configClass() == null ? bean.type().asType() : bean.factory().getReturnType();
+    return typeUtils.isAssignable(typeUtils.erasure(beanType), typeUtils.erasure(target));
+  }
+
+  /** Mirrors the runtime default name of a dependency type, the component name if it has one */
+  private String beanName(TypeMirror type) {
+    if (type.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+    var element = asElement(type);
+    var componentName = stringValue(element, COMPONENT, "value");
+    return componentName.isBlank()
+        ? decapitalize(element.getSimpleName().toString())
+        : componentName;
+  }
+
+  private String boxedValueType(TypeMirror type) {
+    var typeUtils = processingEnv.getTypeUtils();
+    var boxed =
+        type.getKind().isPrimitive()
+            ? typeUtils.boxedClass(typeUtils.getPrimitiveType(type.getKind())).asType()
+            : type;
+    var name = typeUtils.erasure(boxed).toString();
+    return VALUE_TYPES.contains(name) || isEnum(type)
+        ? ((TypeElement) typeUtils.asElement(boxed)).getQualifiedName().toString()
+        : null;
+  }
+
+  private boolean isEnum(TypeMirror type) {
+    return type.getKind() == TypeKind.DECLARED && asElement(type).getKind() == ElementKind.ENUM;
+  }
+
+  private Element asElement(TypeMirror type) {
+    return ((DeclaredType) type).asElement();
+  }
+
+  private boolean isAnnotatedWith(Element element, String annotation) {
+    return element.getAnnotationMirrors().stream()
+        .anyMatch(mirror -> mirror.getAnnotationType().toString().equals(annotation));
+  }
+
+  private AnnotationValue annotationValue(Element element, String annotation, String attribute) {
+    for (var mirror : element.getAnnotationMirrors()) {
+      if (mirror.getAnnotationType().toString().equals(annotation)) {
+        for (var entry : mirror.getElementValues().entrySet()) {
+          if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+            return entry.getValue();
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  private String stringValue(Element element, String annotation, String attribute) {
+    var value = annotationValue(element, annotation, attribute);
+    return value != null ? (String) value.getValue() : "";
+  }
+
+  private static String decapitalize(String name) {
+    return name.substring(0, 1).toLowerCase() + name.substring(1);
+  }
+
+  private static String escape(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"");
+  }
+
+  /**
+   * Bean declared by a component class or a bean method
+   *
+   * @param origin class that declares the bean
+   * @param configClass configuration class of a bean method or null for a component
+   * @param factory constructor of a component or bean method
+   * @param supported false if the bean is lazy, isn't a singleton, is created asynchronously, has
+   *     lifecycle callbacks or can't be instantiated
+   * @param type class of a component or declared return type of a bean method
+   */
+  private record BeanSource(
+      String name,
+      TypeElement origin,
+      TypeElement configClass,
+      ExecutableElement factory,
+      boolean supported,
+      TypeElement type) {}
+
+  /** Bean together with its resolved constructor, method and field dependencies */
+  private record WiredBean(
+      BeanSource source,
+      List<BeanSource> arguments,
+      Map<VariableElement, BeanSource> autowired,
+      Map<VariableElement, String> values) {
+
+    private Set<String> dependencyNames() {
+      Set<String> names = new LinkedHashSet<>();
+      arguments.forEach(argument -> names.add(argument.name()));
+      autowired.values().forEach(dependency -> names.add(dependency.name()));
+      return names;
+    }
+  }
+}
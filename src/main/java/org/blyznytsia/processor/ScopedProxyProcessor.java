@@ -0,0 +1,322 @@
+package org.blyznytsia.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor that generates scoped proxies of beans with {@code REQUEST} and {@code
+ * THREAD} scope, so calls through a proxy are plain interface calls on the instance of the current
+ * scope without reflection and allocations.
+ *
+ * <p>A proxy implements all interfaces of a component class, or the interface returned by a {@link
+ * org.blyznytsia.annotation.Bean} method, and delegates every method of them and {@code toString()}
+ * to {@code org.blyznytsia.context.ScopedBeanSlot#get()}. It is generated in the package of the
+ * component or the configuration class and named after it with the {@value #PROXY_SUFFIX} suffix,
+ * bean methods add the method name, e.g. {@code AppConfig_session_ScopedProxy}. Nested class names
+ * are joined with {@code _}.
+ *
+ * <p>A bean is skipped, so the context falls back to a dynamic proxy, if an interface isn't visible
+ * from the package or has generic methods.
+ */
+@SupportedAnnotationTypes({
+  "org.blyznytsia.annotation.Component",
+  "org.blyznytsia.annotation.Configuration"
+})
+public class ScopedProxyProcessor extends AbstractProcessor {
+
+  /** Suffix of the simple names of generated classes */
+  public static final String PROXY_SUFFIX = "_ScopedProxy";
+
+  private static final String COMPONENT = "org.blyznytsia.annotation.Component";
+  private static final String CONFIGURATION = "org.blyznytsia.annotation.Configuration";
+  private static final String BEAN = "org.blyznytsia.annotation.Bean";
+  private static final String SLOT = "org.blyznytsia.context.ScopedBeanSlot";
+  private static final Set<String> PROXIED_SCOPES = Set.of("REQUEST", "THREAD");
+
+  /** Binary names of component and configuration classes collected over all rounds */
+  private final Set<String> sourceTypes = new TreeSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      generateProxies();
+    } else {
+      ElementFilter.typesIn(roundEnv.getRootElements()).forEach(this::collectType);
+    }
+    return false;
+  }
+
+  private void collectType(TypeElement type) {
+    if (isAnnotatedWith(type, COMPONENT) || isAnnotatedWith(type, CONFIGURATION)) {
+      sourceTypes.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+    }
+    ElementFilter.typesIn(type.getEnclosedElements()).forEach(this::collectType);
+  }
+
+  private void generateProxies() {
+    var elements = processingEnv.getElementUtils();
+    for (var typeName : sourceTypes) {
+      var type = elements.getTypeElement(typeName.replace('$', '.'));
+      if (type == null) {
+        continue;
+      }
+      var packageName = elements.getPackageOf(type).getQualifiedName().toString();
+      var baseName = typeName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1);
+      baseName = baseName.replace('$', '_');
+
+      if (isAnnotatedWith(type, COMPONENT) && isProxied(type, COMPONENT)) {
+        var interfaces = interfacesOf((DeclaredType) type.asType());
+        writeProxy(packageName, baseName + PROXY_SUFFIX, interfaces, type);
+      }
+      if (isAnnotatedWith(type, CONFIGURATION)) {
+        for (var method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+          if (isAnnotatedWith(method, BEAN)
+              && isProxied(method, BEAN)
+              && method.getReturnType().getKind() == TypeKind.DECLARED) {
+            var returnType = (DeclaredType) method.getReturnType();
+            List<DeclaredType> interfaces = new ArrayList<>();
+            if (returnType.asElement().getKind() == ElementKind.INTERFACE) {
+              interfaces.add(returnType);
+            }
+            interfaces.addAll(interfacesOf(returnType));
+            writeProxy(
+                packageName,
+                baseName + "_" + method.getSimpleName() + PROXY_SUFFIX,
+                interfaces,
+                method);
+          }
+        }
+      }
+    }
+  }
+
+  private boolean isProxied(Element element, String annotation) {
+    var scope = scopeOf(element, annotation);
+    return scope != null && PROXIED_SCOPES.contains(scope);
+  }
+
+  /** Collects all interfaces of a type with type arguments of the type substituted */
+  private List<DeclaredType> interfacesOf(DeclaredType type) {
+    var typeUtils = processingEnv.getTypeUtils();
+    Map<String, DeclaredType> interfaces = new LinkedHashMap<>();
+    var toVisit = new ArrayDeque<TypeMirror>(typeUtils.directSupertypes(type));
+    while (!toVisit.isEmpty()) {
+      var supertype = (DeclaredType) toVisit.poll();
+      if (supertype.asElement().getKind() == ElementKind.INTERFACE
+          && interfaces.putIfAbsent(typeUtils.erasure(supertype).toString(), supertype) != null) {
+        continue;
+      }
+      toVisit.addAll(typeUtils.directSupertypes(supertype));
+    }
+    return new ArrayList<>(interfaces.values());
+  }
+
+  private void writeProxy(
+      String packageName, String className, List<DeclaredType> interfaces, Element origin) {
+    var methods = proxyMethods(packageName, interfaces);
+    if (interfaces.isEmpty() || methods.isEmpty()) {
+      return;
+    }
+
+    var qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+    try {
+      var file = processingEnv.getFiler().createSourceFile(qualifiedName, origin);
+      try (var writer = new PrintWriter(file.openWriter())) {
+        if (!packageName.isEmpty()) {
+          writer.println("package " + packageName + ";");
+          writer.println();
+        }
+        writer.println("/** Scoped proxy of {@code " + origin + "} */");
+        writer.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+        writer.println("@SuppressWarnings(\"unchecked\")");
+        writer.println(
+            "public final class "
+                + className
+                + " implements "
+                + interfaces.stream().map(TypeMirror::toString).collect(Collectors.joining(", "))
+                + " {");
+        writer.println();
+        writer.println("  private final " + SLOT + " slot;");
+        writer.println();
+        writer.println("  public " + className + "(" + SLOT + " slot) {");
+        writer.println("    this.slot = slot;");
+        writer.println("  }");
+        methods.get().forEach(writer::print);
+        writer.println();
+        writer.println("  @Override");
+        writer.println("  public String toString() {");
+        writer.println("    return slot.get().toString();");
+        writer.println("  }");
+        writer.println("}");
+      }
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.WARNING, "Failed to write Bring scoped proxy: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Writes delegating methods of all interfaces
+   *
+   * @return source of the methods or empty if an interface can't be proxied by plain code
+   */
+  private Optional<List<String>> proxyMethods(String packageName, List<DeclaredType> interfaces) {
+    var typeUtils = processingEnv.getTypeUtils();
+    Set<String> signatures = new HashSet<>();
+    List<String> methods = new ArrayList<>();
+    for (var anInterface : interfaces) {
+      var element = (TypeElement) anInterface.asElement();
+      if (!isAccessible(element, packageName) || !isPlain(anInterface)) {
+        return Optional.empty();
+      }
+      for (var method : ElementFilter.methodsIn(element.getEnclosedElements())) {
+        var modifiers = method.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)) {
+          continue;
+        }
+        if (!method.getTypeParameters().isEmpty()) {
+          return Optional.empty();
+        }
+        var type = (ExecutableType) typeUtils.asMemberOf(anInterface, method);
+        var erasedParameters =
+            type.getParameterTypes().stream()
+                .map(parameter -> typeUtils.erasure(parameter).toString())
+                .collect(Collectors.joining(","));
+        if (!signatures.add(method.getSimpleName() + "(" + erasedParameters + ")")) {
+          continue;
+        }
+        if (!isPlain(type.getReturnType())
+            || !type.getParameterTypes().stream().allMatch(this::isPlain)) {
+          return Optional.empty();
+        }
+        methods.add(delegatingMethod(anInterface, method, type));
+      }
+    }
+    return Optional.of(methods);
+  }
+
+  private String delegatingMethod(
+      DeclaredType anInterface, ExecutableElement method, ExecutableType type) {
+    var parameters = new ArrayList<String>();
+    var arguments = new ArrayList<String>();
+    for (int i = 0; i < type.getParameterTypes().size(); i++) {
+      parameters.add(type.getParameterTypes().get(i) + " arg" + i);
+      arguments.add("arg" + i);
+    }
+    var thrown =
+        type.getThrownTypes().isEmpty()
+            ? ""
+            : " throws "
+                + type.getThrownTypes().stream()
+                    .map(TypeMirror::toString)
+                    .collect(Collectors.joining(", "));
+    var call =
+        "(("
+            + anInterface
+            + ") slot.get())."
+            + method.getSimpleName()
+            + "("
+            + String.join(", ", arguments)
+            + ")";
+    var isVoid = type.getReturnType().getKind() == TypeKind.VOID;
+    return "\n  @Override\n  public "
+        + type.getReturnType()
+        + " "
+        + method.getSimpleName()
+        + "("
+        + String.join(", ", parameters)
+        + ")"
+        + thrown
+        + " {\n    "
+        + (isVoid ? "" : "return ")
+        + call
+        + ";\n  }\n";
+  }
+
+  /** Checks that a type doesn't refer to type variables, which a proxy can't declare */
+  private boolean isPlain(TypeMirror type) {
+    return switch (type.getKind()) {
+      case TYPEVAR, INTERSECTION, UNION, ERROR -> false;
+      case ARRAY -> isPlain(((ArrayType) type).getComponentType());
+      case WILDCARD -> {
+        var wildcard = (WildcardType) type;
+        yield (wildcard.getExtendsBound() == null || isPlain(wildcard.getExtendsBound()))
+            && (wildcard.getSuperBound() == null || isPlain(wildcard.getSuperBound()));
+      }
+      case DECLARED -> ((DeclaredType) type).getTypeArguments().stream().allMatch(this::isPlain);
+      default -> true;
+    };
+  }
+
+  /** Checks that the element and all of its enclosing types can be referenced from the package */
+  private boolean isAccessible(Element element, String packageName) {
+    for (var current = element;
+        current != null && current.getKind() != ElementKind.PACKAGE;
+        current = current.getEnclosingElement()) {
+      var modifiers = current.getModifiers();
+      if (modifiers.contains(Modifier.PRIVATE)
+          || (!modifiers.contains(Modifier.PUBLIC)
+              && !processingEnv
+                  .getElementUtils()
+                  .getPackageOf(current)
+                  .getQualifiedName()
+                  .contentEquals(packageName))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean isAnnotatedWith(Element element, String annotation) {
+    return element.getAnnotationMirrors().stream()
+        .anyMatch(mirror -> mirror.getAnnotationType().toString().equals(annotation));
+  }
+
+  /** Returns the name of the {@code scope} enum constant of the annotation or null if not set */
+  private String scopeOf(Element element, String annotation) {
+    for (var mirror : element.getAnnotationMirrors()) {
+      if (mirror.getAnnotationType().toString().equals(annotation)) {
+        for (var entry : mirror.getElementValues().entrySet()) {
+          if (entry.getKey().getSimpleName().contentEquals("scope")) {
+            return entry.getValue().getValue().toString();
+          }
+        }
+      }
+    }
+    return null;
+  }
+}
@@ -10,11 +10,33 @@ import org.blyznytsia.model.BeanDefinition;
  * org.blyznytsia.annotation.Component Component}, {@link org.blyznytsia.annotation.Configuration
  * Configuration}, {@link org.blyznytsia.annotation.Bean Bean}
  *
+ * <p>Candidates are looked up in {@link ClasspathMetadata} that is read from the {@link
+ * ComponentIndex} built at compile time if it is present, otherwise the classpath is scanned.
+ *
  * @see org.blyznytsia.annotation.Component
  * @see org.blyznytsia.annotation.Configuration
  * @see org.blyznytsia.annotation.Bean
+ * @see ClasspathMetadata
  */
 public interface BeanScanner {
 
+  /**
+   * Scans the package and builds bean definitions
+   *
+   * @param packageName package to scan
+   * @return {@link Set} of bean definitions
+   */
   Set<BeanDefinition> scan(String packageName);
+
+  /**
+   * Builds bean definitions for the package from metadata collected once for the whole context.
+   * Scanners that don't override it scan the package on their own with {@link #scan(String)}.
+   *
+   * @param packageName package to scan
+   * @param metadata {@link ClasspathMetadata} that covers the package
+   * @return {@link Set} of bean definitions
+   */
+  default Set<BeanDefinition> scan(String packageName, ClasspathMetadata metadata) {
+    return scan(packageName);
+  }
 }
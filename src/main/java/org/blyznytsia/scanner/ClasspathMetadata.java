@@ -0,0 +1,268 @@
+package org.blyznytsia.scanner;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.blyznytsia.annotation.Bean;
+import org.blyznytsia.annotation.Component;
+import org.blyznytsia.annotation.Configuration;
+import org.blyznytsia.bpp.BeanPostProcessor;
+import org.blyznytsia.validator.BeanValidator;
+import org.reflections.Reflections;
+import org.reflections.scanners.Scanners;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+
+/**
+ * Immutable metadata of Bring types collected by a single scan of several packages. It maps
+ * annotations to annotated types, framework extension interfaces to their implementations and types
+ * to their {@link Bean} methods, so scanners, validators and post-processors discovery share one
+ * scan instead of scanning the classpath on their own.
+ *
+ * <p>Metadata of packages covered by the {@link ComponentIndex} is read from the index. Other
+ * packages are scanned once, classpath entries in parallel.
+ *
+ * @see ComponentIndex
+ * @see BeanScanner
+ */
+@Slf4j
+public class ClasspathMetadata {
+
+  /** Annotations whose annotated types are collected */
+  private static final List<Class<? extends Annotation>> TYPE_ANNOTATIONS =
+      List.of(Component.class, Configuration.class);
+
+  /** Framework extension interfaces whose implementations are collected */
+  private static final List<Class<?>> EXTENSIONS =
+      List.of(BeanScanner.class, BeanValidator.class, BeanPostProcessor.class);
+
+  private final Map<Class<? extends Annotation>, Set<Class<?>>> typesByAnnotation;
+  private final Map<Class<?>, Set<Class<?>>> implementationsByExtension;
+  private final Map<Class<?>, List<Method>> beanMethodsByType;
+
+  private ClasspathMetadata(
+      Map<Class<? extends Annotation>, Set<Class<?>>> typesByAnnotation,
+      Map<Class<?>, Set<Class<?>>> implementationsByExtension,
+      Map<Class<?>, List<Method>> beanMethodsByType) {
+    this.typesByAnnotation = Map.copyOf(typesByAnnotation);
+    this.implementationsByExtension = Map.copyOf(implementationsByExtension);
+    this.beanMethodsByType = Map.copyOf(beanMethodsByType);
+  }
+
+  /**
+   * Collects metadata of the given packages and their subpackages, reading the {@link
+   * ComponentIndex} for the packages it contains and scanning the classpath for the others. Indexed
+   * packages are also scanned in classpath entries that have no index, e.g. jars built without the
+   * processor.
+   *
+   * @param packageNames packages to scan
+   * @return {@link ClasspathMetadata}
+   */
+  public static ClasspathMetadata scan(@NonNull String... packageNames) {
+    var index = ComponentIndex.find();
+    if (index.isEmpty()) {
+      return scanClasspath(packageNames);
+    }
+
+    var indexed = Arrays.stream(packageNames).filter(index.get()::contains).toArray(String[]::new);
+    if (indexed.length == 0) {
+      return scanClasspath(packageNames);
+    }
+    var metadata = fromIndex(index.get(), indexed);
+
+    var scanned =
+        Arrays.stream(packageNames)
+            .filter(packageName -> !index.get().contains(packageName))
+            .toArray(String[]::new);
+    if (scanned.length > 0) {
+      log.debug("Packages {} are not covered by component index", Arrays.toString(scanned));
+      metadata = metadata.merge(scanClasspath(scanned));
+    }
+
+    var unindexedLocations =
+        Arrays.stream(indexed)
+            .flatMap(packageName -> index.get().findUnindexedLocations(packageName).stream())
+            .collect(Collectors.toSet());
+    if (!unindexedLocations.isEmpty()) {
+      log.debug("Classpath entries {} are not covered by component index", unindexedLocations);
+      metadata = metadata.merge(scanLocations(unindexedLocations, indexed));
+    }
+    return metadata;
+  }
+
+  /**
+   * Combines metadata of different packages
+   *
+   * @param other metadata of other packages
+   * @return {@link ClasspathMetadata} with the types and methods of both
+   */
+  ClasspathMetadata merge(ClasspathMetadata other) {
+    Map<Class<?>, List<Method>> beanMethods = new HashMap<>(beanMethodsByType);
+    beanMethods.putAll(other.beanMethodsByType);
+    return new ClasspathMetadata(
+        union(typesByAnnotation, other.typesByAnnotation),
+        union(implementationsByExtension, other.implementationsByExtension),
+        beanMethods);
+  }
+
+  private static <K, T> Map<K, Set<T>> union(Map<K, Set<T>> first, Map<K, Set<T>> second) {
+    Map<K, Set<T>> result = new HashMap<>();
+    first.forEach((key, types) -> result.computeIfAbsent(key, k -> new HashSet<>()).addAll(types));
+    second.forEach((key, types) -> result.computeIfAbsent(key, k -> new HashSet<>()).addAll(types));
+    return result;
+  }
+
+  /**
+   * Collects metadata of the given packages from a {@link ComponentIndex}
+   *
+   * @param index component index
+   * @param packageNames packages to collect
+   * @return {@link ClasspathMetadata}
+   */
+  static ClasspathMetadata fromIndex(ComponentIndex index, String... packageNames) {
+    log.debug(
+        "Reading metadata of {} packages from component index", Arrays.toString(packageNames));
+    Map<Class<? extends Annotation>, Set<Class<?>>> typesByAnnotation = new HashMap<>();
+    Map<Class<?>, Set<Class<?>>> implementationsByExtension = new HashMap<>();
+    Set<Class<?>> beanDeclaringTypes = new HashSet<>();
+
+    for (var packageName : packageNames) {
+      TYPE_ANNOTATIONS.forEach(
+          annotation ->
+              typesByAnnotation
+                  .computeIfAbsent(annotation, key -> new HashSet<>())
+                  .addAll(index.getTypesAnnotatedWith(packageName, annotation)));
+      EXTENSIONS.forEach(
+          extension ->
+              implementationsByExtension
+                  .computeIfAbsent(extension, key -> new HashSet<>())
+                  .addAll(index.getSubTypesOf(packageName, extension)));
+      beanDeclaringTypes.addAll(index.getTypesAnnotatedWith(packageName, Bean.class));
+    }
+
+    var beanMethods =
+        beanDeclaringTypes.stream()
+            .flatMap(type -> Arrays.stream(type.getDeclaredMethods()))
+            .filter(method -> method.isAnnotationPresent(Bean.class))
+            .toList();
+
+    return new ClasspathMetadata(
+        typesByAnnotation, implementationsByExtension, groupByDeclaringType(beanMethods));
+  }
+
+  /**
+   * Collects metadata of the given packages with a single scan of the classpath. Classpath entries
+   * are scanned in parallel.
+   *
+   * @param packageNames packages to scan
+   * @return {@link ClasspathMetadata}
+   */
+  static ClasspathMetadata scanClasspath(String... packageNames) {
+    log.debug("Scanning classpath for {} packages", Arrays.toString(packageNames));
+    return collect(new ConfigurationBuilder().forPackages(packageNames), packageNames);
+  }
+
+  /**
+   * Collects metadata of the given packages with a single scan of the given classpath entries
+   *
+   * @param locations classpath entries to scan
+   * @param packageNames packages to scan
+   * @return {@link ClasspathMetadata}
+   */
+  static ClasspathMetadata scanLocations(Collection<URL> locations, String... packageNames) {
+    log.debug("Scanning {} for {} packages", locations, Arrays.toString(packageNames));
+    return collect(new ConfigurationBuilder().setUrls(locations), packageNames);
+  }
+
+  private static ClasspathMetadata collect(
+      ConfigurationBuilder configuration, String[] packageNames) {
+    var filter = new FilterBuilder();
+    Arrays.stream(packageNames).forEach(filter::includePackage);
+    var reflections =
+        new Reflections(
+            configuration
+                .filterInputsBy(filter)
+                .setScanners(Scanners.TypesAnnotated, Scanners.SubTypes, Scanners.MethodsAnnotated)
+                .setParallel(true));
+
+    Map<Class<? extends Annotation>, Set<Class<?>>> typesByAnnotation = new HashMap<>();
+    TYPE_ANNOTATIONS.forEach(
+        annotation ->
+            typesByAnnotation.put(annotation, reflections.getTypesAnnotatedWith(annotation)));
+
+    Map<Class<?>, Set<Class<?>>> implementationsByExtension = new HashMap<>();
+    EXTENSIONS.forEach(
+        extension ->
+            implementationsByExtension.put(
+                extension, new HashSet<>(reflections.getSubTypesOf(extension))));
+
+    return new ClasspathMetadata(
+        typesByAnnotation,
+        implementationsByExtension,
+        groupByDeclaringType(reflections.getMethodsAnnotatedWith(Bean.class)));
+  }
+
+  /**
+   * Finds types annotated with the given annotation
+   *
+   * @param packageName package of the types including its subpackages
+   * @param annotation {@link Component} or {@link Configuration}
+   * @return {@link Set} of annotated types
+   */
+  public Set<Class<?>> getTypesAnnotatedWith(
+      String packageName, Class<? extends Annotation> annotation) {
+    return inPackage(packageName, typesByAnnotation.get(annotation));
+  }
+
+  /**
+   * Finds implementations of a framework extension interface
+   *
+   * @param packageName package of the types including its subpackages
+   * @param type {@link BeanScanner}, {@link BeanValidator} or {@link BeanPostProcessor}
+   * @return {@link Set} of implementations
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Set<Class<? extends T>> getSubTypesOf(String packageName, Class<T> type) {
+    return inPackage(packageName, implementationsByExtension.get(type)).stream()
+        .map(subType -> (Class<? extends T>) subType)
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+  /**
+   * Finds methods annotated with {@link Bean} declared by the given type
+   *
+   * @param type declaring type
+   * @return {@link List} of {@link Bean} methods, empty if there are no such methods
+   */
+  public List<Method> getBeanMethods(Class<?> type) {
+    return beanMethodsByType.getOrDefault(type, Collections.emptyList());
+  }
+
+  private static Set<Class<?>> inPackage(String packageName, Collection<Class<?>> types) {
+    if (types == null) {
+      return Collections.emptySet();
+    }
+    return types.stream()
+        .filter(type -> type.getName().startsWith(packageName + "."))
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+  private static Map<Class<?>, List<Method>> groupByDeclaringType(Collection<Method> methods) {
+    return methods.stream()
+        .collect(
+            Collectors.groupingBy(
+                Method::getDeclaringClass,
+                Collectors.collectingAndThen(Collectors.toList(), List::copyOf)));
+  }
+}
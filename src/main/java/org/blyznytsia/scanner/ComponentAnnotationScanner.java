@@ -1,16 +1,17 @@
 package org.blyznytsia.scanner;
 
 import java.lang.reflect.Constructor;
-import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.blyznytsia.annotation.Autowired;
 import org.blyznytsia.annotation.Component;
+import org.blyznytsia.annotation.Lazy;
 import org.blyznytsia.model.BeanDefinition;
+import org.blyznytsia.model.DependencyDescriptor;
 import org.blyznytsia.util.BeanDefinitionUtils;
-import org.reflections.Reflections;
 
 /** Scanner for the @{@link Component} annotation. */
 @Slf4j
@@ -19,9 +20,6 @@ public class ComponentAnnotationScanner implements BeanScanner {
   /** Constant of type {@link Class} that represents @{@link Component} annotation */
   private static final Class<Component> COMPONENT_ANNOTATION = Component.class;
 
-  /** Constant of type {@link Class} that represents @{@link Autowired} annotation */
-  private static final Class<Autowired> AUTOWIRED_ANNOTATION = Autowired.class;
-
   /**
    * Scans packages to find classes annotated with @{@link Component} annotation
    *
@@ -30,7 +28,7 @@ public class ComponentAnnotationScanner implements BeanScanner {
    * 1. Scan provided package
    * 2. Find all classes annotated with @{@link Component} annotation
    * 3. Create {@link BeanDefinition} based on these classes
-   * 4. If the class has fields annotated with @{@link Autowired} annotation, then add dependencies to {@link BeanDefinition#dependsOnBeans}
+   * 4. If the class has fields annotated with @{@link Autowired} annotation, then add dependencies to {@link BeanDefinition#getFieldDependencies()}
    * 5. Return {@link java.util.Set} of {@link BeanDefinition}
    * </pre>
    *
@@ -39,10 +37,23 @@ public class ComponentAnnotationScanner implements BeanScanner {
    */
   @Override
   public Set<BeanDefinition> scan(@NonNull String packageName) {
+    return scan(packageName, ClasspathMetadata.scan(packageName));
+  }
+
+  /**
+   * Finds classes annotated with @{@link Component} annotation in shared {@link ClasspathMetadata}
+   * and creates {@link BeanDefinition} based on these classes
+   *
+   * @param packageName object of type {@link String} that represents packages to scan
+   * @param metadata {@link ClasspathMetadata} that covers the package
+   * @return {@link java.util.Set} of {@link BeanDefinition}
+   */
+  @Override
+  public Set<BeanDefinition> scan(
+      @NonNull String packageName, @NonNull ClasspathMetadata metadata) {
     log.info("Scanning '{}' package for classes annotated wth @Component", packageName);
 
-    var reflections = new Reflections(packageName);
-    var targetClasses = reflections.getTypesAnnotatedWith(COMPONENT_ANNOTATION);
+    var targetClasses = metadata.getTypesAnnotatedWith(packageName, COMPONENT_ANNOTATION);
 
     log.debug("Found @Component classes: {}", targetClasses);
 
@@ -60,13 +71,20 @@ public class ComponentAnnotationScanner implements BeanScanner {
    */
   private BeanDefinition createBeanDefinition(Class<?> targetClass) {
     Constructor<?> constructor = BeanDefinitionUtils.findConstructor(targetClass);
-    Set<String> constructorDeps = BeanDefinitionUtils.findRequiredDependencies(constructor);
+    List<DependencyDescriptor> constructorDeps =
+        BeanDefinitionUtils.describeDependencies(constructor);
+    List<DependencyDescriptor> fieldDeps = BeanDefinitionUtils.describeAutowiredFields(targetClass);
 
     return BeanDefinition.builder()
         .type(targetClass)
         .name(resolveBeanName(targetClass))
-        .requiredDependencies(constructorDeps)
-        .fieldDependencies(findAutowiredFields(targetClass))
+        .scope(targetClass.getAnnotation(COMPONENT_ANNOTATION).scope())
+        .lazy(targetClass.isAnnotationPresent(Lazy.class))
+        .requiredDependencies(BeanDefinitionUtils.toBeanNames(constructorDeps))
+        .parameterDependencies(constructorDeps)
+        .fieldDependencies(BeanDefinitionUtils.toBeanNames(fieldDeps))
+        .autowiredDependencies(fieldDeps)
+        .valueKeys(BeanDefinitionUtils.findValueKeys(targetClass))
         .constructor(constructor)
         .build();
   }
@@ -83,16 +101,4 @@ public class ComponentAnnotationScanner implements BeanScanner {
         ? BeanDefinitionUtils.resolveBeanName(targetClass)
         : annotationValue;
   }
-
-  /**
-   * @param targetClass object of type {@link Class} that is annotated with @{@link Component}
-   *     annotation
-   * @return {@link java.util.Set} of {@link String} that represents bean dependencies
-   */
-  private Set<String> findAutowiredFields(Class<?> targetClass) {
-    return Arrays.stream(targetClass.getDeclaredFields())
-        .filter(f -> f.isAnnotationPresent(AUTOWIRED_ANNOTATION))
-        .map(f -> resolveBeanName(f.getType()))
-        .collect(Collectors.toSet());
-  }
 }
@@ -0,0 +1,242 @@
+package org.blyznytsia.scanner;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.blyznytsia.exception.BringException;
+import org.blyznytsia.processor.ComponentIndexProcessor;
+
+/**
+ * Index of Bring types written at compile time by {@link ComponentIndexProcessor}. All indexes
+ * found on the classpath are merged, so looking up types costs time proportional to the number of
+ * indexed types rather than to the size of the classpath.
+ *
+ * <p>Every index also lists the packages it was compiled from. An index is used only for packages
+ * it covers, so packages compiled without the processor are still found by classpath scanning.
+ * Coverage is checked per classpath entry: a package, e.g. {@code com.acme}, whose subpackages are
+ * indexed in one jar and compiled without the processor in another is covered only by the first
+ * jar, the second one is scanned. Indexes are loaded once per context class loader.
+ *
+ * @see ComponentIndexProcessor
+ */
+@Slf4j
+public class ComponentIndex {
+
+  /** Indexes by class loader, weakly keyed so that indexes don't keep class loaders alive */
+  private static final Map<ClassLoader, Optional<ComponentIndex>> INDEXES =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  private final WeakReference<ClassLoader> classLoader;
+  /** Class names by stereotype */
+  private final Map<String, Set<String>> classNames;
+  /** Packages whose types were compiled with the processor */
+  private final Set<String> packages;
+  /** Classpath entries that contain an index, as URLs ending with a slash */
+  private final Set<String> indexedLocations;
+  /** Classpath entries without an index by package, looked up once per package */
+  private final Map<String, Set<URL>> unindexedLocations = new ConcurrentHashMap<>();
+
+  private ComponentIndex(
+      ClassLoader classLoader,
+      Map<String, Set<String>> classNames,
+      Set<String> packages,
+      Set<String> indexedLocations) {
+    this.classLoader = new WeakReference<>(classLoader);
+    this.classNames = classNames;
+    this.packages = packages;
+    this.indexedLocations = indexedLocations;
+  }
+
+  /**
+   * Returns indexes found by the context class loader of the current thread, or by the class loader
+   * of Bring if there is no context class loader
+   *
+   * @return {@link Optional} with {@link ComponentIndex} or empty if no index was built
+   */
+  public static Optional<ComponentIndex> find() {
+    var classLoader =
+        Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+            .orElse(ComponentIndex.class.getClassLoader());
+    return INDEXES.computeIfAbsent(classLoader, loader -> Optional.ofNullable(load(loader)));
+  }
+
+  /**
+   * Checks whether the index contains a package, i.e. the package or one of its subpackages was
+   * compiled with {@link ComponentIndexProcessor}. Other classpath entries may still contain types
+   * of the package, see {@link #findUnindexedLocations(String)}.
+   *
+   * @param packageName package of the types including its subpackages
+   * @return true if some types of the package can be looked up in the index
+   */
+  public boolean contains(String packageName) {
+    return packages.contains(packageName)
+        || packages.stream().anyMatch(indexed -> indexed.startsWith(packageName + "."));
+  }
+
+  /**
+   * Checks whether the index covers a package, i.e. the package is indexed and every classpath
+   * entry that contains it has an index
+   *
+   * @param packageName package of the types including its subpackages
+   * @return true if all types of the package can be looked up in the index
+   */
+  public boolean covers(String packageName) {
+    return contains(packageName) && findUnindexedLocations(packageName).isEmpty();
+  }
+
+  /**
+   * Finds classpath entries that contain a package but no index, e.g. jars built without {@link
+   * ComponentIndexProcessor}. Types of the package in these entries have to be scanned.
+   *
+   * @param packageName package of the types including its subpackages
+   * @return {@link Set} of classpath entry URLs, empty if the index covers the package
+   */
+  public Set<URL> findUnindexedLocations(String packageName) {
+    return unindexedLocations.computeIfAbsent(packageName, this::lookupUnindexedLocations);
+  }
+
+  private Set<URL> lookupUnindexedLocations(String packageName) {
+    var path = packageName.replace('.', '/');
+    Set<URL> locations = new HashSet<>();
+    try {
+      var resources = getClassLoader().getResources(path);
+      while (resources.hasMoreElements()) {
+        var location = locationOf(resources.nextElement(), path);
+        if (!indexedLocations.contains(location)) {
+          locations.add(new URL(location));
+        }
+      }
+    } catch (IOException e) {
+      throw new BringException("Failed to find classpath entries of package " + packageName, e);
+    }
+    if (!locations.isEmpty()) {
+      log.debug("Package {} is not indexed in {}", packageName, locations);
+    }
+    return Set.copyOf(locations);
+  }
+
+  private static String locationOf(URL resource, String path) {
+    var url = resource.toExternalForm();
+    return url.substring(0, url.lastIndexOf(path));
+  }
+
+  /**
+   * Finds indexed types annotated with the given annotation
+   *
+   * @param packageName package of the types including its subpackages
+   * @param annotation {@link org.blyznytsia.annotation.Component}, {@link
+   *     org.blyznytsia.annotation.Configuration} or {@link org.blyznytsia.annotation.Bean}
+   * @return {@link Set} of annotated types, for {@link org.blyznytsia.annotation.Bean} types that
+   *     declare annotated methods
+   */
+  public Set<Class<?>> getTypesAnnotatedWith(
+      String packageName, Class<? extends Annotation> annotation) {
+    return loadClasses(packageName, annotation.getName());
+  }
+
+  /**
+   * Finds names of indexed types annotated with the given annotation without loading them
+   *
+   * @param packageName package of the types including its subpackages
+   * @param annotation {@link org.blyznytsia.annotation.Component}, {@link
+   *     org.blyznytsia.annotation.Configuration} or {@link org.blyznytsia.annotation.Bean}
+   * @return {@link Set} of binary names of annotated types
+   */
+  public Set<String> getTypeNamesAnnotatedWith(
+      String packageName, Class<? extends Annotation> annotation) {
+    Set<String> names = new HashSet<>();
+    for (var className : classNames.getOrDefault(annotation.getName(), Collections.emptySet())) {
+      if (className.startsWith(packageName + ".")) {
+        names.add(className);
+      }
+    }
+    return names;
+  }
+
+  /**
+   * Finds indexed implementations of a framework extension interface
+   *
+   * @param packageName package of the types including its subpackages
+   * @param type {@link BeanScanner}, {@link org.blyznytsia.validator.BeanValidator} or {@link
+   *     org.blyznytsia.bpp.BeanPostProcessor}
+   * @return {@link Set} of implementations
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Set<Class<? extends T>> getSubTypesOf(String packageName, Class<T> type) {
+    Set<Class<? extends T>> subTypes = new HashSet<>();
+    loadClasses(packageName, type.getName()).forEach(c -> subTypes.add((Class<? extends T>) c));
+    return subTypes;
+  }
+
+  private ClassLoader getClassLoader() {
+    var classLoader = this.classLoader.get();
+    if (classLoader == null) {
+      throw new IllegalStateException("Class loader of the component index has been collected");
+    }
+    return classLoader;
+  }
+
+  private Set<Class<?>> loadClasses(String packageName, String stereotype) {
+    var classLoader = getClassLoader();
+    Set<Class<?>> classes = new HashSet<>();
+    for (var className : classNames.getOrDefault(stereotype, Collections.emptySet())) {
+      if (className.startsWith(packageName + ".")) {
+        try {
+          classes.add(Class.forName(className, false, classLoader));
+        } catch (ClassNotFoundException e) {
+          throw new BringException("Failed to load indexed class " + className, e);
+        }
+      }
+    }
+    return classes;
+  }
+
+  private static ComponentIndex load(ClassLoader classLoader) {
+    try {
+      var resources = classLoader.getResources(ComponentIndexProcessor.INDEX_LOCATION);
+      if (!resources.hasMoreElements()) {
+        log.debug("No component index found, falling back to classpath scanning");
+        return null;
+      }
+
+      Map<String, Set<String>> classNames = new HashMap<>();
+      Set<String> packages = new HashSet<>();
+      Set<String> indexedLocations = new HashSet<>();
+      while (resources.hasMoreElements()) {
+        var url = resources.nextElement();
+        log.debug("Loading component index from {}", url);
+        indexedLocations.add(locationOf(url, ComponentIndexProcessor.INDEX_LOCATION));
+        var properties = new Properties();
+        try (var inputStream = url.openStream()) {
+          properties.load(inputStream);
+        }
+        properties.forEach(
+            (className, stereotypes) -> {
+              if (ComponentIndexProcessor.PACKAGE.equals(stereotypes)) {
+                packages.add((String) className);
+                return;
+              }
+              for (var stereotype : ((String) stereotypes).split(",")) {
+                classNames
+                    .computeIfAbsent(stereotype.trim(), s -> new HashSet<>())
+                    .add((String) className);
+              }
+            });
+      }
+      return new ComponentIndex(classLoader, classNames, packages, indexedLocations);
+    } catch (IOException e) {
+      throw new BringException("Failed to load component index", e);
+    }
+  }
+}
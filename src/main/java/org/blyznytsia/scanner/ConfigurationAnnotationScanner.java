@@ -1,19 +1,19 @@
 package org.blyznytsia.scanner;
 
 import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.blyznytsia.annotation.Bean;
 import org.blyznytsia.annotation.Configuration;
+import org.blyznytsia.annotation.Lazy;
 import org.blyznytsia.model.BeanDefinition;
 import org.blyznytsia.util.BeanDefinitionUtils;
-import org.reflections.Reflections;
 
 /**
  * Classpath scanner responsible for finding Java configuration classes with beans declared in these
@@ -32,18 +32,30 @@ public class ConfigurationAnnotationScanner implements BeanScanner {
    */
   @Override
   public Set<BeanDefinition> scan(@NonNull String packageName) {
-    if (packageName.isBlank()) {
-      throw new IllegalArgumentException("Blank package isn't allowed");
-    }
+    validatePackage(packageName);
+    return scan(packageName, ClasspathMetadata.scan(packageName));
+  }
+
+  /**
+   * Finds configuration classes in shared {@link ClasspathMetadata} and builds {@link
+   * BeanDefinition} out of their methods annotated with {@link Bean}.
+   *
+   * @param packageName package to be scanned
+   * @param metadata {@link ClasspathMetadata} that covers the package
+   * @return a set of created {@link BeanDefinition}
+   */
+  @Override
+  public Set<BeanDefinition> scan(
+      @NonNull String packageName, @NonNull ClasspathMetadata metadata) {
+    validatePackage(packageName);
 
     log.info("Scanning '{}' package for classes annotated wth @Configuration", packageName);
-    var configurationsClasses =
-        new Reflections(packageName).getTypesAnnotatedWith(Configuration.class);
+    var configurationsClasses = metadata.getTypesAnnotatedWith(packageName, Configuration.class);
     log.debug("Found configurations classes: {}", configurationsClasses);
 
     var allDefinitions =
         configurationsClasses.stream()
-            .map(this::createDefinitionsForDeclaredBeans)
+            .map(configClass -> createDefinitionsForDeclaredBeans(configClass, metadata))
             .flatMap(Collection::stream)
             .collect(Collectors.toCollection(HashSet::new));
 
@@ -52,23 +64,35 @@ public class ConfigurationAnnotationScanner implements BeanScanner {
     return allDefinitions;
   }
 
-  private Set<BeanDefinition> createDefinitionsForDeclaredBeans(Class<?> configClass) {
-    return Arrays.stream(configClass.getDeclaredMethods())
-        .filter(m -> m.isAnnotationPresent(Bean.class))
+  private void validatePackage(String packageName) {
+    if (packageName.isBlank()) {
+      throw new IllegalArgumentException("Blank package isn't allowed");
+    }
+  }
+
+  private Set<BeanDefinition> createDefinitionsForDeclaredBeans(
+      Class<?> configClass, ClasspathMetadata metadata) {
+    return metadata.getBeanMethods(configClass).stream()
         .map(m -> createDefinition(configClass, m))
         .collect(Collectors.toSet());
   }
 
   private BeanDefinition createDefinition(Class<?> configClass, Method method) {
+    var parameterDependencies = BeanDefinitionUtils.describeDependencies(method);
     return BeanDefinition.builder()
         .configClass(configClass)
         .configClassDependency(true)
         .beanMethod(method)
         .name(resolveBeanNameFromMethod(method))
-        .type(method.getReturnType())
+        .type(BeanDefinitionUtils.resolveBeanType(method))
         .initMethod(method.getAnnotation(Bean.class).initMethod())
+        .scope(method.getAnnotation(Bean.class).scope())
+        .lazy(method.isAnnotationPresent(Lazy.class))
         .fieldDependencies(Collections.emptySet())
-        .requiredDependencies(BeanDefinitionUtils.findRequiredDependencies(method))
+        .autowiredDependencies(List.of())
+        .valueKeys(List.of())
+        .requiredDependencies(BeanDefinitionUtils.toBeanNames(parameterDependencies))
+        .parameterDependencies(parameterDependencies)
         .build();
   }
 
@@ -0,0 +1,127 @@
+package org.blyznytsia.scanner;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.blyznytsia.exception.NoUniqueBeanException;
+import org.blyznytsia.model.BeanDefinition;
+import org.blyznytsia.model.DependencyDescriptor;
+import org.blyznytsia.util.BeanDefinitionUtils;
+
+/**
+ * Resolves dependencies described by scanners to the names of the beans that satisfy them, once all
+ * bean definitions of the context are known.
+ *
+ * <pre>
+ * <b>Rules:</b>
+ * 1. A dependency with {@link org.blyznytsia.annotation.Qualifier} gets the bean of that name
+ * 2. Otherwise it gets the single other bean whose type is assignable to the dependency type
+ * 3. If there are several, it gets the one with the default name of the type, e.g. the value of
+ * {@link org.blyznytsia.annotation.Component}
+ * 4. If there are none, it keeps the default name, so {@link
+ * org.blyznytsia.validator.DependencyValidator} reports it as missing
+ * </pre>
+ *
+ * <p>So interface-typed dependencies, components with custom names and classes with the same simple
+ * name in different packages are injected with the right beans, and {@link
+ * org.blyznytsia.context.ObjectFactory} turns resolved names into indices of its bean array.
+ */
+@Slf4j
+public class DependencyResolver {
+
+  private final Set<BeanDefinition> definitions;
+  /** Candidates of every dependency type, computed once per type */
+  private final Map<Class<?>, List<BeanDefinition>> candidatesByType = new HashMap<>();
+
+  private DependencyResolver(Set<BeanDefinition> definitions) {
+    this.definitions = definitions;
+  }
+
+  /**
+   * Resolves constructor, {@code @Bean} method and field dependencies of bean definitions
+   *
+   * @param definitions bean definitions from all scanners
+   * @return {@link Set} of bean definitions with resolved {@link
+   *     BeanDefinition#getParameterDependencies()} and {@link
+   *     BeanDefinition#getAutowiredDependencies()} and bean names derived from them
+   * @throws NoUniqueBeanException if several beans match a dependency and none of them has the
+   *     default name of its type
+   */
+  public static Set<BeanDefinition> resolve(Set<BeanDefinition> definitions) {
+    var resolver = new DependencyResolver(definitions);
+    var resolved =
+        definitions.stream()
+            .map(resolver::resolveDefinition)
+            .collect(Collectors.toCollection(HashSet::new));
+    log.debug("Resolved dependencies of {} bean definitions", resolved.size());
+    return resolved;
+  }
+
+  private BeanDefinition resolveDefinition(BeanDefinition definition) {
+    if (definition.getParameterDependencies() == null
+        && definition.getAutowiredDependencies() == null) {
+      return definition;
+    }
+
+    var builder = definition.toBuilder();
+    if (definition.getParameterDependencies() != null) {
+      var parameterDependencies = resolveAll(definition, definition.getParameterDependencies());
+      builder
+          .parameterDependencies(parameterDependencies)
+          .requiredDependencies(BeanDefinitionUtils.toBeanNames(parameterDependencies));
+    }
+    if (definition.getAutowiredDependencies() != null) {
+      var autowiredDependencies = resolveAll(definition, definition.getAutowiredDependencies());
+      builder
+          .autowiredDependencies(autowiredDependencies)
+          .fieldDependencies(BeanDefinitionUtils.toBeanNames(autowiredDependencies));
+    }
+    return builder.build();
+  }
+
+  private List<DependencyDescriptor> resolveAll(
+      BeanDefinition definition, List<DependencyDescriptor> dependencies) {
+    return dependencies.stream().map(dependency -> resolve(definition, dependency)).toList();
+  }
+
+  private DependencyDescriptor resolve(BeanDefinition definition, DependencyDescriptor dependency) {
+    if (dependency.isQualified()) {
+      return dependency;
+    }
+
+    var candidates =
+        candidatesOf(dependency.getType()).stream()
+            .filter(candidate -> candidate != definition)
+            .map(BeanDefinition::getName)
+            // duplicate names are reported by org.blyznytsia.validator.BeanNameValidator
+            .distinct()
+            .toList();
+    if (candidates.size() == 1) {
+      return dependency.resolvedTo(candidates.get(0));
+    }
+    if (candidates.isEmpty() || candidates.contains(dependency.getBeanName())) {
+      return dependency;
+    }
+    throw new NoUniqueBeanException(
+        "Bean %s requires a single bean of %s, but %s were found: %s. Use @Qualifier to choose one"
+            .formatted(
+                definition.getName(),
+                dependency.getType().getName(),
+                candidates.size(),
+                candidates.stream().sorted().toList()));
+  }
+
+  private List<BeanDefinition> candidatesOf(Class<?> type) {
+    return candidatesByType.computeIfAbsent(
+        type,
+        key ->
+            definitions.stream()
+                .filter(candidate -> candidate.getType() != null)
+                .filter(candidate -> key.isAssignableFrom(candidate.getType()))
+                .toList());
+  }
+}
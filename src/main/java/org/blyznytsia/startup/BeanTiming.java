@@ -0,0 +1,23 @@
+package org.blyznytsia.startup;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+
+/** Durations of the steps that created a bean during context startup */
+@Getter
+public class BeanTiming {
+
+  private final String name;
+  /** Step durations in the order the steps ran, e.g. instantiate and each post processor */
+  private final Map<String, Long> steps;
+
+  private final long totalNanos;
+
+  BeanTiming(String name, Map<String, Long> steps) {
+    this.name = name;
+    this.steps = Collections.unmodifiableMap(new LinkedHashMap<>(steps));
+    this.totalNanos = steps.values().stream().mapToLong(Long::longValue).sum();
+  }
+}
@@ -0,0 +1,15 @@
+package org.blyznytsia.startup;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** Duration and allocations of a single phase of context startup */
+@Getter
+@RequiredArgsConstructor
+public class PhaseTiming {
+
+  private final String name;
+  private final long durationNanos;
+  /** Bytes allocated by the thread that ran the phase, -1 if not supported by the JVM */
+  private final long allocatedBytes;
+}
@@ -0,0 +1,86 @@
+package org.blyznytsia.startup;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+import org.blyznytsia.model.BeanDefinition;
+
+/**
+ * Collects timings of context startup. Phases are recorded by the thread that creates the context,
+ * bean steps may be recorded concurrently by the threads that create beans.
+ *
+ * @see StartupReport
+ */
+public class StartupRecorder {
+
+  private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = allocationMxBean();
+
+  private final long startNanos = System.nanoTime();
+  private final Collection<PhaseTiming> phases = new ConcurrentLinkedQueue<>();
+  private final Map<String, Map<String, Long>> beanSteps = new ConcurrentHashMap<>();
+
+  /**
+   * Runs a phase and records its duration and allocations
+   *
+   * @param name name of the phase
+   * @param action phase to run
+   * @return result of the phase
+   */
+  public <T> T phase(String name, Supplier<T> action) {
+    var allocatedBefore = allocatedBytes();
+    var start = System.nanoTime();
+    try {
+      return action.get();
+    } finally {
+      var duration = System.nanoTime() - start;
+      var allocated = allocatedBefore < 0 ? -1 : allocatedBytes() - allocatedBefore;
+      phases.add(new PhaseTiming(name, duration, allocated));
+    }
+  }
+
+  /**
+   * Records a step of bean creation. Steps of a single bean are recorded by a single thread.
+   *
+   * @param beanName name of the bean
+   * @param step name of the step, e.g. instantiate or a post processor
+   * @param durationNanos duration of the step
+   */
+  public void recordStep(String beanName, String step, long durationNanos) {
+    beanSteps
+        .computeIfAbsent(beanName, name -> new LinkedHashMap<>())
+        .merge(step, durationNanos, Long::sum);
+  }
+
+  /**
+   * Builds the report of a started context
+   *
+   * @param definitions definitions of the beans to compute the critical path
+   * @return {@link StartupReport}
+   */
+  public StartupReport toReport(Set<BeanDefinition> definitions) {
+    List<BeanTiming> beans = new ArrayList<>();
+    beanSteps.forEach((name, steps) -> beans.add(new BeanTiming(name, steps)));
+    return new StartupReport(
+        System.nanoTime() - startNanos, List.copyOf(phases), beans, definitions);
+  }
+
+  private static long allocatedBytes() {
+    return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : -1;
+  }
+
+  private static com.sun.management.ThreadMXBean allocationMxBean() {
+    if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean mxBean
+        && mxBean.isThreadAllocatedMemorySupported()
+        && mxBean.isThreadAllocatedMemoryEnabled()) {
+      return mxBean;
+    }
+    return null;
+  }
+}
@@ -0,0 +1,228 @@
+package org.blyznytsia.startup;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.blyznytsia.jfr.BeanStartupEvent;
+import org.blyznytsia.jfr.StartupPhaseEvent;
+import org.blyznytsia.model.BeanDefinition;
+
+/**
+ * Immutable report of context startup with timings of each phase and each bean, and the critical
+ * path through the dependency graph: the chain of dependent beans with the largest total creation
+ * time, which bounds startup time even if independent beans are created in parallel.
+ *
+ * <p>Example:
+ *
+ * <pre class=code>
+ *     var report = context.getStartupReport();
+ *     report.getSlowestBeans(5).forEach(bean -> log.info("{}: {} ns", bean.getName(), bean.getTotalNanos()));
+ *     Files.writeString(Path.of("startup.json"), report.toJson());
+ * </pre>
+ */
+@Getter
+public class StartupReport {
+
+  private final long totalNanos;
+  /** Phases in the order they ran */
+  private final List<PhaseTiming> phases;
+  /** Beans created during startup sorted by name */
+  private final List<BeanTiming> beans;
+  /** Names of the beans on the critical path, dependencies first */
+  private final List<String> criticalPath;
+
+  private final long criticalPathNanos;
+
+  StartupReport(
+      long totalNanos,
+      List<PhaseTiming> phases,
+      List<BeanTiming> beans,
+      Set<BeanDefinition> definitions) {
+    this.totalNanos = totalNanos;
+    this.phases = phases;
+    this.beans = beans.stream().sorted(Comparator.comparing(BeanTiming::getName)).toList();
+    this.criticalPath = findCriticalPath(definitions);
+    var beansByName =
+        this.beans.stream().collect(Collectors.toMap(BeanTiming::getName, Function.identity()));
+    this.criticalPathNanos =
+        criticalPath.stream().mapToLong(name -> beansByName.get(name).getTotalNanos()).sum();
+  }
+
+  /**
+   * Returns the beans that took the longest to create
+   *
+   * @param count maximum number of beans
+   * @return beans sorted by total creation time, slowest first
+   */
+  public List<BeanTiming> getSlowestBeans(int count) {
+    return beans.stream()
+        .sorted(Comparator.comparingLong(BeanTiming::getTotalNanos).reversed())
+        .limit(count)
+        .toList();
+  }
+
+  /**
+   * Exports the report as JSON
+   *
+   * @return JSON object with totalNanos, phases, beans, criticalPath and criticalPathNanos
+   */
+  public String toJson() {
+    var json = new StringBuilder();
+    json.append("{\"totalNanos\":").append(totalNanos);
+
+    json.append(",\"phases\":[");
+    for (int i = 0; i < phases.size(); i++) {
+      var phase = phases.get(i);
+      json.append(i > 0 ? "," : "")
+          .append("{\"name\":")
+          .append(quote(phase.getName()))
+          .append(",\"durationNanos\":")
+          .append(phase.getDurationNanos())
+          .append(",\"allocatedBytes\":")
+          .append(phase.getAllocatedBytes())
+          .append('}');
+    }
+
+    json.append("],\"beans\":[");
+    for (int i = 0; i < beans.size(); i++) {
+      var bean = beans.get(i);
+      json.append(i > 0 ? "," : "")
+          .append("{\"name\":")
+          .append(quote(bean.getName()))
+          .append(",\"totalNanos\":")
+          .append(bean.getTotalNanos())
+          .append(",\"steps\":{")
+          .append(
+              bean.getSteps().entrySet().stream()
+                  .map(step -> quote(step.getKey()) + ":" + step.getValue())
+                  .collect(Collectors.joining(",")))
+          .append("}}");
+    }
+
+    json.append("],\"criticalPath\":[")
+        .append(criticalPath.stream().map(StartupReport::quote).collect(Collectors.joining(",")))
+        .append("],\"criticalPathNanos\":")
+        .append(criticalPathNanos)
+        .append('}');
+    return json.toString();
+  }
+
+  /**
+   * Commits the report as {@link StartupPhaseEvent} and {@link BeanStartupEvent} JFR events, so it
+   * can be inspected in a flight recording next to the rest of the application
+   */
+  public void emitJfrEvents() {
+    for (var phase : phases) {
+      var event = new StartupPhaseEvent();
+      if (event.isEnabled()) {
+        event.phase = phase.getName();
+        event.durationNanos = phase.getDurationNanos();
+        event.allocatedBytes = phase.getAllocatedBytes();
+        event.commit();
+      }
+    }
+    for (var bean : beans) {
+      for (var step : bean.getSteps().entrySet()) {
+        var event = new BeanStartupEvent();
+        if (event.isEnabled()) {
+          event.beanName = bean.getName();
+          event.step = step.getKey();
+          event.durationNanos = step.getValue();
+          event.commit();
+        }
+      }
+    }
+  }
+
+  /**
+   * Finds the chain of dependencies with the largest total creation time. Uses an explicit stack,
+   * so deep dependency chains don't overflow the thread stack.
+   *
+   * @param definitions bean definitions with dependencies
+   * @return bean names of the chain, dependencies first
+   */
+  private List<String> findCriticalPath(Set<BeanDefinition> definitions) {
+    Map<String, Long> ownNanos = new HashMap<>();
+    beans.forEach(bean -> ownNanos.put(bean.getName(), bean.getTotalNanos()));
+    Map<String, Set<String>> dependencies = new HashMap<>();
+    for (var definition : definitions) {
+      Set<String> names = new HashSet<>();
+      if (definition.getFieldDependencies() != null) {
+        names.addAll(definition.getFieldDependencies());
+      }
+      if (definition.getRequiredDependencies() != null) {
+        names.addAll(definition.getRequiredDependencies());
+      }
+      names.retainAll(ownNanos.keySet());
+      dependencies.put(definition.getName(), names);
+    }
+
+    Map<String, Long> pathNanos = new HashMap<>();
+    Map<String, String> heaviestDependency = new HashMap<>();
+    Set<String> inProgress = new HashSet<>();
+    for (var root : ownNanos.keySet()) {
+      var stack = new ArrayDeque<String>();
+      stack.push(root);
+      while (!stack.isEmpty()) {
+        var name = stack.peek();
+        if (pathNanos.containsKey(name)) {
+          stack.pop();
+          continue;
+        }
+        inProgress.add(name);
+
+        String pending = null;
+        for (var dependency : dependencies.getOrDefault(name, Set.of())) {
+          if (!pathNanos.containsKey(dependency) && !inProgress.contains(dependency)) {
+            pending = dependency;
+            break;
+          }
+        }
+        if (pending != null) {
+          stack.push(pending);
+          continue;
+        }
+
+        String heaviest = null;
+        for (var dependency : dependencies.getOrDefault(name, Set.of())) {
+          var nanos = pathNanos.get(dependency);
+          if (nanos != null && (heaviest == null || nanos > pathNanos.get(heaviest))) {
+            heaviest = dependency;
+          }
+        }
+        pathNanos.put(name, ownNanos.get(name) + (heaviest != null ? pathNanos.get(heaviest) : 0));
+        heaviestDependency.put(name, heaviest);
+        inProgress.remove(name);
+        stack.pop();
+      }
+    }
+
+    var path = new ArrayList<String>();
+    var current =
+        pathNanos.entrySet().stream()
+            .max(
+                Map.Entry.<String, Long>comparingByValue()
+                    .thenComparing(Map.Entry.comparingByKey()))
+            .map(Map.Entry::getKey)
+            .orElse(null);
+    while (current != null) {
+      path.add(current);
+      current = heaviestDependency.get(current);
+    }
+    Collections.reverse(path);
+    return List.copyOf(path);
+  }
+
+  private static String quote(String value) {
+    return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+  }
+}
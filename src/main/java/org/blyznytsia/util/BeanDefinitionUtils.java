@@ -2,13 +2,20 @@ package org.blyznytsia.util;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
 import org.blyznytsia.annotation.Autowired;
+import org.blyznytsia.annotation.Value;
 import org.blyznytsia.exception.NoDefaultConstructorException;
+import org.blyznytsia.model.DependencyDescriptor;
 
 @UtilityClass
 public class BeanDefinitionUtils {
@@ -18,6 +25,43 @@ public class BeanDefinitionUtils {
         + targetClass.getSimpleName().substring(1);
   }
 
+  /**
+   * Resolves the type of a bean declared by a method annotated with {@link
+   * org.blyznytsia.annotation.Bean}
+   *
+   * @param beanMethod method annotated with {@link org.blyznytsia.annotation.Bean}
+   * @return type of the future value for methods that return {@link CompletableFuture}, {@link
+   *     Object} if it can't be resolved, the return type otherwise
+   */
+  public Class<?> resolveBeanType(Method beanMethod) {
+    if (!CompletableFuture.class.isAssignableFrom(beanMethod.getReturnType())) {
+      return beanMethod.getReturnType();
+    }
+    var valueType = findFutureValueType(beanMethod);
+    return valueType != null ? valueType : Object.class;
+  }
+
+  /**
+   * Finds the type of the value of a {@link CompletableFuture} returned by a method
+   *
+   * @param method method that returns {@code CompletableFuture<T>}
+   * @return {@code T} or its raw type if it is parameterized, null if it is a wildcard or a type
+   *     variable
+   */
+  public Class<?> findFutureValueType(Method method) {
+    if (method.getGenericReturnType() instanceof ParameterizedType futureType
+        && futureType.getRawType() == CompletableFuture.class) {
+      var valueType = futureType.getActualTypeArguments()[0];
+      if (valueType instanceof Class<?> valueClass) {
+        return valueClass;
+      }
+      if (valueType instanceof ParameterizedType parameterizedType) {
+        return (Class<?>) parameterizedType.getRawType();
+      }
+    }
+    return null;
+  }
+
   public Constructor<?> findConstructor(Class<?> type) {
     Constructor<?> defaultConstructor = null;
     Constructor<?> annotatedConstructor = null;
@@ -47,9 +91,71 @@ public class BeanDefinitionUtils {
     return annotatedConstructor != null ? annotatedConstructor : defaultConstructor;
   }
 
+  /**
+   * Describes parameters of a constructor or a method annotated with {@link
+   * org.blyznytsia.annotation.Bean}
+   *
+   * @param executable constructor or method
+   * @return {@link List} of {@link DependencyDescriptor} in parameter order
+   */
+  public List<DependencyDescriptor> describeDependencies(Executable executable) {
+    return Arrays.stream(executable.getParameters())
+        .map(DependencyDescriptor::forParameter)
+        .toList();
+  }
+
+  /**
+   * Describes fields annotated with {@link Autowired} declared by a class, in the order {@link
+   * Class#getDeclaredFields()} returns them, the same order post processors inject them in
+   *
+   * @param type bean class
+   * @return {@link List} of {@link DependencyDescriptor} in field order
+   */
+  public List<DependencyDescriptor> describeAutowiredFields(Class<?> type) {
+    return Arrays.stream(type.getDeclaredFields())
+        .filter(field -> field.isAnnotationPresent(Autowired.class))
+        .map(DependencyDescriptor::forField)
+        .toList();
+  }
+
+  /**
+   * Collects property keys of the fields annotated with {@link Value} in the order {@link
+   * Class#getDeclaredFields()} returns them, the same order post processors inject them in
+   *
+   * @param type bean class
+   * @return {@link List} of property keys in field order
+   */
+  public List<String> findValueKeys(Class<?> type) {
+    return Arrays.stream(type.getDeclaredFields())
+        .filter(field -> field.isAnnotationPresent(Value.class))
+        .map(BeanDefinitionUtils::resolvePropertyKey)
+        .toList();
+  }
+
+  /**
+   * Resolves the property key of a field annotated with {@link Value}
+   *
+   * @param field field annotated with {@link Value}
+   * @return {@link Value#value()} or the field name if it is blank
+   */
+  public String resolvePropertyKey(Field field) {
+    var key = field.getAnnotation(Value.class).value();
+    return key.isBlank() ? field.getName() : key;
+  }
+
   public Set<String> findRequiredDependencies(Executable executable) {
-    return Arrays.stream(executable.getParameterTypes())
-        .map(BeanDefinitionUtils::resolveBeanName)
+    return toBeanNames(describeDependencies(executable));
+  }
+
+  /**
+   * Collects names of the beans that satisfy dependencies
+   *
+   * @param descriptors dependencies
+   * @return {@link Set} of bean names in dependency order
+   */
+  public Set<String> toBeanNames(List<DependencyDescriptor> descriptors) {
+    return descriptors.stream()
+        .map(DependencyDescriptor::getBeanName)
         .collect(Collectors.toCollection(LinkedHashSet::new));
   }
 }
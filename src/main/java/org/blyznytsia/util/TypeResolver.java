@@ -1,22 +1,25 @@
 package org.blyznytsia.util;
 
+import java.util.function.Function;
 import lombok.experimental.UtilityClass;
+import org.blyznytsia.convert.ConverterRegistry;
 
 @UtilityClass
 public class TypeResolver {
 
   public Object parseToType(String value, Class<?> type) {
-    if (type == String.class) {
-      return value;
-    } else if (type == int.class || type == Integer.class) {
-      return Integer.parseInt(value);
-    } else if (type == long.class || type == Long.class) {
-      return Long.parseLong(value);
-    } else if (type == double.class || type == Double.class) {
-      return Double.parseDouble(value);
-    }
+    return converterFor(type).apply(value);
+  }
 
-    throw new ClassCastException(
-        "Failed to cast %s value to %s type".formatted(value, type.getSimpleName()));
+  /**
+   * Resolves a converter of string values to the given type once so it can be reused for every
+   * value of the type
+   *
+   * @param type target type
+   * @return converter from {@link ConverterRegistry#getDefault()} that throws {@link
+   *     ClassCastException} if the type isn't supported
+   */
+  public Function<String, Object> converterFor(Class<?> type) {
+    return ConverterRegistry.getDefault().converterFor(type);
   }
 }
@@ -0,0 +1,64 @@
+package org.blyznytsia.validator;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.blyznytsia.model.BeanDefinition;
+
+/**
+ * Immutable view of bean definitions indexed once before validation, so validators running
+ * concurrently can share it without copying or locking.
+ */
+public final class BeanDefinitionIndex {
+
+  private final Set<BeanDefinition> definitions;
+  private final List<BeanDefinition> definitionList;
+  private final Map<String, BeanDefinition> definitionsByName;
+
+  public BeanDefinitionIndex(Set<BeanDefinition> definitions) {
+    this.definitions = Set.copyOf(definitions);
+    this.definitionList = List.copyOf(definitions);
+    Map<String, BeanDefinition> byName = new HashMap<>();
+    definitions.forEach(definition -> byName.put(definition.getName(), definition));
+    this.definitionsByName = Map.copyOf(byName);
+  }
+
+  /**
+   * Returns all bean definitions
+   *
+   * @return unmodifiable {@link Set} of bean definitions
+   */
+  public Set<BeanDefinition> getDefinitions() {
+    return definitions;
+  }
+
+  /**
+   * Returns all bean definitions in a stable order, e.g. to split them between tasks
+   *
+   * @return unmodifiable {@link List} of bean definitions
+   */
+  public List<BeanDefinition> getDefinitionList() {
+    return definitionList;
+  }
+
+  /**
+   * Finds a bean definition by bean name
+   *
+   * @param name name of the bean
+   * @return {@link BeanDefinition} or empty if no bean has the name
+   */
+  public Optional<BeanDefinition> findByName(String name) {
+    return Optional.ofNullable(definitionsByName.get(name));
+  }
+
+  /**
+   * Returns the number of bean definitions
+   *
+   * @return number of bean definitions
+   */
+  public int size() {
+    return definitionList.size();
+  }
+}
@@ -0,0 +1,55 @@
+package org.blyznytsia.validator;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.blyznytsia.exception.NoUniqueBeanException;
+import org.blyznytsia.model.BeanDefinition;
+
+/**
+ * Validator that checks that every bean has a unique name. Beans are registered, wired and
+ * destroyed by name, so two beans with the same name, e.g. unnamed components with the same simple
+ * name in different packages, would silently replace each other.
+ */
+public class BeanNameValidator implements BeanValidator {
+
+  /**
+   * Validate set of bean definitions
+   *
+   * @param beanDefinitions set of bean definitions
+   * @throws NoUniqueBeanException listing every name shared by several beans
+   */
+  @Override
+  public void validate(Set<BeanDefinition> beanDefinitions) {
+    var duplicates =
+        beanDefinitions.stream()
+            .collect(
+                Collectors.groupingBy(
+                    BeanDefinition::getName,
+                    TreeMap::new,
+                    Collectors.mapping(BeanNameValidator::describe, Collectors.toList())))
+            .entrySet()
+            .stream()
+            .filter(entry -> entry.getValue().size() > 1)
+            .map(entry -> "%s -> %s".formatted(entry.getKey(), sorted(entry.getValue())))
+            .toList();
+    if (!duplicates.isEmpty()) {
+      throw new NoUniqueBeanException(
+          "Several beans have the same name: %s. Name them with @Component or @Bean"
+              .formatted(String.join(", ", duplicates)));
+    }
+  }
+
+  private static String describe(BeanDefinition definition) {
+    if (definition.getBeanMethod() != null) {
+      var method = definition.getBeanMethod();
+      return method.getDeclaringClass().getName() + "." + method.getName() + "()";
+    }
+    return definition.getType() != null ? definition.getType().getName() : "unknown type";
+  }
+
+  private static List<String> sorted(List<String> origins) {
+    return origins.stream().sorted().toList();
+  }
+}
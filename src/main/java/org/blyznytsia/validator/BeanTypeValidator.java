@@ -0,0 +1,100 @@
+package org.blyznytsia.validator;
+
+import java.lang.reflect.Modifier;
+import java.util.Set;
+import org.blyznytsia.exception.BeanInstantiationException;
+import org.blyznytsia.model.BeanDefinition;
+import org.blyznytsia.model.Scope;
+import org.blyznytsia.util.BeanDefinitionUtils;
+
+/**
+ * Validator that checks that every bean can be instantiated: a component class is neither abstract
+ * nor an interface, a {@code @Bean} method returns a value, a {@code @Bean} method that returns a
+ * {@link java.util.concurrent.CompletableFuture} declares the value type and creates an eager
+ * singleton, a bean injected as a scoped proxy has an interface and lifecycle callbacks of a bean
+ * exist and take no parameters. Definitions are checked independently, so the validator is
+ * parallelizable.
+ */
+public class BeanTypeValidator implements BeanValidator {
+
+  @Override
+  public void validate(Set<BeanDefinition> beanDefinitions) {
+    var index = new BeanDefinitionIndex(beanDefinitions);
+    beanDefinitions.forEach(definition -> validate(definition, index));
+  }
+
+  /**
+   * Validates a single bean definition
+   *
+   * @param definition bean definition to validate
+   * @param index immutable view of all bean definitions
+   * @throws BeanInstantiationException if the bean can't be instantiated
+   */
+  @Override
+  public void validate(BeanDefinition definition, BeanDefinitionIndex index) {
+    validateInstantiable(definition);
+    if (definition.getType() != null) {
+      // resolves lifecycle callbacks once, a missing init method fails here
+      definition.getLifecycle();
+    }
+
+    var type = definition.getType();
+    if (definition.getScope().isProxied() && type != null && !hasInterface(type)) {
+      throw new BeanInstantiationException(
+          "Bean %s with %s scope can't be proxied because %s implements no interfaces"
+              .formatted(definition.getName(), definition.getScope(), type.getName()));
+    }
+  }
+
+  private void validateInstantiable(BeanDefinition definition) {
+    var beanMethod = definition.getBeanMethod();
+    if (beanMethod != null) {
+      if (beanMethod.getReturnType() == void.class) {
+        throw new BeanInstantiationException(
+            "Bean %s is declared by %s method that returns void"
+                .formatted(definition.getName(), beanMethod));
+      }
+      if (definition.isAsync()) {
+        validateAsync(definition);
+      }
+      return;
+    }
+
+    var type = definition.getType();
+    if (type != null && (type.isInterface() || Modifier.isAbstract(type.getModifiers()))) {
+      throw new BeanInstantiationException(
+          "Bean %s can't be instantiated because %s is %s"
+              .formatted(
+                  definition.getName(),
+                  type.getName(),
+                  type.isInterface() ? "an interface" : "abstract"));
+    }
+  }
+
+  private void validateAsync(BeanDefinition definition) {
+    if (BeanDefinitionUtils.findFutureValueType(definition.getBeanMethod()) == null) {
+      throw new BeanInstantiationException(
+          "Bean %s is declared by %s method that returns a CompletableFuture of unknown type"
+              .formatted(definition.getName(), definition.getBeanMethod()));
+    }
+    if (definition.getScope() != Scope.SINGLETON || definition.isLazy()) {
+      throw new BeanInstantiationException(
+          "Bean %s returns a CompletableFuture, so it must be an eager singleton"
+              .formatted(definition.getName()));
+    }
+  }
+
+  private static boolean hasInterface(Class<?> type) {
+    for (var current = type; current != null; current = current.getSuperclass()) {
+      if (current.isInterface() || current.getInterfaces().length > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean isParallelizable() {
+    return true;
+  }
+}
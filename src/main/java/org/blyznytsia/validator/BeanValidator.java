@@ -3,7 +3,45 @@ package org.blyznytsia.validator;
 import java.util.Set;
 import org.blyznytsia.model.BeanDefinition;
 
+/**
+ * Validator of bean definitions run by {@link ValidationPipeline} before beans are created.
+ *
+ * <p>A validator that checks every definition on its own, without comparing it to others, should
+ * return true from {@link #isParallelizable()} and implement {@link #validate(BeanDefinition,
+ * BeanDefinitionIndex)}, so the pipeline can split definitions between tasks. Other validators get
+ * all definitions at once.
+ */
 public interface BeanValidator {
 
   void validate(Set<BeanDefinition> beanDefinitions);
+
+  /**
+   * Validates all bean definitions at once
+   *
+   * @param index immutable view of all bean definitions
+   */
+  default void validate(BeanDefinitionIndex index) {
+    validate(index.getDefinitions());
+  }
+
+  /**
+   * Validates a single bean definition. Called concurrently for different definitions if {@link
+   * #isParallelizable()} returns true
+   *
+   * @param definition bean definition to validate
+   * @param index immutable view of all bean definitions
+   */
+  default void validate(BeanDefinition definition, BeanDefinitionIndex index) {
+    validate(Set.of(definition));
+  }
+
+  /**
+   * Whether definitions can be validated one by one and concurrently with {@link
+   * #validate(BeanDefinition, BeanDefinitionIndex)}
+   *
+   * @return false by default
+   */
+  default boolean isParallelizable() {
+    return false;
+  }
 }
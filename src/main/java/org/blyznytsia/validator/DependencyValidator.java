@@ -1,60 +1,54 @@
 package org.blyznytsia.validator;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 import org.blyznytsia.exception.CircularDependencyException;
+import org.blyznytsia.exception.NoSuchBeanException;
 import org.blyznytsia.model.BeanDefinition;
 
-/** Validator that checks beans for circular dependencies */
+/**
+ * Validator that checks beans for circular and missing dependencies.
+ *
+ * <p>Field, constructor and {@code @Bean} method dependencies are checked together in a single pass
+ * of Tarjan's strongly connected components algorithm, which runs in O(V + E) time with an explicit
+ * stack, so deep dependency chains don't overflow the thread stack. Every strongly connected
+ * component is reported with one of its cycles, and every dependency that isn't a bean is reported
+ * as missing.
+ */
 public class DependencyValidator implements BeanValidator {
 
-  /** Map of beans. Key is a bean, and value is a list of beans in which the key bean depends. */
-  private Map<String, Set<String>> beans;
-
   public DependencyValidator() {}
 
   /**
-   * Validate list of bean definitions
+   * Validate set of bean definitions
    *
-   * @param beanDefinitions list of bean definitions
-   * @throws CircularDependencyException if circular dependency happens
+   * @param beanDefinitions set of bean definitions
+   * @throws CircularDependencyException if circular dependency happens, with missing dependencies
+   *     attached as a suppressed {@link NoSuchBeanException}
+   * @throws NoSuchBeanException if some dependencies are not beans
    */
   public void validate(Set<BeanDefinition> beanDefinitions) {
-    this.beans =
-        beanDefinitions.stream()
-            .collect(
-                Collectors.toMap(BeanDefinition::getName, BeanDefinition::getFieldDependencies));
-    validateBeans();
-  }
-
-  /**
-   * Calculate cycles between beans.
-   *
-   * <p>when find cycles then throw {@link CircularDependencyException} with beans
-   */
-  private void validateBeans() {
-    Set<String> visited = new HashSet<>();
-
-    List<String> cycles =
-        beans.keySet().stream()
-            .map(bean -> findCycles(bean, visited, Collections.emptyList()))
-            .filter(cycle -> !cycle.isEmpty())
-            .map(cycle -> String.join("->", cycle))
-            .toList();
+    var graph = new Graph(beanDefinitions);
+    var cycles = graph.findCycles();
+    var missing = graph.missing.isEmpty() ? null : missingDependenciesException(graph.missing);
 
     if (!cycles.isEmpty()) {
-      throwException(cycles);
+      var exception = new CircularDependencyException(buildChainOfBeanCycles(cycles));
+      if (missing != null) {
+        exception.addSuppressed(missing);
+      }
+      throw exception;
+    }
+    if (missing != null) {
+      throw missing;
     }
-  }
-
-  private void throwException(List<String> cycles) {
-    String chainOfCycles = buildChainOfBeanCycles(cycles);
-    throw new CircularDependencyException(chainOfCycles);
   }
 
   private String buildChainOfBeanCycles(List<String> cycles) {
@@ -71,34 +65,204 @@ public class DependencyValidator implements BeanValidator {
     return chainOfCycles.toString();
   }
 
-  /**
-   * Recursive method to calculate circular dependency
-   *
-   * @param bean is a bean name.
-   * @param visited is a set of beans that is checked and added to collection
-   * @param path is a list of beans that is added to path
-   * @return empty set or {@link CircularDependencyException}
-   */
-  private List<String> findCycles(String bean, Set<String> visited, List<String> path) {
+  private NoSuchBeanException missingDependenciesException(Map<String, Set<String>> missing) {
+    var dependencies =
+        missing.entrySet().stream()
+            .map(entry -> "%s -> %s".formatted(entry.getKey(), entry.getValue()))
+            .sorted()
+            .collect(Collectors.joining(", "));
+    return new NoSuchBeanException("Missing dependencies of beans: %s".formatted(dependencies));
+  }
+
+  /** Dependency graph of bean definitions with beans numbered in iteration order */
+  private static class Graph {
+
+    private final String[] names;
+    /** Indices of the dependencies of each bean */
+    private final int[][] dependencies;
+    /** Dependencies that are not beans by bean name */
+    private final Map<String, Set<String>> missing = new HashMap<>();
+
+    private Graph(Set<BeanDefinition> beanDefinitions) {
+      Map<String, BeanDefinition> definitionsByName = new HashMap<>();
+      beanDefinitions.forEach(
+          definition -> definitionsByName.put(definition.getName(), definition));
+
+      names = definitionsByName.keySet().toArray(String[]::new);
+      Map<String, Integer> indices = new HashMap<>();
+      for (int i = 0; i < names.length; i++) {
+        indices.put(names[i], i);
+      }
 
-    List<String> newPath = new LinkedList<>(path);
-    newPath.add(bean);
+      dependencies = new int[names.length][];
+      for (int i = 0; i < names.length; i++) {
+        var definition = definitionsByName.get(names[i]);
+        var resolved =
+            new int
+                [size(definition.getFieldDependencies())
+                    + size(definition.getRequiredDependencies())];
+        int count = resolve(names[i], definition.getFieldDependencies(), indices, resolved, 0);
+        count = resolve(names[i], definition.getRequiredDependencies(), indices, resolved, count);
+        dependencies[i] = count == resolved.length ? resolved : Arrays.copyOf(resolved, count);
+      }
+    }
+
+    private static int size(Set<String> names) {
+      return names != null ? names.size() : 0;
+    }
+
+    /**
+     * Adds indices of known dependencies to the array and records unknown ones as missing
+     *
+     * @return number of filled elements of the array
+     */
+    private int resolve(
+        String bean,
+        Set<String> beanDependencies,
+        Map<String, Integer> indices,
+        int[] resolved,
+        int count) {
+      if (beanDependencies == null) {
+        return count;
+      }
+      for (var dependency : beanDependencies) {
+        var index = indices.get(dependency);
+        if (index != null) {
+          resolved[count++] = index;
+        } else {
+          missing.computeIfAbsent(bean, name -> new TreeSet<>()).add(dependency);
+        }
+      }
+      return count;
+    }
+
+    /**
+     * Finds strongly connected components with an iterative Tarjan's algorithm
+     *
+     * @return a cycle of every component with more than one bean or a bean that depends on itself,
+     *     in the order components were discovered
+     */
+    private List<String> findCycles() {
+      int size = names.length;
+      var order = new int[size];
+      var lowLink = new int[size];
+      var onStack = new boolean[size];
+      var component = new int[size];
+      Arrays.fill(order, -1);
+
+      var stack = new int[size];
+      int stackSize = 0;
+      var callStack = new int[size];
+      var nextEdge = new int[size];
+      int counter = 0;
 
-    if (path.contains(bean)) {
-      return newPath;
+      List<int[]> components = new ArrayList<>();
+      for (int root = 0; root < size; root++) {
+        if (order[root] != -1) {
+          continue;
+        }
+
+        int depth = 0;
+        callStack[0] = root;
+        nextEdge[0] = 0;
+        order[root] = lowLink[root] = counter++;
+        stack[stackSize++] = root;
+        onStack[root] = true;
+
+        while (depth >= 0) {
+          int bean = callStack[depth];
+          if (nextEdge[depth] < dependencies[bean].length) {
+            int dependency = dependencies[bean][nextEdge[depth]++];
+            if (order[dependency] == -1) {
+              order[dependency] = lowLink[dependency] = counter++;
+              stack[stackSize++] = dependency;
+              onStack[dependency] = true;
+              callStack[++depth] = dependency;
+              nextEdge[depth] = 0;
+            } else if (onStack[dependency]) {
+              lowLink[bean] = Math.min(lowLink[bean], order[dependency]);
+            }
+            continue;
+          }
+
+          if (lowLink[bean] == order[bean]) {
+            int start = stackSize;
+            do {
+              onStack[stack[--start]] = false;
+              component[stack[start]] = bean;
+            } while (stack[start] != bean);
+            if (stackSize - start > 1 || dependsOn(bean, bean)) {
+              components.add(Arrays.copyOfRange(stack, start, stackSize));
+            }
+            stackSize = start;
+          }
+          if (--depth >= 0) {
+            int parent = callStack[depth];
+            lowLink[parent] = Math.min(lowLink[parent], lowLink[bean]);
+          }
+        }
+      }
+
+      return components.stream()
+          .sorted((first, second) -> Integer.compare(order[first[0]], order[second[0]]))
+          .map(members -> describeCycle(members, component))
+          .toList();
     }
 
-    if (visited.contains(bean)) {
-      return Collections.emptyList();
+    private boolean dependsOn(int bean, int dependency) {
+      for (var candidate : dependencies[bean]) {
+        if (candidate == dependency) {
+          return true;
+        }
+      }
+      return false;
     }
 
-    visited.add(bean);
+    /**
+     * Finds the shortest cycle through the first discovered bean of a component
+     *
+     * @param members beans of the component, the first discovered bean goes first
+     * @param component first discovered bean of the component of every bean
+     * @return cycle like {@code a->b->a}, followed by all beans of the component if the cycle
+     *     doesn't pass through all of them
+     */
+    private String describeCycle(int[] members, int[] component) {
+      int start = members[0];
+      Map<Integer, Integer> previous = new HashMap<>();
+      var toVisit = new ArrayDeque<Integer>();
+      toVisit.add(start);
+      int last = start;
+      while (!toVisit.isEmpty()) {
+        int bean = toVisit.poll();
+        if (dependsOn(bean, start)) {
+          last = bean;
+          break;
+        }
+        for (var dependency : dependencies[bean]) {
+          if (component[dependency] == component[start]
+              && dependency != start
+              && previous.putIfAbsent(dependency, bean) == null) {
+            toVisit.add(dependency);
+          }
+        }
+      }
 
-    Set<String> dependsOnBeans = beans.get(bean);
+      List<String> cycle = new ArrayList<>();
+      cycle.add(names[start]);
+      for (int bean = last; bean != start; bean = previous.get(bean)) {
+        cycle.add(1, names[bean]);
+      }
+      cycle.add(names[start]);
 
-    return dependsOnBeans.stream()
-        .map(dep -> findCycles(dep, visited, newPath))
-        .flatMap(List::stream)
-        .toList();
+      var description = String.join("->", cycle);
+      if (cycle.size() - 1 < members.length) {
+        description +=
+            Arrays.stream(members)
+                .mapToObj(member -> names[member])
+                .sorted()
+                .collect(Collectors.joining(", ", " (component: ", ")"));
+      }
+      return description;
+    }
   }
 }
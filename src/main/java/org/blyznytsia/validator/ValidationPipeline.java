@@ -0,0 +1,113 @@
+package org.blyznytsia.validator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.blyznytsia.exception.BeanValidationException;
+import org.blyznytsia.model.BeanDefinition;
+
+/**
+ * Runs {@link BeanValidator} implementations against an immutable {@link BeanDefinitionIndex} and
+ * gathers all of their failures into a single {@link BeanValidationException}.
+ *
+ * <p>Every validator is a separate task, and definitions of a {@link
+ * BeanValidator#isParallelizable()} validator are split into chunks of {@value #CHUNK_SIZE}
+ * definitions validated by separate tasks. If an {@link Executor} is provided, tasks run
+ * concurrently on it, otherwise they run one by one on the calling thread. Failures are reported in
+ * the order of tasks, so the message doesn't depend on scheduling.
+ */
+@Slf4j
+public class ValidationPipeline {
+
+  /** Number of definitions validated by a single task of a parallelizable validator */
+  static final int CHUNK_SIZE = 64;
+
+  private final Collection<BeanValidator> validators;
+  private final Executor executor;
+
+  /**
+   * Creates a pipeline
+   *
+   * @param validators validators to run
+   * @param executor executor of validation tasks or null to run them on the calling thread
+   */
+  public ValidationPipeline(Collection<BeanValidator> validators, Executor executor) {
+    this.validators = List.copyOf(validators);
+    this.executor = executor;
+  }
+
+  /**
+   * Validates bean definitions with all validators
+   *
+   * @param beanDefinitions bean definitions to validate
+   * @throws BeanValidationException with failures of all validators if any validator fails
+   */
+  public void validate(Set<BeanDefinition> beanDefinitions) {
+    var index = new BeanDefinitionIndex(beanDefinitions);
+    var tasks = createTasks(index);
+    log.debug("Validating {} bean definitions with {} tasks", index.size(), tasks.size());
+
+    if (executor != null) {
+      tasks.stream()
+          .map(task -> CompletableFuture.runAsync(task, executor))
+          .toList()
+          .forEach(CompletableFuture::join);
+    } else {
+      tasks.forEach(Runnable::run);
+    }
+
+    List<RuntimeException> errors = new ArrayList<>();
+    tasks.forEach(task -> errors.addAll(task.errors));
+    if (!errors.isEmpty()) {
+      throw new BeanValidationException(errors);
+    }
+  }
+
+  private List<ValidationTask> createTasks(BeanDefinitionIndex index) {
+    List<ValidationTask> tasks = new ArrayList<>();
+    for (var validator : validators) {
+      if (!validator.isParallelizable()) {
+        tasks.add(new ValidationTask(() -> validator.validate(index)));
+        continue;
+      }
+
+      var definitions = index.getDefinitionList();
+      for (int from = 0; from < definitions.size(); from += CHUNK_SIZE) {
+        var chunk = definitions.subList(from, Math.min(from + CHUNK_SIZE, definitions.size()));
+        tasks.add(new ValidationTask(validator, chunk, index));
+      }
+    }
+    return tasks;
+  }
+
+  /** Validation task that keeps its failures instead of throwing them */
+  private static class ValidationTask implements Runnable {
+
+    private final List<Runnable> checks = new ArrayList<>();
+    private final List<RuntimeException> errors = new ArrayList<>();
+
+    private ValidationTask(Runnable check) {
+      checks.add(check);
+    }
+
+    private ValidationTask(
+        BeanValidator validator, List<BeanDefinition> definitions, BeanDefinitionIndex index) {
+      definitions.forEach(definition -> checks.add(() -> validator.validate(definition, index)));
+    }
+
+    @Override
+    public void run() {
+      for (var check : checks) {
+        try {
+          check.run();
+        } catch (RuntimeException e) {
+          errors.add(e);
+        }
+      }
+    }
+  }
+}
@@ -3,17 +3,23 @@ package org.blyznytsia.bpp;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import org.blyznytsia.bpp.data.field.RegionRepository;
 import org.blyznytsia.bpp.data.field.WeatherController;
 import org.blyznytsia.bpp.data.field.WeatherRepository;
 import org.blyznytsia.bpp.data.field.WeatherService;
 import org.blyznytsia.context.ApplicationContext;
 import org.blyznytsia.exception.BeanConfigurationException;
+import org.blyznytsia.model.BeanDefinition;
+import org.blyznytsia.model.DependencyDescriptor;
+import org.blyznytsia.util.BeanDefinitionUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -39,6 +45,62 @@ class AutowiredAnnotationBeanPostProcessorTest {
     verify(testContext, times(2)).getBean(any());
   }
 
+  @Test
+  void configure_givenDefinitionWithResolvedFields_shouldInjectBeansByResolvedName() {
+    var weatherRepository = new WeatherRepository();
+    var regionRepository = new RegionRepository();
+    when(testContext.getBean("primaryWeather", WeatherRepository.class))
+        .thenReturn(weatherRepository);
+    when(testContext.getBean("regions", RegionRepository.class)).thenReturn(regionRepository);
+    var fields = BeanDefinitionUtils.describeAutowiredFields(WeatherService.class);
+    var definition =
+        BeanDefinition.builder()
+            .name("weatherService")
+            .type(WeatherService.class)
+            .autowiredDependencies(
+                List.of(
+                    fields.get(0).resolvedTo(resolvedName(fields.get(0))),
+                    fields.get(1).resolvedTo(resolvedName(fields.get(1)))))
+            .build();
+
+    var beanPostProcessor = new AutowiredAnnotationBeanPostProcessor();
+    var beanToConfigure = new WeatherService();
+    beanPostProcessor.configure(beanToConfigure, definition, null, testContext);
+
+    assertThat(beanToConfigure.getWeatherRepository()).isSameAs(weatherRepository);
+    assertThat(beanToConfigure.getRegionRepository()).isSameAs(regionRepository);
+    verify(testContext, never()).getBean(any(Class.class));
+  }
+
+  @Test
+  void configure_givenLoadedAutowiredBeans_shouldInjectThemWithoutLookups() {
+    var weatherRepository = new WeatherRepository();
+    var fields = BeanDefinitionUtils.describeAutowiredFields(WeatherService.class);
+    var definition =
+        BeanDefinition.builder()
+            .name("weatherService")
+            .type(WeatherService.class)
+            .autowiredDependencies(
+                List.of(
+                    fields.get(0).resolvedTo(resolvedName(fields.get(0))),
+                    fields.get(1).resolvedTo(resolvedName(fields.get(1)))))
+            .build();
+    var weatherIndex = fields.get(0).getType() == WeatherRepository.class ? 0 : 1;
+    var autowiredBeans = new Object[2];
+    autowiredBeans[weatherIndex] = weatherRepository;
+    var regionRepository = new RegionRepository();
+    when(testContext.getBean("regions", RegionRepository.class)).thenReturn(regionRepository);
+
+    var beanPostProcessor = new AutowiredAnnotationBeanPostProcessor();
+    var beanToConfigure = new WeatherService();
+    beanPostProcessor.configure(beanToConfigure, definition, autowiredBeans, testContext);
+
+    assertThat(beanToConfigure.getWeatherRepository()).isSameAs(weatherRepository);
+    assertThat(beanToConfigure.getRegionRepository()).isSameAs(regionRepository);
+    verify(testContext).getBean("regions", RegionRepository.class);
+    verifyNoMoreInteractions(testContext);
+  }
+
   @Test
   void configure_givenExceptionWasThrown_shouldWrapItAndRethrowAsBeanConfigurationException() {
     var expectedCause = new RuntimeException("Exception during setting @Autowired field value");
@@ -63,4 +125,8 @@ class AutowiredAnnotationBeanPostProcessorTest {
     verifyNoInteractions(testContext);
     assertThat(beanToConfigure.getWeatherService()).isNull();
   }
+
+  private static String resolvedName(DependencyDescriptor dependency) {
+    return dependency.getType() == WeatherRepository.class ? "primaryWeather" : "regions";
+  }
 }
@@ -0,0 +1,59 @@
+package org.blyznytsia.bpp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.blyznytsia.bpp.data.AccessPoint;
+import org.blyznytsia.bpp.data.field.RegionRepository;
+import org.blyznytsia.bpp.data.field.WeatherRepository;
+import org.blyznytsia.bpp.data.field.WeatherService;
+import org.junit.jupiter.api.Test;
+
+class InjectionMetadataTest {
+
+  @Test
+  void forClass_givenSameClass_shouldReturnCachedInstance() {
+    assertThat(InjectionMetadata.forClass(WeatherService.class))
+        .isSameAs(InjectionMetadata.forClass(WeatherService.class));
+  }
+
+  @Test
+  void forClass_givenAutowiredFields_shouldCollectThemWithSetters() {
+    var metadata = InjectionMetadata.forClass(WeatherService.class);
+
+    assertThat(metadata.getAutowiredFields())
+        .extracting(field -> field.getField().getName())
+        .containsExactlyInAnyOrder("weatherRepository", "regionRepository");
+    assertThat(metadata.getValueFields()).isEmpty();
+
+    var bean = new WeatherService();
+    var repository = new WeatherRepository();
+    metadata.getAutowiredFields().stream()
+        .filter(field -> field.getField().getType() == WeatherRepository.class)
+        .forEach(field -> field.inject(bean, repository));
+
+    assertThat(bean.getWeatherRepository()).isSameAs(repository);
+    assertThat(bean.getRegionRepository()).isNull();
+  }
+
+  @Test
+  void forClass_givenValueFields_shouldResolvePropertyKeysAndConverters() {
+    var metadata = InjectionMetadata.forClass(AccessPoint.class);
+
+    assertThat(metadata.getValueFields())
+        .extracting(InjectionMetadata.InjectedField::getPropertyKey)
+        .containsExactlyInAnyOrder("hostVal", "port", "id");
+    assertThat(metadata.getValueFields())
+        .filteredOn(field -> field.getPropertyKey().equals("port"))
+        .singleElement()
+        .satisfies(field -> assertThat(field.getConverter().apply("8082")).isEqualTo(8082));
+  }
+
+  @Test
+  void forClass_shouldReturnImmutablePlan() {
+    var fields = InjectionMetadata.forClass(WeatherService.class).getAutowiredFields();
+
+    assertThatThrownBy(fields::clear).isInstanceOf(UnsupportedOperationException.class);
+    assertThat(InjectionMetadata.forClass(RegionRepository.class).getAutowiredFields()).isEmpty();
+  }
+}
@@ -0,0 +1,156 @@
+package org.blyznytsia.bpp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.blyznytsia.annotation.Value;
+import org.blyznytsia.bpp.data.AccessPoint;
+import org.blyznytsia.bpp.data.TypedSettings;
+import org.blyznytsia.env.Environment;
+import org.blyznytsia.env.MapPropertySource;
+import org.blyznytsia.exception.BeanConfigurationException;
+import org.junit.jupiter.api.Test;
+
+class PropertyRefresherTest {
+
+  private static final Map<String, String> PROPERTIES =
+      Map.of(
+          "hostVal", "http://localhost",
+          "port", "8082",
+          "id", "1",
+          "enabled", "true",
+          "timeout", "30s",
+          "bufferSize", "64KB",
+          "unit", "SECONDS",
+          "ports", "8080",
+          "pool.min", "1",
+          "pool.max", "1");
+
+  private final ValueAnnotationBeanPostProcessor postProcessor =
+      new ValueAnnotationBeanPostProcessor(environment(Map.of()));
+  private final PropertyRefresher refresher = new PropertyRefresher(postProcessor);
+
+  @Test
+  void refresh_givenChangedKeys_shouldUpdateOnlyTheirFields() {
+    // given:
+    var accessPoint = configure(new AccessPoint());
+    var settings = configure(new TypedSettings());
+    var ports = settings.getPorts();
+
+    // when:
+    var changedKeys = refresher.refresh(environment(Map.of("port", "9090", "timeout", "1m")));
+
+    // then:
+    assertThat(changedKeys).containsExactlyInAnyOrder("port", "timeout");
+    assertThat(accessPoint.getPort()).isEqualTo(9090);
+    assertThat(accessPoint.getHostVal()).isEqualTo("http://localhost");
+    assertThat(settings.getTimeout()).isEqualTo(Duration.ofMinutes(1));
+    assertThat(settings.getPorts()).isSameAs(ports);
+  }
+
+  @Test
+  void refresh_givenInvalidValue_shouldRefreshNothing() {
+    // given:
+    var accessPoint = configure(new AccessPoint());
+    var settings = configure(new TypedSettings());
+    var environment = postProcessor.getEnvironment();
+
+    // when, then:
+    assertThatThrownBy(
+            () -> refresher.refresh(environment(Map.of("port", "9090", "timeout", "soon"))))
+        .isInstanceOf(BeanConfigurationException.class);
+    assertThat(accessPoint.getPort()).isEqualTo(8082);
+    assertThat(settings.getTimeout()).isEqualTo(Duration.ofSeconds(30));
+    assertThat(postProcessor.getEnvironment()).isSameAs(environment);
+  }
+
+  @Test
+  void refresh_givenNewEnvironment_shouldConfigureLaterBeansWithNewValues() {
+    // given:
+    configure(new TypedSettings());
+
+    // when:
+    refresher.refresh(environment(Map.of("ports", "9090, 9091")));
+    var settings = (TypedSettings) postProcessor.configure(new TypedSettings(), null);
+
+    // then:
+    assertThat(settings.getPorts()).isEqualTo(List.of(9090, 9091));
+  }
+
+  @Test
+  void register_givenBeanConfiguredBeforeRefresh_shouldInjectRefreshedValues() {
+    // given:
+    var accessPoint = (AccessPoint) postProcessor.configure(new AccessPoint(), null);
+    refresher.refresh(environment(Map.of("port", "9090")));
+
+    // when:
+    refresher.register(accessPoint);
+
+    // then:
+    assertThat(accessPoint.getPort()).isEqualTo(9090);
+    assertThat(accessPoint.getHostVal()).isEqualTo("http://localhost");
+  }
+
+  @Test
+  void refresh_givenSeveralFieldsOfBean_shouldSetThemTogether() throws Exception {
+    // given:
+    var pool = configure(new Pool());
+    var running = new AtomicBoolean(true);
+    var torn = new AtomicInteger();
+    var reader =
+        new Thread(
+            () -> {
+              while (running.get()) {
+                synchronized (pool) {
+                  if (pool.minSize != pool.maxSize) {
+                    torn.incrementAndGet();
+                  }
+                }
+              }
+            });
+    reader.start();
+
+    // when:
+    try {
+      for (int i = 2; i < 500; i++) {
+        var size = String.valueOf(i);
+        refresher.refresh(environment(Map.of("pool.min", size, "pool.max", size)));
+      }
+    } finally {
+      running.set(false);
+      reader.join();
+    }
+
+    // then:
+    assertThat(torn).hasValue(0);
+    assertThat(pool.minSize).isEqualTo(499);
+    assertThat(pool.maxSize).isEqualTo(499);
+  }
+
+  private <T> T configure(T bean) {
+    postProcessor.configure(bean, null);
+    refresher.register(bean);
+    return bean;
+  }
+
+  private static Environment environment(Map<String, String> overrides) {
+    return Environment.of(
+        List.of(
+            new MapPropertySource("overrides", overrides),
+            new MapPropertySource("defaults", PROPERTIES)));
+  }
+
+  static class Pool {
+
+    @Value("pool.min")
+    int minSize;
+
+    @Value("pool.max")
+    int maxSize;
+  }
+}
@@ -2,7 +2,12 @@ package org.blyznytsia.bpp;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.blyznytsia.bpp.data.AccessPoint;
+import org.blyznytsia.bpp.data.TypedSettings;
+import org.blyznytsia.convert.DataSize;
 import org.junit.jupiter.api.Test;
 
 class ValueAnnotationBeanPostProcessorTest {
@@ -17,4 +22,21 @@ class ValueAnnotationBeanPostProcessorTest {
     assertThat(beanToConfigure.getPort()).isEqualTo(8082);
     assertThat(beanToConfigure.getId()).isEqualTo(345123L);
   }
+
+  @Test
+  void configure_givenTypedFields_shouldConvertValuesOncePerClass() {
+    var beanPostProcessor = new ValueAnnotationBeanPostProcessor();
+    var first = new TypedSettings();
+    var second = new TypedSettings();
+
+    beanPostProcessor.configure(first, null);
+    beanPostProcessor.configure(second, null);
+
+    assertThat(first.isEnabled()).isTrue();
+    assertThat(first.getTimeout()).isEqualTo(Duration.ofSeconds(30));
+    assertThat(first.getBufferSize()).isEqualTo(DataSize.ofKilobytes(64));
+    assertThat(first.getUnit()).isEqualTo(TimeUnit.SECONDS);
+    assertThat(first.getPorts()).isEqualTo(List.of(8080, 8081, 8082));
+    assertThat(second.getPorts()).isSameAs(first.getPorts());
+  }
 }
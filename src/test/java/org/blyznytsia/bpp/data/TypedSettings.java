@@ -0,0 +1,22 @@
+package org.blyznytsia.bpp.data;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import org.blyznytsia.annotation.Value;
+import org.blyznytsia.convert.DataSize;
+
+@Getter
+public class TypedSettings {
+
+  @Value boolean enabled;
+
+  @Value Duration timeout;
+
+  @Value DataSize bufferSize;
+
+  @Value TimeUnit unit;
+
+  @Value List<Integer> ports;
+}
@@ -1,7 +1,9 @@
 package org.blyznytsia.context;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.concurrent.Executors;
 import org.blyznytsia.context.data.Bean1;
 import org.blyznytsia.context.data.Bean2;
 import org.blyznytsia.context.data.Bean3;
@@ -9,10 +11,30 @@ import org.blyznytsia.context.data.Bean4;
 import org.blyznytsia.context.data.Bean5;
 import org.blyznytsia.context.data.Bean6;
 import org.blyznytsia.context.data.BeanInterface;
+import org.blyznytsia.context.data.EmptyBean;
+import org.blyznytsia.context.data.LazyBean;
+import org.blyznytsia.context.data.PrototypeBean;
+import org.blyznytsia.context.lifecycle.LifecycleLog;
+import org.blyznytsia.context.resolve.AuditLog;
+import org.blyznytsia.context.resolve.MemoryStore;
+import org.blyznytsia.context.resolve.MessageService;
+import org.blyznytsia.context.resolve.MessageStore;
+import org.blyznytsia.context.resolve.json.Formatter;
+import org.blyznytsia.exception.BeanValidationException;
+import org.blyznytsia.exception.NoSuchBeanException;
+import org.blyznytsia.exception.NoUniqueBeanException;
+import org.blyznytsia.startup.PhaseTiming;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class AnnotationApplicationContextTest {
 
+  private static final String LIFECYCLE_PACKAGE = "org.blyznytsia.context.lifecycle";
+  private static final String RESOLVE_PACKAGE = "org.blyznytsia.context.resolve";
+  /** Outside of org.blyznytsia, so the context of all test beans stays valid */
+  private static final String DUPLICATE_PACKAGE = "org.example.duplicate";
+
   private final ApplicationContext ctx = new AnnotationApplicationContext("org.blyznytsia");
 
   /*
@@ -52,4 +74,155 @@ class AnnotationApplicationContextTest {
     assertThat(beans.get("bean1").getClass()).isEqualTo(Bean1.class);
     assertThat(beans.get("bean2").getClass()).isEqualTo(Bean2.class);
   }
+
+  @Test
+  void getBean_givenInterfaceWithSeveralImplementations_shouldThrowNoUniqueBeanException() {
+    assertThatThrownBy(() -> ctx.getBean(BeanInterface.class))
+        .isInstanceOf(NoUniqueBeanException.class)
+        .hasMessage("Required a single bean, but 2 were found");
+  }
+
+  @Test
+  void getBean_givenTypeWithNoBeans_shouldThrowNoSuchBeanException() {
+    assertThatThrownBy(() -> ctx.getBean(Runnable.class))
+        .isInstanceOf(NoSuchBeanException.class)
+        .hasMessage("Required a single bean, but 0 were found");
+  }
+
+  @Test
+  void constructor_givenExecutor_shouldCreateAndWireBeansInParallel() {
+    var executor = Executors.newFixedThreadPool(4);
+    try {
+      var parallelCtx =
+          new AnnotationApplicationContext(
+              "org.blyznytsia", ContextOptions.builder().executor(executor).build());
+
+      var bean4 = parallelCtx.getBean(Bean4.class);
+      assertThat(parallelCtx.getContainer()).hasSameSizeAs(ctx.getContainer());
+      assertThat(bean4.getBean2()).isSameAs(parallelCtx.getBean(Bean2.class));
+      assertThat(bean4.getBean2().getBean3()).isSameAs(parallelCtx.getBean(Bean3.class));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void getBean_givenPrototypeBean_shouldCreateNewConfiguredInstanceOnEveryCall() {
+    var first = ctx.getBean(PrototypeBean.class);
+    var second = ctx.getBean(PrototypeBean.class);
+
+    assertThat(first).isNotSameAs(second);
+    assertThat(first.getEmptyBean()).isSameAs(ctx.getBean(EmptyBean.class));
+    assertThat(first.getBean5()).isSameAs(ctx.getBean(Bean5.class));
+    assertThat(second.getBean5()).isSameAs(first.getBean5());
+  }
+
+  @Test
+  void getBean_givenPrototypeBeanName_shouldCreateNewInstanceOnEveryCall() {
+    var first = ctx.getBean("prototypeBean", PrototypeBean.class);
+    var second = ctx.getBean("prototypeBean", PrototypeBean.class);
+
+    assertThat(first).isNotSameAs(second);
+    assertThat(ctx.getAllBeans(PrototypeBean.class)).hasSize(1);
+  }
+
+  @Test
+  void getBean_givenLazyBean_shouldCreateConfiguredSingletonOnFirstAccess() {
+    assertThat(ctx.getContainer().get("lazyBean")).isNotInstanceOf(LazyBean.class);
+
+    var lazyBean = ctx.getBean(LazyBean.class);
+
+    assertThat(lazyBean.getBean5()).isSameAs(ctx.getBean(Bean5.class));
+    assertThat(ctx.getBean("lazyBean", LazyBean.class)).isSameAs(lazyBean);
+  }
+
+  @Test
+  void getStartupReport_givenStartedContext_shouldReportPhasesAndBeanSteps() {
+    var report = ((AnnotationApplicationContext) ctx).getStartupReport();
+
+    assertThat(report.getPhases())
+        .extracting(PhaseTiming::getName)
+        .containsExactly("scan", "scanners", "validation", "postProcessors", "instantiation");
+    assertThat(report.getBeans())
+        .filteredOn(bean -> bean.getName().equals("bean1"))
+        .singleElement()
+        .satisfies(
+            bean ->
+                assertThat(bean.getSteps())
+                    .containsKeys(
+                        "instantiate",
+                        "AutowiredAnnotationBeanPostProcessor",
+                        "ValueAnnotationBeanPostProcessor"));
+    assertThat(report.getCriticalPath()).isNotEmpty();
+    assertThat(report.getBeans()).noneMatch(bean -> bean.getName().equals("lazyBean"));
+  }
+
+  @Test
+  void close_givenLifecycleCallbacks_shouldDestroyBeansInReverseDependencyOrder() {
+    var context = new AnnotationApplicationContext(LIFECYCLE_PACKAGE);
+    var log = context.getBean(LifecycleLog.class);
+
+    assertThat(log.getEvents()).containsExactly("pool:open", "client:connect", "worker:start");
+
+    context.close();
+    context.close();
+
+    assertThat(log.getEvents())
+        .containsExactly(
+            "pool:open",
+            "client:connect",
+            "worker:start",
+            "worker:stop",
+            "client:disconnect",
+            "pool:close");
+  }
+
+  @Test
+  void close_givenExecutor_shouldDestroyEveryBeanOnce() {
+    var executor = Executors.newFixedThreadPool(2);
+    LifecycleLog log;
+    try (var context =
+        new AnnotationApplicationContext(
+            LIFECYCLE_PACKAGE, ContextOptions.builder().executor(executor).build())) {
+      log = context.getBean(LifecycleLog.class);
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(log.getEvents())
+        .endsWith("worker:stop", "client:disconnect", "pool:close")
+        .hasSize(6);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void getBean_givenDependenciesByInterfaceQualifierAndSimpleName_shouldInjectMatchingBeans(
+      boolean generatedContext) {
+    var context =
+        new AnnotationApplicationContext(
+            RESOLVE_PACKAGE, ContextOptions.builder().generatedContext(generatedContext).build());
+    var service = context.getBean(MessageService.class);
+
+    assertThat(service.getStore()).isSameAs(context.getBean("primaryStore", MessageStore.class));
+    assertThat(service.getFallbackStore()).isSameAs(context.getBean(MemoryStore.class));
+    assertThat(service.getAuditLog())
+        .isSameAs(service.getReplicaLog())
+        .isSameAs(context.getBean("audit", AuditLog.class));
+    assertThat(service.getFormatter()).isSameAs(context.getBean("jsonFormatter", Formatter.class));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void constructor_givenComponentsWithSameSimpleName_shouldRejectDuplicateBeanNames(
+      boolean generatedContext) {
+    var options = ContextOptions.builder().generatedContext(generatedContext).build();
+
+    assertThatThrownBy(() -> new AnnotationApplicationContext(DUPLICATE_PACKAGE, options))
+        .isInstanceOf(BeanValidationException.class)
+        .hasMessageContaining("Several beans have the same name: formatter")
+        .satisfies(
+            e ->
+                assertThat(((BeanValidationException) e).getErrors())
+                    .hasOnlyElementsOfType(NoUniqueBeanException.class));
+  }
 }
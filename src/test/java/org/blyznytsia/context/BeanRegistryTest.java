@@ -0,0 +1,57 @@
+package org.blyznytsia.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import org.blyznytsia.context.data.Bean1;
+import org.blyznytsia.context.data.Bean2;
+import org.blyznytsia.context.data.Bean3;
+import org.blyznytsia.context.data.BeanInterface;
+import org.junit.jupiter.api.Test;
+
+class BeanRegistryTest {
+
+  private final BeanRegistry registry = new BeanRegistry();
+
+  @Test
+  void put_givenBean_shouldIndexItByClassSuperclassesAndInterfaces() {
+    var bean1 = new Bean1();
+    registry.put("bean1", bean1);
+
+    assertThat(registry.getBeansOfType(Bean1.class)).containsExactly(entry("bean1", bean1));
+    assertThat(registry.getBeansOfType(BeanInterface.class)).containsOnlyKeys("bean1");
+    assertThat(registry.getBeansOfType(Object.class)).containsOnlyKeys("bean1");
+    assertThat(registry.getBeansOfType(Bean3.class)).isEmpty();
+  }
+
+  @Test
+  void put_givenSeveralBeansOfSameInterface_shouldReturnAllOfThem() {
+    registry.put("bean1", new Bean1());
+    registry.put("bean2", new Bean2());
+
+    assertThat(registry.getBeansOfType(BeanInterface.class)).containsOnlyKeys("bean1", "bean2");
+    assertThat(registry.getBeansOfType(Bean2.class)).containsOnlyKeys("bean2");
+  }
+
+  @Test
+  void put_givenExistingName_shouldReplaceBeanInIndex() {
+    registry.put("bean", new Bean1());
+    var replacement = new Bean3();
+    registry.put("bean", replacement);
+
+    assertThat(registry.getBeansOfType(BeanInterface.class)).isEmpty();
+    assertThat(registry.getBeansOfType(Bean3.class)).containsOnlyKeys("bean");
+    assertThat(registry.get("bean")).isSameAs(replacement);
+  }
+
+  @Test
+  void remove_givenRegisteredBean_shouldRemoveItFromIndex() {
+    registry.put("bean1", new Bean1());
+
+    registry.remove("bean1");
+
+    assertThat(registry).isEmpty();
+    assertThat(registry.getBeansOfType(Bean1.class)).isEmpty();
+    assertThat(registry.getBeansOfType(BeanInterface.class)).isEmpty();
+  }
+}
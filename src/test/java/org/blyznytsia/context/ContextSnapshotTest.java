@@ -0,0 +1,132 @@
+package org.blyznytsia.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.blyznytsia.bpp.data.AccessPoint;
+import org.blyznytsia.context.data.Bean1;
+import org.blyznytsia.context.data.Bean4;
+import org.blyznytsia.context.data.PrototypeBean;
+import org.blyznytsia.model.BeanDefinition;
+import org.blyznytsia.model.DependencyDescriptor;
+import org.blyznytsia.scanner.ComponentAnnotationScanner;
+import org.blyznytsia.startup.PhaseTiming;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ContextSnapshotTest {
+
+  private static final String PACKAGE = "org.blyznytsia.context.data";
+
+  @TempDir Path tempDir;
+
+  @Test
+  void createContext_givenSnapshotPath_shouldWriteSnapshotAndLoadItOnNextStart() {
+    // given:
+    var snapshotPath = tempDir.resolve("context.snapshot");
+    var options = ContextOptions.builder().snapshotPath(snapshotPath).build();
+    var scanned = new AnnotationApplicationContext(PACKAGE, options);
+
+    // when:
+    var loaded = new AnnotationApplicationContext(PACKAGE, options);
+
+    // then:
+    assertThat(snapshotPath).isRegularFile();
+    assertThat(phases(scanned)).contains("scan", "scanners", "validation");
+    assertThat(phases(loaded))
+        .contains("snapshot", "instantiation")
+        .doesNotContain("scan", "scanners", "validation");
+    assertThat(loaded.getContainer().keySet())
+        .containsExactlyInAnyOrderElementsOf(scanned.getContainer().keySet());
+    assertThat(loaded.getBean(Bean1.class).getBean2())
+        .isSameAs(loaded.getBean(Bean4.class).getBean2());
+    assertThat(loaded.getBean(PrototypeBean.class))
+        .isNotSameAs(loaded.getBean(PrototypeBean.class));
+  }
+
+  @Test
+  void load_givenSnapshotOfSameClasspath_shouldRestoreDefinitionsInDependencyOrder() {
+    // given:
+    var snapshotPath = tempDir.resolve("context.snapshot");
+    var hash = ContextSnapshot.classpathHash();
+    new AnnotationApplicationContext(
+        PACKAGE, ContextOptions.builder().snapshotPath(snapshotPath).build());
+
+    // when:
+    var snapshot = ContextSnapshot.load(snapshotPath, PACKAGE, hash).orElseThrow();
+
+    // then:
+    var names = snapshot.getDefinitions().stream().map(BeanDefinition::getName).toList();
+    assertThat(names.indexOf("bean3")).isLessThan(names.indexOf("bean2"));
+    assertThat(names.indexOf("bean2")).isLessThan(names.indexOf("bean1"));
+    assertThat(snapshot.getPostProcessorClasses()).hasSize(2);
+    var bean1 =
+        snapshot.getDefinitions().stream()
+            .filter(definition -> definition.getName().equals("bean1"))
+            .findFirst()
+            .orElseThrow();
+    assertThat(bean1.getAutowiredDependencies())
+        .extracting(DependencyDescriptor::getBeanName)
+        .containsExactlyInAnyOrder("bean2", "bean6");
+  }
+
+  @Test
+  void load_givenBeanWithValueFields_shouldRestoreItsPropertyKeys() {
+    // given:
+    var snapshotPath = tempDir.resolve("context.snapshot");
+    var hash = ContextSnapshot.classpathHash();
+    var definitions = new ComponentAnnotationScanner().scan("org.blyznytsia.bpp.data");
+    ContextSnapshot.write(snapshotPath, "org.blyznytsia.bpp.data", hash, definitions, List.of());
+
+    // when:
+    var snapshot =
+        ContextSnapshot.load(snapshotPath, "org.blyznytsia.bpp.data", hash).orElseThrow();
+
+    // then:
+    assertThat(snapshot.getDefinitions())
+        .filteredOn(definition -> definition.getType() == AccessPoint.class)
+        .singleElement()
+        .extracting(BeanDefinition::getValueKeys)
+        .isEqualTo(List.of("hostVal", "port", "id"));
+  }
+
+  @Test
+  void load_givenDifferentClasspathHashOrPackage_shouldIgnoreSnapshot() {
+    // given:
+    var snapshotPath = tempDir.resolve("context.snapshot");
+    var hash = ContextSnapshot.classpathHash();
+    new AnnotationApplicationContext(
+        PACKAGE, ContextOptions.builder().snapshotPath(snapshotPath).build());
+    var otherHash = hash.clone();
+    otherHash[0]++;
+
+    // when, then:
+    assertThat(ContextSnapshot.load(snapshotPath, PACKAGE, otherHash)).isEmpty();
+    assertThat(ContextSnapshot.load(snapshotPath, "org.blyznytsia.other", hash)).isEmpty();
+  }
+
+  @SneakyThrows
+  @Test
+  void createContext_givenCorruptedSnapshot_shouldScanAndRewriteIt() {
+    // given:
+    var snapshotPath = tempDir.resolve("context.snapshot");
+    Files.write(snapshotPath, new byte[] {0x42, 0x52, 0x4E, 0x47, 0, 0, 0, 1, 0});
+
+    // when:
+    var context =
+        new AnnotationApplicationContext(
+            PACKAGE, ContextOptions.builder().snapshotPath(snapshotPath).build());
+
+    // then:
+    assertThat(phases(context)).contains("scan");
+    assertThat(ContextSnapshot.load(snapshotPath, PACKAGE, ContextSnapshot.classpathHash()))
+        .isPresent();
+  }
+
+  private List<String> phases(AnnotationApplicationContext context) {
+    return context.getStartupReport().getPhases().stream().map(PhaseTiming::getName).toList();
+  }
+}
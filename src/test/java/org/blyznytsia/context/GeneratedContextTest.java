@@ -0,0 +1,153 @@
+package org.blyznytsia.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.tools.ToolProvider;
+import org.blyznytsia.context.generated.GeneratedClock;
+import org.blyznytsia.context.generated.GeneratedController;
+import org.blyznytsia.context.generated.GeneratedRepository;
+import org.blyznytsia.context.generated.GeneratedService;
+import org.blyznytsia.startup.PhaseTiming;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class GeneratedContextTest {
+
+  private static final String PACKAGE = "org.blyznytsia.context.generated";
+  private static final ContextOptions GENERATED =
+      ContextOptions.builder().generatedContext(true).build();
+
+  @Test
+  void find_givenPackageWithGeneratedCode_shouldReturnGeneratedContext() {
+    assertThat(GeneratedContext.find(PACKAGE))
+        .get()
+        .extracting(generated -> generated.getClass().getName())
+        .isEqualTo(PACKAGE + ".BringGeneratedContext");
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"org.blyznytsia", "org.blyznytsia.context.data", "org.blyznytsia.context"})
+  void find_givenPackageWithoutGeneratedCode_shouldReturnEmpty(String packageName) {
+    assertThat(GeneratedContext.find(packageName)).isEmpty();
+  }
+
+  @Test
+  void context_givenGeneratedContext_shouldWireBeansWithoutScanning() {
+    // when:
+    var context = new AnnotationApplicationContext(PACKAGE, GENERATED);
+
+    // then:
+    assertThat(phases(context)).containsExactly("generatedContext");
+    assertWired(context);
+  }
+
+  @Test
+  void context_givenDefaultOptions_shouldScanAndWireTheSameBeans() {
+    // when:
+    var context = new AnnotationApplicationContext(PACKAGE);
+
+    // then:
+    assertThat(phases(context))
+        .contains("scan", "instantiation")
+        .doesNotContain("generatedContext");
+    assertWired(context);
+  }
+
+  @Test
+  void context_givenClassesMissingFromGeneratedContext_shouldScanPackage(@TempDir Path classes)
+      throws Exception {
+    // given:
+    var source = classes.resolve("org/blyznytsia/context/generated/plugin/GeneratedPlugin.java");
+    Files.createDirectories(source.getParent());
+    Files.writeString(
+        source,
+        "package org.blyznytsia.context.generated.plugin;"
+            + " @org.blyznytsia.annotation.Component public class GeneratedPlugin {}");
+    var compiled =
+        ToolProvider.getSystemJavaCompiler()
+            .run(
+                null,
+                null,
+                null,
+                "-proc:none",
+                "-cp",
+                System.getProperty("java.class.path"),
+                "-d",
+                classes.toString(),
+                source.toString());
+    assertThat(compiled).isZero();
+
+    var thread = Thread.currentThread();
+    var previous = thread.getContextClassLoader();
+    try (var loader = new URLClassLoader(new URL[] {classes.toUri().toURL()}, previous)) {
+      thread.setContextClassLoader(loader);
+
+      // when:
+      var context = new AnnotationApplicationContext(PACKAGE, GENERATED);
+
+      // then:
+      assertThat(phases(context)).contains("scan").doesNotContain("generatedContext");
+      assertThat(context.getContainer()).containsKey("generatedPlugin");
+    } finally {
+      thread.setContextClassLoader(previous);
+    }
+  }
+
+  @Test
+  void context_givenPropertiesDirectory_shouldRefreshValuesWhenFileChanges(@TempDir Path directory)
+      throws Exception {
+    // given:
+    var file = directory.resolve("application.properties");
+    Files.writeString(file, "port=9001");
+
+    // when:
+    var context =
+        new AnnotationApplicationContext(
+            PACKAGE,
+            ContextOptions.builder().propertiesDirectory(directory).generatedContext(true).build());
+    var service = context.getBean(GeneratedService.class);
+
+    // then:
+    try {
+      assertThat(phases(context)).doesNotContain("generatedContext");
+      assertThat(service.getPort()).isEqualTo(9001);
+
+      Files.writeString(file, "port=9002");
+      var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+      while (service.getPort() != 9002 && System.nanoTime() < deadline) {
+        Thread.sleep(50);
+      }
+      assertThat(service.getPort()).isEqualTo(9002);
+    } finally {
+      context.getPropertiesWatcher().close();
+    }
+  }
+
+  private void assertWired(AnnotationApplicationContext context) {
+    var repository = context.getBean(GeneratedRepository.class);
+    var service = context.getBean(GeneratedService.class);
+    var controller = context.getBean(GeneratedController.class);
+
+    assertThat(context.getContainer())
+        .containsOnlyKeys(
+            "generatedRepository", "generatedService", "generatedController", "generatedClock");
+    assertThat(service.getRepository()).isSameAs(repository);
+    assertThat(service.getPort()).isEqualTo(8082);
+    assertThat(controller.getService()).isSameAs(service);
+    assertThat(controller.getClock()).isSameAs(context.getBean(GeneratedClock.class));
+    assertThat(controller.getClock().getRepository()).isSameAs(repository);
+  }
+
+  private List<String> phases(AnnotationApplicationContext context) {
+    return context.getStartupReport().getPhases().stream().map(PhaseTiming::getName).toList();
+  }
+}
@@ -0,0 +1,201 @@
+package org.blyznytsia.context;
+
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
+import org.blyznytsia.bpp.BeanPostProcessor;
+import org.blyznytsia.context.data.BarrierBean;
+import org.blyznytsia.context.data.CountingBean;
+import org.blyznytsia.context.data.EmptyBean;
+import org.blyznytsia.exception.BeanInstantiationException;
+import org.blyznytsia.model.BeanDefinition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class LazyBeanHolderTest {
+
+  @SneakyThrows
+  @Timeout(value = 30, unit = TimeUnit.SECONDS)
+  @Test
+  void getObject_givenManyThreadsAndBeans_shouldCreateEachBeanExactlyOnce() {
+    // given:
+    var beanCount = 64;
+    var threads = 32;
+    var lookupsPerThread = 10_000;
+    var holders = IntStream.range(0, beanCount).mapToObj(i -> holder(CountingBean.class)).toList();
+    var instancesBefore = CountingBean.INSTANCES.get();
+
+    var start = new CountDownLatch(1);
+    Callable<List<Object>> lookups =
+        () -> {
+          start.await();
+          var random = ThreadLocalRandom.current();
+          var seen = new ArrayList<>();
+          for (int i = 0; i < lookupsPerThread; i++) {
+            var index = random.nextInt(beanCount);
+            seen.add(index);
+            seen.add(holders.get(index).getObject());
+          }
+          return seen;
+        };
+    var executor = Executors.newFixedThreadPool(threads);
+
+    // when:
+    var results = new ArrayList<List<Object>>();
+    try {
+      var futures = IntStream.range(0, threads).mapToObj(i -> executor.submit(lookups)).toList();
+      start.countDown();
+      for (var future : futures) {
+        results.add(future.get(20, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    // then:
+    assertThat(CountingBean.INSTANCES.get() - instancesBefore).isEqualTo(beanCount);
+    for (var seen : results) {
+      for (int i = 0; i < seen.size(); i += 2) {
+        var holder = holders.get((Integer) seen.get(i));
+        assertThat(seen.get(i + 1)).isSameAs(holder.getObject());
+      }
+    }
+  }
+
+  @SneakyThrows
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  @Test
+  void getObject_givenUnrelatedBeans_shouldCreateThemInParallel() {
+    // given:
+    var first = holder(BarrierBean.class);
+    var second = holder(BarrierBean.class);
+    var executor = Executors.newFixedThreadPool(2);
+
+    // when:
+    try {
+      var firstBean = executor.submit(first::getObject);
+      var secondBean = executor.submit(second::getObject);
+
+      // then:
+      assertThat(firstBean.get()).isInstanceOf(BarrierBean.class);
+      assertThat(secondBean.get()).isInstanceOf(BarrierBean.class);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @SneakyThrows
+  @Test
+  void getObject_givenFailingCreation_shouldRethrowAndRetryOnNextAccess() {
+    // given:
+    var definition =
+        BeanDefinition.builder()
+            .name("brokenBean")
+            .type(EmptyBean.class)
+            .fieldDependencies(emptySet())
+            .requiredDependencies(Set.of("emptyBean"))
+            .constructor(EmptyBean.class.getConstructor())
+            .build();
+    var holder =
+        new LazyBeanHolder(
+            new PrototypeBeanFactory(
+                definition,
+                null,
+                new Object[] {new EmptyBean()},
+                null,
+                new BeanPostProcessor[0],
+                null));
+
+    // when, then:
+    assertThatThrownBy(holder::getObject).isInstanceOf(BeanInstantiationException.class);
+    assertThatThrownBy(holder::getObject).isInstanceOf(BeanInstantiationException.class);
+  }
+
+  @Test
+  void getObject_givenCheckedExceptionThrownSneakily_shouldRethrowAndRetryOnNextAccess() {
+    // given:
+    var attempts = new AtomicInteger();
+    var holder =
+        new LazyBeanHolder(
+            factory(EmptyBean.class),
+            bean -> {
+              if (attempts.incrementAndGet() == 1) {
+                fail(new CountDownLatch(0));
+              }
+            });
+
+    // when, then:
+    assertThatThrownBy(holder::getObject).isInstanceOf(IOException.class);
+    assertThat(holder.getObject()).isInstanceOf(EmptyBean.class);
+    assertThat(attempts.get()).isEqualTo(2);
+  }
+
+  @SneakyThrows
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  @Test
+  void getObject_givenCheckedExceptionThrownSneakily_shouldFailWaitingThreads() {
+    // given:
+    var creating = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var holder =
+        new LazyBeanHolder(
+            factory(EmptyBean.class),
+            bean -> {
+              creating.countDown();
+              fail(release);
+            });
+    var executor = Executors.newFixedThreadPool(2);
+
+    // when:
+    try {
+      var first = executor.submit(holder::getObject);
+      creating.await();
+      var second = executor.submit(holder::getObject);
+      release.countDown();
+
+      // then:
+      assertThatThrownBy(first::get).hasRootCauseInstanceOf(IOException.class);
+      assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+          .hasRootCauseInstanceOf(IOException.class);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @SneakyThrows
+  private static void fail(CountDownLatch release) {
+    release.await();
+    throw new IOException("Callback failed");
+  }
+
+  private LazyBeanHolder holder(Class<?> type) {
+    return new LazyBeanHolder(factory(type));
+  }
+
+  @SneakyThrows
+  private PrototypeBeanFactory factory(Class<?> type) {
+    var definition =
+        BeanDefinition.builder()
+            .name(type.getSimpleName())
+            .type(type)
+            .fieldDependencies(emptySet())
+            .requiredDependencies(emptySet())
+            .constructor(type.getConstructor())
+            .build();
+    return new PrototypeBeanFactory(
+        definition, null, new Object[0], null, new BeanPostProcessor[0], null);
+  }
+}
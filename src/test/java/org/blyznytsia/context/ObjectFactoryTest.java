@@ -1,18 +1,38 @@
 package org.blyznytsia.context;
 
 import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.SneakyThrows;
+import org.blyznytsia.context.async.AsyncClient;
+import org.blyznytsia.context.async.UnmanagedFutures;
+import org.blyznytsia.context.data.BarrierBean;
+import org.blyznytsia.context.data.DestroyableBean;
 import org.blyznytsia.context.data.EmptyBean;
+import org.blyznytsia.exception.BeanInstantiationException;
 import org.blyznytsia.model.BeanDefinition;
+import org.blyznytsia.scanner.ConfigurationAnnotationScanner;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -21,6 +41,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class ObjectFactoryTest {
 
+  private static final String ASYNC_PACKAGE = "org.blyznytsia.context.async";
+
   @Mock private AnnotationApplicationContext context;
 
   @Spy private Map<String, Object> container = new HashMap<>();
@@ -52,4 +74,322 @@ class ObjectFactoryTest {
     verify(context).getContainer();
     assertFalse(container.isEmpty());
   }
+
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  @Test
+  void initiateContext_given10kChainedDefinitions_shouldCreateBeansInSinglePass() {
+    // given:
+    var beanCount = 10_000;
+    var beanDefinitions =
+        IntStream.range(0, beanCount)
+            .mapToObj(
+                i ->
+                    emptyBeanDefinition("bean" + i, i == 0 ? emptySet() : Set.of("bean" + (i - 1))))
+            .collect(Collectors.toSet());
+
+    Map<String, Object> largeContainer = new HashMap<>();
+    when(context.getContainer()).thenReturn(largeContainer);
+
+    // when:
+    new ObjectFactory(context).initiateContext(beanDefinitions);
+
+    // then:
+    assertThat(largeContainer).hasSize(beanCount);
+  }
+
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  @Test
+  void initiateContext_givenUnresolvableDependencies_shouldFailFastListingThem() {
+    // given:
+    var beanDefinitions =
+        Set.of(
+            emptyBeanDefinition("emptyBean", emptySet()),
+            emptyBeanDefinition("beanA", Set.of("emptyBean", "missingBean")),
+            emptyBeanDefinition("beanB", Set.of("beanC")),
+            emptyBeanDefinition("beanC", Set.of("beanB")));
+
+    when(context.getContainer()).thenReturn(container);
+
+    // when:
+    assertThatThrownBy(() -> new ObjectFactory(context).initiateContext(beanDefinitions))
+        // then:
+        .isInstanceOf(BeanInstantiationException.class)
+        .hasMessage(
+            "Failed to resolve dependencies of beans: "
+                + "beanA -> [missingBean], beanB -> [beanC], beanC -> [beanB]");
+    assertThat(container).containsOnlyKeys("emptyBean");
+  }
+
+  @SneakyThrows
+  @Test
+  void initiateContext_givenExecutor_shouldCreateBeansOfSameLevelConcurrently() {
+    // given:
+    var beanDefinitions =
+        Set.of(
+            barrierBeanDefinition("barrierBean1", emptySet()),
+            barrierBeanDefinition("barrierBean2", emptySet()),
+            emptyBeanDefinition("emptyBean", Set.of("barrierBean1", "barrierBean2")));
+
+    Map<String, Object> concurrentContainer = new ConcurrentHashMap<>();
+    when(context.getContainer()).thenReturn(concurrentContainer);
+    var executor = Executors.newFixedThreadPool(2);
+
+    // when:
+    try {
+      new ObjectFactory(context, ContextOptions.builder().executor(executor).build())
+          .initiateContext(beanDefinitions);
+    } finally {
+      executor.shutdown();
+    }
+
+    // then:
+    assertThat(concurrentContainer).containsOnlyKeys("barrierBean1", "barrierBean2", "emptyBean");
+  }
+
+  @SneakyThrows
+  @Test
+  void initiateContext_givenExecutorAndFailingBean_shouldThrowBeanInstantiationException() {
+    // given:
+    var brokenDefinition =
+        BeanDefinition.builder()
+            .name("brokenBean")
+            .type(EmptyBean.class)
+            .fieldDependencies(emptySet())
+            .requiredDependencies(Set.of("emptyBean"))
+            .constructor(EmptyBean.class.getConstructor())
+            .build();
+    var beanDefinitions = Set.of(emptyBeanDefinition("emptyBean", emptySet()), brokenDefinition);
+
+    when(context.getContainer()).thenReturn(new ConcurrentHashMap<>());
+    var executor = Executors.newSingleThreadExecutor();
+
+    // when:
+    try {
+      assertThatThrownBy(
+              () ->
+                  new ObjectFactory(context, ContextOptions.builder().executor(executor).build())
+                      .initiateContext(beanDefinitions))
+          // then:
+          .isInstanceOf(BeanInstantiationException.class)
+          .hasMessageContaining("Failed to create an instance of bean")
+          .hasCauseInstanceOf(IllegalArgumentException.class);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @SneakyThrows
+  @Test
+  void initiateContext_givenFailingBean_shouldDestroyCreatedBeans() {
+    // given:
+    var destroyableDefinition =
+        BeanDefinition.builder()
+            .name("destroyableBean")
+            .type(DestroyableBean.class)
+            .fieldDependencies(emptySet())
+            .requiredDependencies(emptySet())
+            .constructor(DestroyableBean.class.getConstructor())
+            .build();
+    var brokenDefinition =
+        BeanDefinition.builder()
+            .name("brokenBean")
+            .type(EmptyBean.class)
+            .fieldDependencies(emptySet())
+            .requiredDependencies(Set.of("destroyableBean"))
+            .constructor(EmptyBean.class.getConstructor())
+            .build();
+    var beanDefinitions = Set.of(destroyableDefinition, brokenDefinition);
+    var destroyedBefore = DestroyableBean.DESTROYED.get();
+
+    when(context.getContainer()).thenReturn(container);
+
+    // when:
+    assertThatThrownBy(() -> new ObjectFactory(context).initiateContext(beanDefinitions))
+        // then:
+        .isInstanceOf(BeanInstantiationException.class)
+        .hasMessageContaining("brokenBean");
+    assertThat(DestroyableBean.DESTROYED.get() - destroyedBefore).isEqualTo(1);
+  }
+
+  @Test
+  void initiateContext_givenExecutorAndMissingDependency_shouldThrowBeanInstantiationException() {
+    // given:
+    var beanDefinitions = Set.of(emptyBeanDefinition("emptyBean", Set.of("missingBean")));
+    var executor = Executors.newSingleThreadExecutor();
+
+    // when:
+    try {
+      assertThatThrownBy(
+              () ->
+                  new ObjectFactory(context, ContextOptions.builder().executor(executor).build())
+                      .initiateContext(beanDefinitions))
+          // then:
+          .isInstanceOf(BeanInstantiationException.class)
+          .hasMessage("Failed to resolve dependencies of beans: emptyBean -> [missingBean]");
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void initiateContext_givenLazyBean_shouldCreateItOnFirstAccessOnly() {
+    // given:
+    var registry = new BeanRegistry();
+    var lazyDefinition = emptyBeanDefinition("emptyBean", emptySet());
+    lazyDefinition.setLazy(true);
+    when(context.getContainer()).thenReturn(registry);
+
+    // when:
+    new ObjectFactory(context).initiateContext(Set.of(lazyDefinition));
+
+    // then:
+    assertThat(registry.get("emptyBean")).isNotInstanceOf(EmptyBean.class);
+    var bean = registry.getBean("emptyBean");
+    assertThat(bean).isInstanceOf(EmptyBean.class);
+    assertThat(registry.getBean("emptyBean")).isSameAs(bean);
+  }
+
+  @SneakyThrows
+  @Test
+  void getBean_givenLazyBeanAccessedConcurrently_shouldCreateSingleInstance() {
+    // given:
+    var registry = new BeanRegistry();
+    var lazyDefinition = emptyBeanDefinition("emptyBean", emptySet());
+    lazyDefinition.setLazy(true);
+    when(context.getContainer()).thenReturn(registry);
+    new ObjectFactory(context).initiateContext(Set.of(lazyDefinition));
+
+    var threads = 16;
+    var start = new CountDownLatch(1);
+    Callable<Object> lookup =
+        () -> {
+          start.await();
+          return registry.getBeansOfType(EmptyBean.class).get("emptyBean");
+        };
+    var executor = Executors.newFixedThreadPool(threads);
+
+    // when:
+    Set<Object> beans = Collections.newSetFromMap(new IdentityHashMap<>());
+    try {
+      var futures = IntStream.range(0, threads).mapToObj(i -> executor.submit(lookup)).toList();
+      start.countDown();
+      for (var future : futures) {
+        beans.add(future.get(5, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    // then:
+    assertThat(beans).hasSize(1);
+  }
+
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  @Test
+  void initiateContext_givenAsyncBeans_shouldOverlapThemAndChainDependents() {
+    // given:
+    var beanDefinitions = new ConfigurationAnnotationScanner().scan(ASYNC_PACKAGE);
+    var registry = new BeanRegistry();
+    when(context.getContainer()).thenReturn(registry);
+
+    // when:
+    new ObjectFactory(context).initiateContext(beanDefinitions);
+
+    // then:
+    var client = registry.getBeansOfType(AsyncClient.class).get("asyncClient");
+    assertThat(client).isInstanceOf(AsyncClient.class);
+    assertThat(((AsyncClient) client).getCache()).isSameAs(registry.get("slowCache"));
+    assertThat(((AsyncClient) client).getModel()).isSameAs(registry.get("slowModel"));
+  }
+
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  @Test
+  void initiateContext_givenAsyncBeanNotReadyInTime_shouldThrowBeanInstantiationException() {
+    // given:
+    var beanDefinitions =
+        Set.of(
+            futureBeanDefinition("pendingBean"),
+            emptyBeanDefinition("emptyBean", Set.of("pendingBean")));
+    var options = ContextOptions.builder().startupTimeout(Duration.ofMillis(100)).build();
+
+    // when:
+    assertThatThrownBy(() -> new ObjectFactory(context, options).initiateContext(beanDefinitions))
+        // then:
+        .isInstanceOf(BeanInstantiationException.class)
+        .hasMessage(
+            "Beans [pendingBean, emptyBean] were not created within startup timeout of PT0.1S");
+  }
+
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  @Test
+  void initiateContext_givenAsyncBeanCompletedAfterTimeout_shouldNotRegisterIt() {
+    // given:
+    var beanDefinitions =
+        Set.of(
+            futureBeanDefinition("lateBean"), emptyBeanDefinition("emptyBean", Set.of("lateBean")));
+    var options = ContextOptions.builder().startupTimeout(Duration.ofMillis(100)).build();
+    assertThatThrownBy(() -> new ObjectFactory(context, options).initiateContext(beanDefinitions))
+        .isInstanceOf(BeanInstantiationException.class)
+        .hasMessageContaining("startup timeout");
+
+    // when:
+    UnmanagedFutures.LATE_BEAN.complete(new EmptyBean());
+
+    // then:
+    verify(context, never()).getContainer();
+  }
+
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  @Test
+  void initiateContext_givenFailedAsyncBean_shouldNotCreateDependents() {
+    // given:
+    var beanDefinitions =
+        Set.of(
+            futureBeanDefinition("failingBean"),
+            emptyBeanDefinition("emptyBean", Set.of("failingBean")));
+
+    // when:
+    assertThatThrownBy(() -> new ObjectFactory(context).initiateContext(beanDefinitions))
+        // then:
+        .isInstanceOf(BeanInstantiationException.class)
+        .hasMessageContaining("Failed to create an instance of bean")
+        .hasRootCauseMessage("Cache is down")
+        .satisfies(e -> assertThat(e.getSuppressed()).isEmpty());
+    assertThat(container).isEmpty();
+  }
+
+  @SneakyThrows
+  private BeanDefinition barrierBeanDefinition(String name, Set<String> fieldDependencies) {
+    return BeanDefinition.builder()
+        .name(name)
+        .type(BarrierBean.class)
+        .fieldDependencies(fieldDependencies)
+        .requiredDependencies(emptySet())
+        .constructor(BarrierBean.class.getConstructor())
+        .build();
+  }
+
+  @SneakyThrows
+  private BeanDefinition emptyBeanDefinition(String name, Set<String> fieldDependencies) {
+    return BeanDefinition.builder()
+        .name(name)
+        .type(EmptyBean.class)
+        .fieldDependencies(fieldDependencies)
+        .requiredDependencies(emptySet())
+        .constructor(EmptyBean.class.getConstructor())
+        .build();
+  }
+
+  @SneakyThrows
+  private BeanDefinition futureBeanDefinition(String name) {
+    return BeanDefinition.builder()
+        .name(name)
+        .type(EmptyBean.class)
+        .configClassDependency(true)
+        .configClass(UnmanagedFutures.class)
+        .beanMethod(UnmanagedFutures.class.getMethod(name))
+        .fieldDependencies(emptySet())
+        .requiredDependencies(emptySet())
+        .build();
+  }
 }
@@ -0,0 +1,168 @@
+package org.blyznytsia.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import org.blyznytsia.context.scoped.Counter;
+import org.blyznytsia.context.scoped.Mapper;
+import org.blyznytsia.context.scoped.RequestState;
+import org.blyznytsia.context.scoped.RequestStateHolder;
+import org.blyznytsia.context.scoped.ScopedConsumer;
+import org.blyznytsia.context.scoped.ThreadCounter;
+import org.blyznytsia.exception.NoSuchBeanException;
+import org.blyznytsia.exception.ScopeNotActiveException;
+import org.junit.jupiter.api.Test;
+
+class ScopedBeansTest {
+
+  private final AnnotationApplicationContext context =
+      new AnnotationApplicationContext("org.blyznytsia.context.scoped");
+
+  @Test
+  void getBean_givenThreadScopedBean_shouldDelegateToInstanceOfCurrentThread() throws Exception {
+    // given:
+    var counter = context.getBean(ScopedConsumer.class).getCounter();
+
+    // when:
+    counter.increment();
+    var count = counter.increment();
+    var otherThreadCount = CompletableFuture.supplyAsync(counter::increment).get();
+
+    // then:
+    assertThat(counter).isSameAs(context.getBean(Counter.class));
+    assertThat(counter.getClass().getSimpleName()).isEqualTo("ThreadCounter_ScopedProxy");
+    assertThat(count).isEqualTo(2);
+    assertThat(otherThreadCount).isEqualTo(1);
+    assertThatThrownBy(() -> context.getBean(ThreadCounter.class))
+        .isInstanceOf(NoSuchBeanException.class);
+  }
+
+  @Test
+  void getBean_givenRequestScopedBean_shouldDelegateToInstanceOfCurrentRequest() {
+    // given:
+    var state = context.getBean(ScopedConsumer.class).getRequestState();
+
+    // when, then:
+    assertThatThrownBy(state::getId).isInstanceOf(ScopeNotActiveException.class);
+    int first;
+    try (var request = context.beginRequest()) {
+      first = state.getId();
+      assertThat(state.getId()).isEqualTo(first);
+      try (var nested = context.beginRequest()) {
+        assertThat(state.getId()).isNotEqualTo(first);
+      }
+      assertThat(state.getId()).isEqualTo(first);
+    }
+    try (var request = context.beginRequest()) {
+      assertThat(state.getId()).isNotEqualTo(first);
+    }
+    assertThatThrownBy(state::getId).isInstanceOf(ScopeNotActiveException.class);
+    assertThat(state).isSameAs(context.getBean(RequestState.class));
+  }
+
+  @Test
+  void close_givenEndedRequest_shouldDestroyItsBeans() {
+    // given:
+    var state = context.getBean(RequestState.class);
+    var destroyedBefore = RequestStateHolder.DESTROYED.get();
+
+    // when, then:
+    try (var request = context.beginRequest()) {
+      state.getId();
+      try (var nested = context.beginRequest()) {
+        state.getId();
+      }
+      assertThat(RequestStateHolder.DESTROYED.get() - destroyedBefore).isEqualTo(1);
+    }
+    assertThat(RequestStateHolder.DESTROYED.get() - destroyedBefore).isEqualTo(2);
+  }
+
+  @Test
+  void close_givenThreadScopedBeans_shouldDestroyInstancesOfAllThreads() throws Exception {
+    // given:
+    var counter = context.getBean(Counter.class);
+    var executor = Executors.newSingleThreadExecutor();
+    var destroyedBefore = ThreadCounter.DESTROYED.get();
+
+    // when:
+    try {
+      counter.increment();
+      executor.submit(counter::increment).get();
+      context.close();
+    } finally {
+      executor.shutdown();
+    }
+
+    // then:
+    assertThat(ThreadCounter.DESTROYED.get() - destroyedBefore).isEqualTo(2);
+    assertThat(counter.increment()).isEqualTo(1);
+  }
+
+  @Test
+  void getBean_givenTerminatedThread_shouldDestroyItsThreadScopedBeans() throws Exception {
+    // given:
+    var counter = context.getBean(Counter.class);
+    var destroyedBefore = ThreadCounter.DESTROYED.get();
+    var thread = new Thread(counter::increment);
+    thread.start();
+    thread.join();
+
+    // when:
+    counter.increment();
+
+    // then:
+    assertThat(ThreadCounter.DESTROYED.get() - destroyedBefore).isEqualTo(1);
+  }
+
+  @Test
+  void getBean_givenManyTerminatedThreads_shouldDestroyTheirThreadScopedBeans() throws Exception {
+    // given:
+    var counter = context.getBean(Counter.class);
+    var destroyedBefore = ThreadCounter.DESTROYED.get();
+    for (int i = 0; i < 100; i++) {
+      var thread = new Thread(counter::increment);
+      thread.start();
+      thread.join();
+    }
+
+    // when:
+    counter.increment();
+
+    // then: sweeps run once the tracked threads double, at most the last thread is left
+    assertThat(ThreadCounter.DESTROYED.get() - destroyedBefore).isBetween(99, 100);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void getBean_givenScopedBeanMethodReturningGenericInterface_shouldUseGeneratedProxy()
+      throws Exception {
+    // given:
+    Supplier<String> threadName = context.getBean("threadName", Supplier.class);
+
+    // when:
+    var otherThreadName =
+        CompletableFuture.supplyAsync(threadName, runnable -> new Thread(runnable, "other").start())
+            .get();
+
+    // then:
+    assertThat(threadName.getClass().getSimpleName())
+        .isEqualTo("ScopedConfig_threadName_ScopedProxy");
+    assertThat(threadName.get()).isEqualTo(Thread.currentThread().getName());
+    assertThat(otherThreadName).isEqualTo("other");
+  }
+
+  @Test
+  void getBean_givenInterfaceWithGenericMethod_shouldFallBackToDynamicProxy() {
+    // when:
+    var mapper = context.getBean(Mapper.class);
+
+    // then:
+    assertThat(Proxy.isProxyClass(mapper.getClass())).isTrue();
+    assertThat(mapper.map("value", String.class)).isEqualTo("value");
+    assertThat(mapper).isEqualTo(mapper).hasSameHashCodeAs(mapper);
+  }
+}
@@ -0,0 +1,87 @@
+package org.blyznytsia.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.SneakyThrows;
+import org.blyznytsia.context.data.Bean1;
+import org.blyznytsia.context.data.LazyBean;
+import org.blyznytsia.context.data.PrototypeBean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Surefire runs tests with {@code -Djdk.tracePinnedThreads=full}, so on Java 21 a pinned virtual
+ * thread also prints its stack trace to the test output
+ */
+class VirtualThreadsTest {
+
+  private static final String PACKAGE = "org.blyznytsia.context.data";
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+  @TempDir Path tempDir;
+
+  @Test
+  void newExecutor_givenJvmWithoutVirtualThreads_shouldThrowUnsupportedOperationException() {
+    assumeFalse(VirtualThreads.isSupported());
+
+    assertThatThrownBy(VirtualThreads::newExecutor)
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessageContaining(System.getProperty("java.version"));
+  }
+
+  @SneakyThrows
+  @Timeout(value = 60, unit = TimeUnit.SECONDS)
+  @Test
+  void getBean_givenManyVirtualThreads_shouldNotPinCarrierThreads() {
+    assumeTrue(VirtualThreads.isSupported());
+
+    // given:
+    var threads = 10_000;
+    var executor = VirtualThreads.newExecutor();
+    var recordingFile = tempDir.resolve("pinned.jfr");
+    List<Object> beans = new ArrayList<>();
+
+    // when:
+    try (var recording = new Recording()) {
+      recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+      recording.start();
+
+      var context =
+          new AnnotationApplicationContext(
+              PACKAGE, ContextOptions.builder().executor(executor).build());
+      Callable<Object> lookup =
+          () ->
+              List.of(
+                  context.getBean(Bean1.class),
+                  context.getBean(LazyBean.class),
+                  context.getBean(PrototypeBean.class));
+      for (var future : executor.invokeAll(Collections.nCopies(threads, lookup))) {
+        beans.add(future.get());
+      }
+
+      recording.stop();
+      recording.dump(recordingFile);
+    } finally {
+      executor.shutdown();
+    }
+
+    // then:
+    assertThat(beans).hasSize(threads).doesNotContainNull();
+    assertThat(RecordingFile.readAllEvents(recordingFile))
+        .filteredOn(event -> event.getEventType().getName().equals(PINNED_EVENT))
+        .isEmpty();
+  }
+}
@@ -0,0 +1,12 @@
+package org.blyznytsia.context.async;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class AsyncClient {
+
+  private final SlowCache cache;
+  private final SlowModel model;
+}
@@ -0,0 +1,48 @@
+package org.blyznytsia.context.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.SneakyThrows;
+import org.blyznytsia.annotation.Bean;
+import org.blyznytsia.annotation.Configuration;
+
+/** Slow beans that are created only if both of them are initialized at the same time */
+@Configuration
+public class AsyncConfig {
+
+  private final CountDownLatch started = new CountDownLatch(2);
+
+  @Bean
+  public CompletableFuture<SlowCache> slowCache() {
+    return startTogether(SlowCache::new);
+  }
+
+  @Bean
+  public CompletableFuture<SlowModel> slowModel() {
+    return startTogether(SlowModel::new);
+  }
+
+  @Bean
+  public AsyncClient asyncClient(SlowCache slowCache, SlowModel slowModel) {
+    return new AsyncClient(slowCache, slowModel);
+  }
+
+  private <T> CompletableFuture<T> startTogether(Supplier<T> factory) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          awaitOther();
+          return factory.get();
+        },
+        task -> new Thread(task).start());
+  }
+
+  @SneakyThrows
+  private void awaitOther() {
+    started.countDown();
+    if (!started.await(5, TimeUnit.SECONDS)) {
+      throw new IllegalStateException("Slow beans were initialized one after another");
+    }
+  }
+}
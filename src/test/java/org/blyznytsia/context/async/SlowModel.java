@@ -0,0 +1,3 @@
+package org.blyznytsia.context.async;
+
+public class SlowModel {}
@@ -0,0 +1,23 @@
+package org.blyznytsia.context.async;
+
+import java.util.concurrent.CompletableFuture;
+import org.blyznytsia.context.data.EmptyBean;
+
+/** Methods used as {@code @Bean} methods by definitions built in tests, it is not scanned */
+public class UnmanagedFutures {
+
+  /** Future of {@link #lateBean()}, completed by a test once the startup timeout elapsed */
+  public static final CompletableFuture<EmptyBean> LATE_BEAN = new CompletableFuture<>();
+
+  public CompletableFuture<EmptyBean> pendingBean() {
+    return new CompletableFuture<>();
+  }
+
+  public CompletableFuture<EmptyBean> failingBean() {
+    return CompletableFuture.failedFuture(new IllegalStateException("Cache is down"));
+  }
+
+  public CompletableFuture<EmptyBean> lateBean() {
+    return LATE_BEAN;
+  }
+}
@@ -0,0 +1,14 @@
+package org.blyznytsia.context.data;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+/** Not a component: the constructor only returns once two instances are created concurrently */
+public class BarrierBean {
+
+  public static final CyclicBarrier BARRIER = new CyclicBarrier(2);
+
+  public BarrierBean() throws Exception {
+    BARRIER.await(5, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,13 @@
+package org.blyznytsia.context.data;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Not a component: counts created instances */
+public class CountingBean {
+
+  public static final AtomicInteger INSTANCES = new AtomicInteger();
+
+  public CountingBean() {
+    INSTANCES.incrementAndGet();
+  }
+}
@@ -0,0 +1,15 @@
+package org.blyznytsia.context.data;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.blyznytsia.annotation.PreDestroy;
+
+/** Not a component: counts destroyed instances */
+public class DestroyableBean {
+
+  public static final AtomicInteger DESTROYED = new AtomicInteger();
+
+  @PreDestroy
+  public void destroy() {
+    DESTROYED.incrementAndGet();
+  }
+}
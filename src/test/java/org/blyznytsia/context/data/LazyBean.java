@@ -0,0 +1,14 @@
+package org.blyznytsia.context.data;
+
+import lombok.Getter;
+import org.blyznytsia.annotation.Autowired;
+import org.blyznytsia.annotation.Component;
+import org.blyznytsia.annotation.Lazy;
+
+@Lazy
+@Component
+@Getter
+public class LazyBean {
+
+  @Autowired private Bean5 bean5;
+}
@@ -0,0 +1,19 @@
+package org.blyznytsia.context.data;
+
+import lombok.Getter;
+import org.blyznytsia.annotation.Autowired;
+import org.blyznytsia.annotation.Component;
+import org.blyznytsia.model.Scope;
+
+@Component(scope = Scope.PROTOTYPE)
+@Getter
+public class PrototypeBean {
+
+  private final EmptyBean emptyBean;
+  @Autowired private Bean5 bean5;
+
+  @Autowired
+  public PrototypeBean(EmptyBean emptyBean) {
+    this.emptyBean = emptyBean;
+  }
+}
@@ -0,0 +1,11 @@
+package org.blyznytsia.context.generated;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class GeneratedClock {
+
+  private final GeneratedRepository repository;
+}
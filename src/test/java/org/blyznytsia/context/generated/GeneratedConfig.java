@@ -0,0 +1,13 @@
+package org.blyznytsia.context.generated;
+
+import org.blyznytsia.annotation.Bean;
+import org.blyznytsia.annotation.Configuration;
+
+@Configuration
+public class GeneratedConfig {
+
+  @Bean
+  public GeneratedClock generatedClock(GeneratedRepository generatedRepository) {
+    return new GeneratedClock(generatedRepository);
+  }
+}
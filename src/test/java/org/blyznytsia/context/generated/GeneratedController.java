@@ -0,0 +1,19 @@
+package org.blyznytsia.context.generated;
+
+import lombok.Getter;
+import org.blyznytsia.annotation.Autowired;
+import org.blyznytsia.annotation.Component;
+
+@Getter
+@Component
+public class GeneratedController {
+
+  private final GeneratedClock clock;
+
+  @Autowired GeneratedService service;
+
+  @Autowired
+  public GeneratedController(GeneratedClock generatedClock) {
+    this.clock = generatedClock;
+  }
+}
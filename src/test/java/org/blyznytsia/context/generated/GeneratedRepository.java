@@ -0,0 +1,6 @@
+package org.blyznytsia.context.generated;
+
+import org.blyznytsia.annotation.Component;
+
+@Component
+public class GeneratedRepository {}
@@ -0,0 +1,21 @@
+package org.blyznytsia.context.generated;
+
+import lombok.Getter;
+import org.blyznytsia.annotation.Autowired;
+import org.blyznytsia.annotation.Component;
+import org.blyznytsia.annotation.Value;
+
+@Getter
+@Component
+public class GeneratedService {
+
+  private final GeneratedRepository repository;
+
+  @Value("port")
+  int port;
+
+  @Autowired
+  public GeneratedService(GeneratedRepository repository) {
+    this.repository = repository;
+  }
+}
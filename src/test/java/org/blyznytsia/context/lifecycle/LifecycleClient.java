@@ -0,0 +1,27 @@
+package org.blyznytsia.context.lifecycle;
+
+import org.blyznytsia.annotation.Autowired;
+import org.blyznytsia.annotation.Component;
+import org.blyznytsia.annotation.PostConstruct;
+import org.blyznytsia.annotation.PreDestroy;
+
+@Component
+public class LifecycleClient {
+
+  private final LifecycleLog log;
+
+  @Autowired
+  public LifecycleClient(LifecycleLog lifecycleLog, LifecyclePool lifecyclePool) {
+    this.log = lifecycleLog;
+  }
+
+  @PostConstruct
+  void connect() {
+    log.add("client:connect");
+  }
+
+  @PreDestroy
+  void disconnect() {
+    log.add("client:disconnect");
+  }
+}
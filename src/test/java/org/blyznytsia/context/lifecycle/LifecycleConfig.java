@@ -0,0 +1,14 @@
+package org.blyznytsia.context.lifecycle;
+
+import org.blyznytsia.annotation.Bean;
+import org.blyznytsia.annotation.Configuration;
+
+@Configuration
+public class LifecycleConfig {
+
+  @Bean(initMethod = "start")
+  public LifecycleWorker lifecycleWorker(
+      LifecycleClient lifecycleClient, LifecycleLog lifecycleLog) {
+    return new LifecycleWorker(lifecycleLog);
+  }
+}
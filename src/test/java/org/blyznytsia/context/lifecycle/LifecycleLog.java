@@ -0,0 +1,18 @@
+package org.blyznytsia.context.lifecycle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+import org.blyznytsia.annotation.Component;
+
+@Getter
+@Component
+public class LifecycleLog {
+
+  private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+  public void add(String event) {
+    events.add(event);
+  }
+}
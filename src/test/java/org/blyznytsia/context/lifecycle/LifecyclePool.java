@@ -0,0 +1,27 @@
+package org.blyznytsia.context.lifecycle;
+
+import org.blyznytsia.annotation.Autowired;
+import org.blyznytsia.annotation.Component;
+import org.blyznytsia.annotation.PostConstruct;
+import org.blyznytsia.annotation.PreDestroy;
+
+@Component
+public class LifecyclePool {
+
+  private final LifecycleLog log;
+
+  @Autowired
+  public LifecyclePool(LifecycleLog lifecycleLog) {
+    this.log = lifecycleLog;
+  }
+
+  @PostConstruct
+  void open() {
+    log.add("pool:open");
+  }
+
+  @PreDestroy
+  void close() {
+    log.add("pool:close");
+  }
+}
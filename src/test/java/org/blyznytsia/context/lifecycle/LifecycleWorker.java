@@ -0,0 +1,19 @@
+package org.blyznytsia.context.lifecycle;
+
+import lombok.RequiredArgsConstructor;
+import org.blyznytsia.annotation.PreDestroy;
+
+@RequiredArgsConstructor
+public class LifecycleWorker {
+
+  private final LifecycleLog log;
+
+  public void start() {
+    log.add("worker:start");
+  }
+
+  @PreDestroy
+  void stop() {
+    log.add("worker:stop");
+  }
+}
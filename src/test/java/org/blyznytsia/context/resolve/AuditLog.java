@@ -0,0 +1,3 @@
+package org.blyznytsia.context.resolve;
+
+public interface AuditLog {}
@@ -0,0 +1,6 @@
+package org.blyznytsia.context.resolve;
+
+import org.blyznytsia.annotation.Component;
+
+@Component("primaryStore")
+public class DatabaseStore implements MessageStore {}
@@ -0,0 +1,6 @@
+package org.blyznytsia.context.resolve;
+
+import org.blyznytsia.annotation.Component;
+
+@Component("audit")
+public class FileAuditLog implements AuditLog {}
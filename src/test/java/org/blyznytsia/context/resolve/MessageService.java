@@ -0,0 +1,33 @@
+package org.blyznytsia.context.resolve;
+
+import lombok.Getter;
+import org.blyznytsia.annotation.Autowired;
+import org.blyznytsia.annotation.Component;
+import org.blyznytsia.annotation.Qualifier;
+import org.blyznytsia.context.resolve.json.Formatter;
+
+@Getter
+@Component
+public class MessageService {
+
+  private final MessageStore store;
+  private final AuditLog auditLog;
+  private final AuditLog replicaLog;
+  private final Formatter formatter;
+
+  @Autowired
+  @Qualifier("memoryStore")
+  MessageStore fallbackStore;
+
+  @Autowired
+  public MessageService(
+      @Qualifier("primaryStore") MessageStore store,
+      AuditLog auditLog,
+      AuditLog replicaLog,
+      Formatter formatter) {
+    this.store = store;
+    this.auditLog = auditLog;
+    this.replicaLog = replicaLog;
+    this.formatter = formatter;
+  }
+}
@@ -0,0 +1,7 @@
+package org.blyznytsia.context.resolve;
+
+/** Not a component: several beans match its parameter, so it would fail the context */
+public class UnqualifiedStoreClient {
+
+  public UnqualifiedStoreClient(MessageStore store) {}
+}
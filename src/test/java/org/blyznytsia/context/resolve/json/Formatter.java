@@ -0,0 +1,6 @@
+package org.blyznytsia.context.resolve.json;
+
+import org.blyznytsia.annotation.Component;
+
+@Component("jsonFormatter")
+public class Formatter {}
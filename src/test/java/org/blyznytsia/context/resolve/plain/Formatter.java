@@ -0,0 +1,6 @@
+package org.blyznytsia.context.resolve.plain;
+
+import org.blyznytsia.annotation.Component;
+
+@Component("plainFormatter")
+public class Formatter {}
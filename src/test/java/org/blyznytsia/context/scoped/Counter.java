@@ -0,0 +1,6 @@
+package org.blyznytsia.context.scoped;
+
+public interface Counter {
+
+  int increment();
+}
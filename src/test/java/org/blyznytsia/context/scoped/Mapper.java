@@ -0,0 +1,6 @@
+package org.blyznytsia.context.scoped;
+
+public interface Mapper {
+
+  <T> T map(Object value, Class<T> type);
+}
@@ -0,0 +1,25 @@
+package org.blyznytsia.context.scoped;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.blyznytsia.annotation.Component;
+import org.blyznytsia.annotation.PreDestroy;
+import org.blyznytsia.model.Scope;
+
+@Component(value = "requestState", scope = Scope.REQUEST)
+public class RequestStateHolder implements RequestState {
+
+  public static final AtomicInteger DESTROYED = new AtomicInteger();
+  private static final AtomicInteger IDS = new AtomicInteger();
+
+  private final int id = IDS.incrementAndGet();
+
+  @Override
+  public int getId() {
+    return id;
+  }
+
+  @PreDestroy
+  public void destroy() {
+    DESTROYED.incrementAndGet();
+  }
+}
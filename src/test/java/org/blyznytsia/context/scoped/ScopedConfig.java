@@ -0,0 +1,16 @@
+package org.blyznytsia.context.scoped;
+
+import java.util.function.Supplier;
+import org.blyznytsia.annotation.Bean;
+import org.blyznytsia.annotation.Configuration;
+import org.blyznytsia.model.Scope;
+
+@Configuration
+public class ScopedConfig {
+
+  @Bean(scope = Scope.THREAD)
+  public Supplier<String> threadName() {
+    var name = Thread.currentThread().getName();
+    return () -> name;
+  }
+}
@@ -0,0 +1,19 @@
+package org.blyznytsia.context.scoped;
+
+import lombok.Getter;
+import org.blyznytsia.annotation.Autowired;
+import org.blyznytsia.annotation.Component;
+
+@Getter
+@Component
+public class ScopedConsumer {
+
+  private final Counter counter;
+  private final RequestState requestState;
+
+  @Autowired
+  public ScopedConsumer(Counter counter, RequestState requestState) {
+    this.counter = counter;
+    this.requestState = requestState;
+  }
+}
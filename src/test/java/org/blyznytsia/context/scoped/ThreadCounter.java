@@ -0,0 +1,24 @@
+package org.blyznytsia.context.scoped;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.blyznytsia.annotation.Component;
+import org.blyznytsia.annotation.PreDestroy;
+import org.blyznytsia.model.Scope;
+
+@Component(value = "counter", scope = Scope.THREAD)
+public class ThreadCounter implements Counter {
+
+  public static final AtomicInteger DESTROYED = new AtomicInteger();
+
+  private int count;
+
+  @Override
+  public int increment() {
+    return ++count;
+  }
+
+  @PreDestroy
+  public void destroy() {
+    DESTROYED.incrementAndGet();
+  }
+}
@@ -0,0 +1,13 @@
+package org.blyznytsia.context.scoped;
+
+import org.blyznytsia.annotation.Component;
+import org.blyznytsia.model.Scope;
+
+@Component(scope = Scope.THREAD)
+public class ThreadMapper implements Mapper {
+
+  @Override
+  public <T> T map(Object value, Class<T> type) {
+    return type.cast(value);
+  }
+}
@@ -0,0 +1,86 @@
+package org.blyznytsia.convert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ConverterRegistryTest {
+
+  private final ConverterRegistry registry = new ConverterRegistry();
+
+  List<Long> longs;
+  Set<TimeUnit> units;
+
+  @Test
+  void converterFor_givenPrimitivesAndWrappers_shouldConvert() {
+    assertThat(registry.converterFor(boolean.class).apply("true")).isEqualTo(true);
+    assertThat(registry.converterFor(Boolean.class).apply(" FALSE ")).isEqualTo(false);
+    assertThat(registry.converterFor(int.class).apply("42")).isEqualTo(42);
+    assertThat(registry.converterFor(char.class).apply("x")).isEqualTo('x');
+    assertThat(registry.converterFor(float.class).apply("1.5")).isEqualTo(1.5f);
+  }
+
+  @Test
+  void converterFor_givenInvalidBoolean_shouldFail() {
+    assertThatThrownBy(() -> registry.converterFor(boolean.class).apply("yes"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @ParameterizedTest
+  @CsvSource({"250, 250", "250ms, 250", "2s, 2000", "3m, 180000", "1h, 3600000", "PT1.5S, 1500"})
+  void converterFor_givenDuration_shouldParseUnitsAndIso(String value, long millis) {
+    assertThat(registry.converterFor(Duration.class).apply(value))
+        .isEqualTo(Duration.ofMillis(millis));
+  }
+
+  @ParameterizedTest
+  @CsvSource({"512, 512", "512B, 512", "64kb, 65536", "10MB, 10485760", "1GB, 1073741824"})
+  void converterFor_givenDataSize_shouldParseBinaryUnits(String value, long bytes) {
+    assertThat(registry.converterFor(DataSize.class).apply(value))
+        .isEqualTo(DataSize.ofBytes(bytes));
+  }
+
+  @Test
+  void converterFor_givenEnum_shouldMatchNameIgnoringCase() {
+    var converter = registry.converterFor(TimeUnit.class);
+
+    assertThat(converter.apply("SECONDS")).isEqualTo(TimeUnit.SECONDS);
+    assertThat(converter.apply("minutes")).isEqualTo(TimeUnit.MINUTES);
+    assertThatThrownBy(() -> converter.apply("weeks")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void converterFor_givenCollections_shouldSplitByCommasAndConvertElements() throws Exception {
+    var longsType = getClass().getDeclaredField("longs").getGenericType();
+    var unitsType = getClass().getDeclaredField("units").getGenericType();
+
+    assertThat(registry.converterFor(longsType).apply("1, 2,,3")).isEqualTo(List.of(1L, 2L, 3L));
+    assertThat(registry.converterFor(unitsType).apply("days,hours"))
+        .isEqualTo(Set.of(TimeUnit.DAYS, TimeUnit.HOURS));
+    assertThat(registry.converterFor(longsType).apply(null)).isNull();
+  }
+
+  @Test
+  void converterFor_givenUnsupportedType_shouldFailOnConversion() {
+    var converter = registry.converterFor(URI.class);
+
+    assertThatThrownBy(() -> converter.apply("https://example.com"))
+        .isInstanceOf(ClassCastException.class);
+  }
+
+  @Test
+  void register_givenCustomConverter_shouldUseIt() {
+    registry.register(URI.class, URI::create);
+
+    assertThat(registry.converterFor(URI.class).apply("https://example.com"))
+        .isEqualTo(URI.create("https://example.com"));
+  }
+}
@@ -0,0 +1,109 @@
+package org.blyznytsia.env;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import org.blyznytsia.exception.PropertyResolutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class EnvironmentTest {
+
+  @AfterEach
+  void clearSystemProperties() {
+    System.clearProperty(Environment.ACTIVE_PROFILES_PROPERTY);
+    System.clearProperty("id");
+  }
+
+  @Test
+  void of_givenLayers_shouldTakeValueOfHighestPrecedence() {
+    var environment =
+        Environment.of(
+            List.of(
+                new MapPropertySource("high", Map.of("port", "9090")),
+                new MapPropertySource("low", Map.of("port", "8080", "host", "localhost"))));
+
+    assertThat(environment.getProperty("port")).isEqualTo("9090");
+    assertThat(environment.getProperty("host")).isEqualTo("localhost");
+    assertThat(environment.getProperty("missing")).isNull();
+  }
+
+  @Test
+  void of_givenEnvironmentVariables_shouldMatchRelaxedNames() {
+    var environment =
+        Environment.of(
+            List.of(
+                new EnvironmentVariablesPropertySource(Map.of("APP_HTTP_PORT", "9090")),
+                new MapPropertySource("file", Map.of("app.http-port", "8080"))));
+
+    assertThat(environment.getProperty("app.http-port")).isEqualTo("9090");
+  }
+
+  @Test
+  void of_givenPlaceholders_shouldResolveThemUpFront() {
+    var environment =
+        Environment.of(
+            List.of(
+                new MapPropertySource(
+                    "file",
+                    Map.of(
+                        "host", "localhost",
+                        "port", "8080",
+                        "url", "http://${host}:${port}/${path:api}",
+                        "env", "dev",
+                        "dev.name", "development",
+                        "name", "${${env}.name}"))));
+
+    assertThat(environment.getProperty("url")).isEqualTo("http://localhost:8080/api");
+    assertThat(environment.getProperty("name")).isEqualTo("development");
+    assertThat(environment.getProperties()).containsEntry("url", "http://localhost:8080/api");
+  }
+
+  @Test
+  void getProperty_givenUnresolvablePlaceholders_shouldFailOnRead() {
+    var environment =
+        Environment.of(
+            List.of(
+                new MapPropertySource(
+                    "file",
+                    Map.of(
+                        "a", "${b}",
+                        "b", "${a}",
+                        "url", "http://${host}",
+                        "port", "8080"))));
+
+    assertThat(environment.getProperty("port")).isEqualTo("8080");
+    assertThat(environment.getProperties()).containsOnlyKeys("port");
+    assertThatThrownBy(() -> environment.getProperty("a"))
+        .isInstanceOf(PropertyResolutionException.class)
+        .hasMessageContaining("Circular placeholder reference");
+    assertThatThrownBy(() -> environment.getProperty("url"))
+        .isInstanceOf(PropertyResolutionException.class)
+        .hasMessage("Could not resolve placeholder 'host' in value 'http://${host}'");
+  }
+
+  @Test
+  void load_givenSystemPropertiesAndProfile_shouldLayerSources() {
+    System.setProperty(Environment.ACTIVE_PROFILES_PROPERTY, "test");
+    System.setProperty("id", "1");
+
+    var environment = Environment.load();
+
+    assertThat(environment.getActiveProfiles()).containsExactly("test");
+    assertThat(environment.getProperty("id")).isEqualTo("1");
+    assertThat(environment.getProperty("port")).isEqualTo("9090");
+    assertThat(environment.getProperty("hostVal")).isEqualTo("http://localhost");
+    assertThat(environment.getProperty("greeting")).isEqualTo("Hello from test profile");
+  }
+
+  @Test
+  void load_givenNoProfile_shouldUseApplicationProperties() {
+    var environment = Environment.load();
+
+    assertThat(environment.getActiveProfiles()).isEmpty();
+    assertThat(environment.getProperty("port")).isEqualTo("8082");
+    assertThat(environment.getProperty("greeting")).isNull();
+  }
+}
@@ -0,0 +1,118 @@
+package org.blyznytsia.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.SneakyThrows;
+import org.blyznytsia.bpp.AutowiredAnnotationBeanPostProcessor;
+import org.blyznytsia.context.AnnotationApplicationContext;
+import org.blyznytsia.context.data.Bean1;
+import org.blyznytsia.context.data.Bean5;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BringEventsTest {
+
+  private static final String PACKAGE = "org.blyznytsia.context.data";
+
+  @TempDir Path tempDir;
+
+  @Test
+  void createContext_givenRecording_shouldEmitCreationAndConfigurationEvents() {
+    // when:
+    var events = record(() -> new AnnotationApplicationContext(PACKAGE));
+
+    // then:
+    assertThat(ofType(events, "org.blyznytsia.BeanCreation"))
+        .filteredOn(event -> "bean1".equals(event.getString("beanName")))
+        .singleElement()
+        .satisfies(
+            event -> {
+              assertThat(event.getClass("beanType").getName()).isEqualTo(Bean1.class.getName());
+              assertThat(event.getDuration()).isPositive();
+              assertThat(event.getThread().getJavaName())
+                  .isEqualTo(Thread.currentThread().getName());
+            });
+    assertThat(ofType(events, "org.blyznytsia.BeanConfiguration"))
+        .filteredOn(event -> "bean1".equals(event.getString("beanName")))
+        .extracting(event -> event.getClass("postProcessor").getName())
+        .contains(AutowiredAnnotationBeanPostProcessor.class.getName());
+  }
+
+  @Test
+  void getBean_givenRecordingWithZeroThreshold_shouldEmitLookupEvents() {
+    // given:
+    var context = new AnnotationApplicationContext(PACKAGE);
+
+    // when:
+    var events =
+        record(
+            () -> {
+              context.getBean(Bean1.class);
+              context.getBean("bean5", Bean5.class);
+            });
+
+    // then:
+    var lookups = ofType(events, "org.blyznytsia.BeanLookup");
+    assertThat(lookups)
+        .extracting(
+            event -> event.getString("beanName"), event -> event.getClass("beanType").getName())
+        .containsExactly(tuple(null, Bean1.class.getName()), tuple("bean5", Bean5.class.getName()));
+  }
+
+  @Test
+  void emitJfrEvents_givenStartupReport_shouldEmitPhaseAndBeanStepEvents() {
+    // given:
+    var report = new AnnotationApplicationContext(PACKAGE).getStartupReport();
+
+    // when:
+    var events = record(report::emitJfrEvents);
+
+    // then:
+    assertThat(ofType(events, "org.blyznytsia.StartupPhase"))
+        .extracting(event -> event.getString("phase"))
+        .containsExactly("scan", "scanners", "validation", "postProcessors", "instantiation");
+    assertThat(ofType(events, "org.blyznytsia.BeanStartup"))
+        .filteredOn(event -> "bean1".equals(event.getString("beanName")))
+        .extracting(event -> event.getString("step"))
+        .contains("instantiate");
+  }
+
+  @Test
+  void event_givenNoRecording_shouldBeDisabled() {
+    assertThat(new BeanLookupEvent().isEnabled()).isFalse();
+    assertThat(new BeanCreationEvent().shouldCommit()).isFalse();
+  }
+
+  @SneakyThrows
+  private List<RecordedEvent> record(Runnable action) {
+    var file = tempDir.resolve("bring.jfr");
+    try (var recording = new Recording()) {
+      for (var eventType :
+          List.<Class<? extends Event>>of(
+              BeanCreationEvent.class,
+              BeanConfigurationEvent.class,
+              BeanLookupEvent.class,
+              StartupPhaseEvent.class,
+              BeanStartupEvent.class)) {
+        recording.enable(eventType).withThreshold(Duration.ZERO);
+      }
+      recording.start();
+      action.run();
+      recording.stop();
+      recording.dump(file);
+    }
+    return RecordingFile.readAllEvents(file);
+  }
+
+  private List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+    return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+  }
+}
@@ -0,0 +1,107 @@
+package org.blyznytsia.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BeanInstantiatorTest {
+
+  @Test
+  void instantiate_givenPrivateConstructor_shouldPassArguments() throws Exception {
+    var constructor = Pair.class.getDeclaredConstructor(String.class, Integer.class);
+
+    var pair =
+        (Pair)
+            BeanInstantiator.forConstructor(constructor).instantiate(null, new Object[] {"a", 1});
+
+    assertThat(pair.values).containsExactly("a", 1);
+  }
+
+  @Test
+  void forConstructor_givenSameConstructorAgain_shouldReuseInstantiator() throws Exception {
+    var instantiator =
+        BeanInstantiator.forConstructor(
+            Pair.class.getDeclaredConstructor(String.class, Integer.class));
+
+    assertThat(
+            BeanInstantiator.forConstructor(
+                Pair.class.getDeclaredConstructor(String.class, Integer.class)))
+        .isSameAs(instantiator);
+  }
+
+  @Test
+  void instantiate_givenMoreParametersThanGeneratedArity_shouldCallConstructorReflectively()
+      throws Exception {
+    var constructor = Wide.class.getDeclaredConstructors()[0];
+    var args = new Object[] {"a", "b", "c", "d", "e"};
+
+    var wide = (Wide) BeanInstantiator.forConstructor(constructor).instantiate(null, args);
+
+    assertThat(wide.values).containsExactly(args);
+  }
+
+  @Test
+  void instantiate_givenBeanMethod_shouldCallItOnTarget() throws Exception {
+    var method = Factory.class.getDeclaredMethod("pair", String.class, Integer.class);
+
+    var pair =
+        (Pair) BeanInstantiator.forMethod(method).instantiate(new Factory(), new Object[] {"b", 2});
+
+    assertThat(pair.values).containsExactly("factory", "b", 2);
+  }
+
+  @Test
+  void instantiate_givenThrowingConstructor_shouldRethrowItsException() throws Exception {
+    var instantiator =
+        BeanInstantiator.forConstructor(Failing.class.getDeclaredConstructor(String.class));
+
+    assertThatThrownBy(() -> instantiator.instantiate(null, new Object[] {"boom"}))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("boom");
+  }
+
+  @Test
+  void instantiate_givenWrongNumberOfArguments_shouldThrowIllegalArgumentException()
+      throws Exception {
+    var instantiator =
+        BeanInstantiator.forConstructor(
+            Pair.class.getDeclaredConstructor(String.class, Integer.class));
+
+    assertThatThrownBy(() -> instantiator.instantiate(null, new Object[] {"a"}))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  static class Pair {
+    private final List<Object> values;
+
+    private Pair(String name, Integer number) {
+      this.values = List.of(name, number);
+    }
+
+    private Pair(List<Object> values) {
+      this.values = values;
+    }
+  }
+
+  static class Wide {
+    private final List<Object> values;
+
+    Wide(String a, String b, String c, String d, String e) {
+      this.values = List.of(a, b, c, d, e);
+    }
+  }
+
+  static class Factory {
+    private Pair pair(String name, Integer number) {
+      return new Pair(List.of("factory", name, number));
+    }
+  }
+
+  static class Failing {
+    Failing(String message) {
+      throw new IllegalStateException(message);
+    }
+  }
+}
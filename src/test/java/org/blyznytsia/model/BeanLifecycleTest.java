@@ -0,0 +1,83 @@
+package org.blyznytsia.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.blyznytsia.annotation.PostConstruct;
+import org.blyznytsia.annotation.PreDestroy;
+import org.junit.jupiter.api.Test;
+
+class BeanLifecycleTest {
+
+  @Test
+  void initialize_givenOverriddenAnnotatedMethod_shouldCallOverrideOnce() {
+    // given:
+    var lifecycle = BeanLifecycle.forType(Child.class, null);
+    var bean = new Child();
+
+    // when:
+    lifecycle.initialize(bean);
+
+    // then:
+    assertThat(bean.events)
+        .containsExactlyInAnyOrder("parent:prepare", "child:open", "child:ready");
+  }
+
+  @Test
+  void destroy_givenOverrideWithoutAnnotation_shouldCallOverrideOnce() {
+    // given:
+    var lifecycle = BeanLifecycle.forType(Child.class, null);
+    var bean = new Child();
+
+    // when:
+    lifecycle.destroy(bean);
+
+    // then:
+    assertThat(bean.events).containsExactlyInAnyOrder("child:close", "parent:release");
+  }
+
+  static class Parent {
+
+    final List<String> events = new ArrayList<>();
+
+    @PostConstruct
+    private void prepare() {
+      events.add("parent:prepare");
+    }
+
+    @PostConstruct
+    void open() {
+      events.add("parent:open");
+    }
+
+    @PreDestroy
+    protected void close() {
+      events.add("parent:close");
+    }
+
+    @PreDestroy
+    private void release() {
+      events.add("parent:release");
+    }
+  }
+
+  static class Child extends Parent {
+
+    @Override
+    @PostConstruct
+    void open() {
+      events.add("child:open");
+    }
+
+    @PostConstruct
+    private void ready() {
+      events.add("child:ready");
+    }
+
+    @Override
+    protected void close() {
+      events.add("child:close");
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package org.blyznytsia.scanner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.tools.ToolProvider;
+import org.blyznytsia.annotation.Component;
+import org.blyznytsia.annotation.Configuration;
+import org.blyznytsia.bpp.AutowiredAnnotationBeanPostProcessor;
+import org.blyznytsia.bpp.BeanPostProcessor;
+import org.blyznytsia.bpp.ValueAnnotationBeanPostProcessor;
+import org.blyznytsia.scanner.data.component_scanner.TestService1;
+import org.blyznytsia.scanner.data.component_scanner.TestService2;
+import org.blyznytsia.scanner.data.component_scanner.TestService3;
+import org.blyznytsia.scanner.data.configuration_scanner.TestConfig;
+import org.blyznytsia.validator.BeanValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ClasspathMetadataTest {
+
+  private static final String[] PACKAGES = {
+    "org.blyznytsia.scanner.data", "org.blyznytsia.bpp", "org.blyznytsia.validator"
+  };
+
+  @Test
+  void scanClasspath_givenSeveralPackages_shouldCollectMetadataOfAllOfThem() {
+    var metadata = ClasspathMetadata.scanClasspath(PACKAGES);
+
+    assertThat(
+            metadata.getTypesAnnotatedWith(
+                "org.blyznytsia.scanner.data.component_scanner", Component.class))
+        .containsExactlyInAnyOrder(TestService1.class, TestService2.class, TestService3.class);
+    assertThat(metadata.getTypesAnnotatedWith("org.blyznytsia.scanner.data", Configuration.class))
+        .containsExactly(TestConfig.class);
+    assertThat(metadata.getSubTypesOf("org.blyznytsia.bpp", BeanPostProcessor.class))
+        .containsExactlyInAnyOrder(
+            AutowiredAnnotationBeanPostProcessor.class, ValueAnnotationBeanPostProcessor.class);
+    assertThat(metadata.getBeanMethods(TestConfig.class))
+        .extracting("name")
+        .containsExactlyInAnyOrder("entity", "dependency2");
+  }
+
+  @Test
+  void fromIndex_givenSamePackages_shouldMatchClasspathScan() {
+    var scanned = ClasspathMetadata.scanClasspath(PACKAGES);
+    var indexed = ClasspathMetadata.fromIndex(ComponentIndex.find().orElseThrow(), PACKAGES);
+
+    assertThat(indexed.getTypesAnnotatedWith("org.blyznytsia", Component.class))
+        .containsExactlyInAnyOrderElementsOf(
+            scanned.getTypesAnnotatedWith("org.blyznytsia", Component.class));
+    assertThat(indexed.getTypesAnnotatedWith("org.blyznytsia", Configuration.class))
+        .containsExactlyInAnyOrderElementsOf(
+            scanned.getTypesAnnotatedWith("org.blyznytsia", Configuration.class));
+    assertThat(indexed.getSubTypesOf("org.blyznytsia", BeanValidator.class))
+        .containsExactlyInAnyOrderElementsOf(
+            scanned.getSubTypesOf("org.blyznytsia", BeanValidator.class));
+    assertThat(indexed.getBeanMethods(TestConfig.class))
+        .containsExactlyInAnyOrderElementsOf(scanned.getBeanMethods(TestConfig.class));
+  }
+
+  @Test
+  void getTypesAnnotatedWith_givenPackageOutsideOfScannedOnes_shouldReturnEmptySet() {
+    var metadata = ClasspathMetadata.scanClasspath(PACKAGES);
+
+    assertThat(metadata.getTypesAnnotatedWith("org.blyznytsia.context", Component.class)).isEmpty();
+  }
+
+  @Test
+  void scan_givenAppPackageWithoutIndexEntries_shouldScanClasspathForIt(@TempDir Path classes)
+      throws Exception {
+    compileComponent(classes, "com.acme", "Foo");
+
+    var thread = Thread.currentThread();
+    var previous = thread.getContextClassLoader();
+    try (var loader = new URLClassLoader(new URL[] {classes.toUri().toURL()}, previous)) {
+      thread.setContextClassLoader(loader);
+      var index = ComponentIndex.find().orElseThrow();
+      var metadata = ClasspathMetadata.scan("com.acme", "org.blyznytsia.bpp");
+
+      assertThat(index.covers("com.acme")).isFalse();
+      assertThat(index.covers("org.blyznytsia.bpp")).isTrue();
+      assertThat(metadata.getTypesAnnotatedWith("com.acme", Component.class))
+          .map(Class::getName)
+          .containsExactly("com.acme.Foo");
+      assertThat(metadata.getSubTypesOf("org.blyznytsia.bpp", BeanPostProcessor.class))
+          .containsExactlyInAnyOrder(
+              AutowiredAnnotationBeanPostProcessor.class, ValueAnnotationBeanPostProcessor.class);
+    } finally {
+      thread.setContextClassLoader(previous);
+    }
+  }
+
+  @Test
+  void scan_givenIndexedPackageWithSubpackageInUnindexedEntry_shouldScanThatEntry(
+      @TempDir Path classes) throws Exception {
+    compileComponent(classes, "org.example.plugin", "Plugin");
+
+    var thread = Thread.currentThread();
+    var previous = thread.getContextClassLoader();
+    try (var loader = new URLClassLoader(new URL[] {classes.toUri().toURL()}, previous)) {
+      thread.setContextClassLoader(loader);
+      var index = ComponentIndex.find().orElseThrow();
+      var metadata = ClasspathMetadata.scan("org.example");
+
+      assertThat(index.contains("org.example")).isTrue();
+      assertThat(index.covers("org.example")).isFalse();
+      assertThat(index.findUnindexedLocations("org.example"))
+          .containsExactly(classes.toUri().toURL());
+      assertThat(metadata.getTypesAnnotatedWith("org.example", Component.class))
+          .map(Class::getName)
+          .containsExactlyInAnyOrder(
+              "org.example.plugin.Plugin",
+              "org.example.duplicate.first.Formatter",
+              "org.example.duplicate.second.Formatter");
+    } finally {
+      thread.setContextClassLoader(previous);
+    }
+  }
+
+  private static void compileComponent(Path classes, String packageName, String className)
+      throws Exception {
+    var source = classes.resolve(packageName.replace('.', '/')).resolve(className + ".java");
+    Files.createDirectories(source.getParent());
+    Files.writeString(
+        source,
+        "package %s; @org.blyznytsia.annotation.Component public class %s {}"
+            .formatted(packageName, className));
+    var compiled =
+        ToolProvider.getSystemJavaCompiler()
+            .run(
+                null,
+                null,
+                null,
+                "-proc:none",
+                "-cp",
+                System.getProperty("java.class.path"),
+                "-d",
+                classes.toString(),
+                source.toString());
+    assertThat(compiled).isZero();
+  }
+}
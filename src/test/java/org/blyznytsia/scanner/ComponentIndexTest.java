@@ -0,0 +1,63 @@
+package org.blyznytsia.scanner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.blyznytsia.annotation.Bean;
+import org.blyznytsia.annotation.Component;
+import org.blyznytsia.annotation.Configuration;
+import org.blyznytsia.bpp.BeanPostProcessor;
+import org.blyznytsia.scanner.data.configuration_scanner.NotAnnotatedConfig;
+import org.blyznytsia.scanner.data.configuration_scanner.TestConfig;
+import org.blyznytsia.validator.BeanValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.reflections.Reflections;
+
+class ComponentIndexTest {
+
+  private final ComponentIndex index = ComponentIndex.find().orElseThrow();
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "org.blyznytsia",
+        "org.blyznytsia.context.data",
+        "org.blyznytsia.scanner.data.component_scanner",
+        "org.blyznytsia.scanner.data.configuration_scanner"
+      })
+  void getTypesAnnotatedWith_givenPackage_shouldMatchClasspathScanning(String packageName) {
+    var reflections = new Reflections(packageName);
+
+    assertThat(index.getTypesAnnotatedWith(packageName, Component.class))
+        .containsExactlyInAnyOrderElementsOf(reflections.getTypesAnnotatedWith(Component.class));
+    assertThat(index.getTypesAnnotatedWith(packageName, Configuration.class))
+        .containsExactlyInAnyOrderElementsOf(
+            reflections.getTypesAnnotatedWith(Configuration.class));
+  }
+
+  @Test
+  void getTypesAnnotatedWith_givenBeanAnnotation_shouldReturnTypesDeclaringBeanMethods() {
+    assertThat(index.getTypesAnnotatedWith("org.blyznytsia.scanner", Bean.class))
+        .containsExactlyInAnyOrder(TestConfig.class, NotAnnotatedConfig.class);
+  }
+
+  @Test
+  void getSubTypesOf_givenExtensionInterface_shouldMatchClasspathScanning() {
+    assertThat(index.getSubTypesOf("org.blyznytsia.bpp", BeanPostProcessor.class))
+        .containsExactlyInAnyOrderElementsOf(
+            new Reflections("org.blyznytsia.bpp").getSubTypesOf(BeanPostProcessor.class));
+    assertThat(index.getSubTypesOf("org.blyznytsia.validator", BeanValidator.class))
+        .containsExactlyInAnyOrderElementsOf(
+            new Reflections("org.blyznytsia.validator").getSubTypesOf(BeanValidator.class));
+    assertThat(index.getSubTypesOf("org.blyznytsia.scanner", BeanScanner.class))
+        .containsExactlyInAnyOrder(
+            ComponentAnnotationScanner.class, ConfigurationAnnotationScanner.class);
+  }
+
+  @Test
+  void getTypesAnnotatedWith_givenPackagePrefixOfAnotherPackage_shouldNotMatchIt() {
+    assertThat(index.getTypesAnnotatedWith("org.blyznytsia.context.dat", Component.class))
+        .isEmpty();
+  }
+}
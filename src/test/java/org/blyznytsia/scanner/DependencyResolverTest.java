@@ -0,0 +1,84 @@
+package org.blyznytsia.scanner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.blyznytsia.context.resolve.DatabaseStore;
+import org.blyznytsia.context.resolve.MemoryStore;
+import org.blyznytsia.context.resolve.UnqualifiedStoreClient;
+import org.blyznytsia.exception.NoUniqueBeanException;
+import org.blyznytsia.model.BeanDefinition;
+import org.blyznytsia.model.DependencyDescriptor;
+import org.blyznytsia.util.BeanDefinitionUtils;
+import org.junit.jupiter.api.Test;
+
+class DependencyResolverTest {
+
+  private static final String RESOLVE_PACKAGE = "org.blyznytsia.context.resolve";
+
+  @Test
+  void resolve_givenScannedDefinitions_shouldResolveDependenciesByTypeAndQualifier() {
+    var definitions =
+        DependencyResolver.resolve(new ComponentAnnotationScanner().scan(RESOLVE_PACKAGE));
+    var service = findByName(definitions, "messageService");
+
+    assertThat(service.getArgumentNames())
+        .containsExactly("primaryStore", "audit", "audit", "jsonFormatter");
+    assertThat(service.getRequiredDependencies())
+        .containsExactly("primaryStore", "audit", "jsonFormatter");
+    assertThat(service.getFieldDependencies()).containsExactly("memoryStore");
+    assertThat(service.getParameterDependencies())
+        .map(DependencyDescriptor::isQualified)
+        .containsExactly(true, false, false, false);
+  }
+
+  @Test
+  void resolve_givenSeveralCandidatesWithoutQualifier_shouldThrowNoUniqueBeanException() {
+    var definitions =
+        Set.of(
+            component(DatabaseStore.class, "primaryStore"),
+            component(MemoryStore.class, "memoryStore"),
+            component(UnqualifiedStoreClient.class, "unqualifiedStoreClient"));
+
+    assertThatThrownBy(() -> DependencyResolver.resolve(definitions))
+        .isInstanceOf(NoUniqueBeanException.class)
+        .hasMessageContaining("unqualifiedStoreClient")
+        .hasMessageContaining("[memoryStore, primaryStore]")
+        .hasMessageContaining("@Qualifier");
+  }
+
+  @Test
+  void resolve_givenMissingCandidate_shouldKeepDefaultNameForValidation() {
+    var definitions =
+        DependencyResolver.resolve(
+            new HashSet<>(
+                Set.of(component(UnqualifiedStoreClient.class, "unqualifiedStoreClient"))));
+
+    assertThat(findByName(definitions, "unqualifiedStoreClient").getRequiredDependencies())
+        .containsExactly("messageStore");
+  }
+
+  private static BeanDefinition component(Class<?> type, String name) {
+    var constructor = type.getDeclaredConstructors()[0];
+    var dependencies = BeanDefinitionUtils.describeDependencies(constructor);
+    return BeanDefinition.builder()
+        .name(name)
+        .type(type)
+        .constructor(constructor)
+        .parameterDependencies(dependencies)
+        .requiredDependencies(BeanDefinitionUtils.toBeanNames(dependencies))
+        .autowiredDependencies(List.of())
+        .fieldDependencies(Set.of())
+        .build();
+  }
+
+  private static BeanDefinition findByName(Set<BeanDefinition> definitions, String name) {
+    return definitions.stream()
+        .filter(definition -> definition.getName().equals(name))
+        .findFirst()
+        .orElseThrow();
+  }
+}
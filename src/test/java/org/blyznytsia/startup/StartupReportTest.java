@@ -0,0 +1,94 @@
+package org.blyznytsia.startup;
+
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Set;
+import org.blyznytsia.model.BeanDefinition;
+import org.junit.jupiter.api.Test;
+
+class StartupReportTest {
+
+  /*
+   *  beanC (30) -> beanB (20) -> beanA (10)
+   *  beanD (50)
+   */
+  @Test
+  void toReport_givenRecordedSteps_shouldFindCriticalPathAndSlowestBeans() {
+    // given:
+    var recorder = new StartupRecorder();
+    recorder.recordStep("beanA", "instantiate", 10);
+    recorder.recordStep("beanB", "instantiate", 15);
+    recorder.recordStep("beanB", "AutowiredAnnotationBeanPostProcessor", 5);
+    recorder.recordStep("beanC", "instantiate", 30);
+    recorder.recordStep("beanD", "instantiate", 50);
+    var definitions =
+        Set.of(
+            definition("beanA", emptySet()),
+            definition("beanB", Set.of("beanA")),
+            definition("beanC", Set.of("beanB")),
+            definition("beanD", emptySet()));
+
+    // when:
+    var report = recorder.toReport(definitions);
+
+    // then:
+    assertThat(report.getCriticalPath()).containsExactly("beanA", "beanB", "beanC");
+    assertThat(report.getCriticalPathNanos()).isEqualTo(60);
+    assertThat(report.getSlowestBeans(2))
+        .extracting(BeanTiming::getName)
+        .containsExactly("beanD", "beanC");
+    assertThat(report.getBeans().get(1).getSteps())
+        .containsExactly(
+            entry("instantiate", 15L), entry("AutowiredAnnotationBeanPostProcessor", 5L));
+  }
+
+  @Test
+  void phase_givenAction_shouldRecordPhaseAndReturnResult() {
+    // given:
+    var recorder = new StartupRecorder();
+
+    // when:
+    var result = recorder.phase("scan", () -> new byte[1024].length);
+    var report = recorder.toReport(emptySet());
+
+    // then:
+    assertThat(result).isEqualTo(1024);
+    assertThat(report.getPhases())
+        .singleElement()
+        .satisfies(
+            phase -> {
+              assertThat(phase.getName()).isEqualTo("scan");
+              assertThat(phase.getDurationNanos()).isPositive();
+              assertThat(phase.getAllocatedBytes()).isNotZero();
+            });
+  }
+
+  @Test
+  void toJson_givenReport_shouldExportPhasesBeansAndCriticalPath() {
+    // given:
+    var recorder = new StartupRecorder();
+    recorder.recordStep("bean\"A", "instantiate", 10);
+    var report = recorder.toReport(Set.of(definition("bean\"A", emptySet())));
+
+    // when:
+    var json = report.toJson();
+
+    // then:
+    assertThat(json)
+        .startsWith("{\"totalNanos\":")
+        .contains(
+            "\"phases\":[]",
+            "\"beans\":[{\"name\":\"bean\\\"A\",\"totalNanos\":10,\"steps\":{\"instantiate\":10}}]",
+            "\"criticalPath\":[\"bean\\\"A\"],\"criticalPathNanos\":10}");
+  }
+
+  private BeanDefinition definition(String name, Set<String> fieldDependencies) {
+    return BeanDefinition.builder()
+        .name(name)
+        .fieldDependencies(fieldDependencies)
+        .requiredDependencies(emptySet())
+        .build();
+  }
+}
@@ -0,0 +1,47 @@
+package org.blyznytsia.validator;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Set;
+import org.blyznytsia.exception.NoUniqueBeanException;
+import org.blyznytsia.model.BeanDefinition;
+import org.junit.jupiter.api.Test;
+
+class BeanNameValidatorTest {
+
+  private final BeanNameValidator validator = new BeanNameValidator();
+
+  @Test
+  void validate_givenComponentsWithSameDefaultName_shouldThrowException() {
+    // given:
+    var first =
+        BeanDefinition.builder()
+            .name("formatter")
+            .type(org.example.duplicate.first.Formatter.class)
+            .build();
+    var second =
+        BeanDefinition.builder()
+            .name("formatter")
+            .type(org.example.duplicate.second.Formatter.class)
+            .build();
+
+    // when, then:
+    assertThatThrownBy(() -> validator.validate(Set.of(first, second)))
+        .isInstanceOf(NoUniqueBeanException.class)
+        .hasMessage(
+            "Several beans have the same name: formatter -> "
+                + "[org.example.duplicate.first.Formatter, org.example.duplicate.second.Formatter]"
+                + ". Name them with @Component or @Bean");
+  }
+
+  @Test
+  void validate_givenUniqueNames_shouldPass() {
+    // given:
+    var first = BeanDefinition.builder().name("service1").type(Service1.class).build();
+    var second = BeanDefinition.builder().name("service2").type(Service2.class).build();
+
+    // when, then:
+    assertThatNoException().isThrownBy(() -> validator.validate(Set.of(first, second)));
+  }
+}
@@ -0,0 +1,105 @@
+package org.blyznytsia.validator;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.blyznytsia.exception.BeanInstantiationException;
+import org.blyznytsia.model.BeanDefinition;
+import org.blyznytsia.model.Scope;
+import org.junit.jupiter.api.Test;
+
+class BeanTypeValidatorTest {
+
+  private final BeanTypeValidator validator = new BeanTypeValidator();
+
+  @Test
+  void validate_givenAbstractComponent_shouldThrowException() {
+    var definition = BeanDefinition.builder().name("list").type(AbstractList.class).build();
+
+    assertThatThrownBy(() -> validator.validate(Set.of(definition)))
+        .isInstanceOf(BeanInstantiationException.class)
+        .hasMessage("Bean list can't be instantiated because java.util.AbstractList is abstract");
+  }
+
+  @Test
+  void validate_givenInterfaceComponent_shouldThrowException() {
+    var definition = BeanDefinition.builder().name("list").type(List.class).build();
+
+    assertThatThrownBy(() -> validator.validate(Set.of(definition)))
+        .isInstanceOf(BeanInstantiationException.class)
+        .hasMessage("Bean list can't be instantiated because java.util.List is an interface");
+  }
+
+  @Test
+  void validate_givenScopedBeanWithoutInterfaces_shouldThrowException() {
+    var definition =
+        BeanDefinition.builder().name("service1").type(Service1.class).scope(Scope.THREAD).build();
+
+    assertThatThrownBy(() -> validator.validate(Set.of(definition)))
+        .isInstanceOf(BeanInstantiationException.class)
+        .hasMessage(
+            "Bean service1 with THREAD scope can't be proxied because "
+                + "org.blyznytsia.validator.Service1 implements no interfaces");
+  }
+
+  @Test
+  void validate_givenScopedBeanWithInterface_shouldPass() {
+    var definition =
+        BeanDefinition.builder()
+            .name("builder")
+            .type(StringBuilder.class)
+            .scope(Scope.REQUEST)
+            .build();
+
+    assertThatNoException().isThrownBy(() -> validator.validate(Set.of(definition)));
+  }
+
+  @Test
+  void validate_givenPrototypeAsyncBean_shouldThrowException() throws NoSuchMethodException {
+    var definition =
+        BeanDefinition.builder()
+            .name("asyncName")
+            .type(String.class)
+            .scope(Scope.PROTOTYPE)
+            .configClassDependency(true)
+            .beanMethod(AsyncFactories.class.getMethod("asyncName"))
+            .build();
+
+    assertThatThrownBy(() -> validator.validate(Set.of(definition)))
+        .isInstanceOf(BeanInstantiationException.class)
+        .hasMessage("Bean asyncName returns a CompletableFuture, so it must be an eager singleton");
+  }
+
+  @Test
+  void validate_givenAsyncBeanOfUnknownType_shouldThrowException() throws NoSuchMethodException {
+    var method = AsyncFactories.class.getMethod("anyValue");
+    var definition =
+        BeanDefinition.builder()
+            .name("anyValue")
+            .type(Object.class)
+            .configClassDependency(true)
+            .beanMethod(method)
+            .build();
+
+    assertThatThrownBy(() -> validator.validate(Set.of(definition)))
+        .isInstanceOf(BeanInstantiationException.class)
+        .hasMessage(
+            "Bean anyValue is declared by %s method that returns a CompletableFuture of unknown type"
+                .formatted(method));
+  }
+
+  public static class AsyncFactories {
+
+    public CompletableFuture<String> asyncName() {
+      return CompletableFuture.completedFuture("name");
+    }
+
+    public CompletableFuture<?> anyValue() {
+      return CompletableFuture.completedFuture("value");
+    }
+  }
+}
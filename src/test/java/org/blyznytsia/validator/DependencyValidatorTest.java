@@ -1,9 +1,13 @@
 package org.blyznytsia.validator;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.HashSet;
 import java.util.Set;
 import org.blyznytsia.exception.CircularDependencyException;
+import org.blyznytsia.exception.NoSuchBeanException;
 import org.blyznytsia.model.BeanDefinition;
 import org.junit.jupiter.api.Test;
 
@@ -121,4 +125,127 @@ class DependencyValidatorTest {
 
     dependencyValidator.validate(beanDefinitions);
   }
+
+  @Test
+  void validate_givenConstructorDependencyCycle_shouldThrowException() {
+    BeanDefinition bean1 =
+        BeanDefinition.builder()
+            .name(SERVICE_1)
+            .requiredDependencies(Set.of(SERVICE_2))
+            .type(Service1.class)
+            .build();
+
+    BeanDefinition bean2 =
+        BeanDefinition.builder()
+            .name(SERVICE_2)
+            .requiredDependencies(Set.of(SERVICE_1))
+            .type(Service2.class)
+            .build();
+
+    BeanDefinition bean3 =
+        BeanDefinition.builder()
+            .name(SERVICE_3)
+            .requiredDependencies(Set.of(SERVICE_3))
+            .type(Service3.class)
+            .build();
+
+    assertThatThrownBy(() -> new DependencyValidator().validate(Set.of(bean1, bean2, bean3)))
+        .isInstanceOf(CircularDependencyException.class)
+        .hasMessageContaining("service3->service3")
+        .hasMessageMatching("(?s).*(service1->service2->service1|service2->service1->service2).*");
+  }
+
+  @Test
+  void validate_givenComponentLargerThanCycle_shouldReportAllBeansOfComponent() {
+    BeanDefinition bean1 =
+        BeanDefinition.builder()
+            .name(SERVICE_1)
+            .fieldDependencies(Set.of(SERVICE_2))
+            .type(Service1.class)
+            .build();
+
+    BeanDefinition bean2 =
+        BeanDefinition.builder()
+            .name(SERVICE_2)
+            .fieldDependencies(Set.of(SERVICE_1, SERVICE_3))
+            .type(Service2.class)
+            .build();
+
+    BeanDefinition bean3 =
+        BeanDefinition.builder()
+            .name(SERVICE_3)
+            .fieldDependencies(Set.of(SERVICE_2))
+            .type(Service3.class)
+            .build();
+
+    assertThatThrownBy(() -> new DependencyValidator().validate(Set.of(bean1, bean2, bean3)))
+        .isInstanceOf(CircularDependencyException.class)
+        .hasMessageContaining("(component: service1, service2, service3)")
+        .hasMessageNotContaining("1: ");
+  }
+
+  @Test
+  void validate_givenMissingDependencies_shouldReportAllOfThem() {
+    BeanDefinition bean1 =
+        BeanDefinition.builder()
+            .name(SERVICE_1)
+            .fieldDependencies(Set.of(SERVICE_2))
+            .requiredDependencies(Set.of(SERVICE_3))
+            .type(Service1.class)
+            .build();
+
+    BeanDefinition bean4 =
+        BeanDefinition.builder()
+            .name(SERVICE_4)
+            .fieldDependencies(Set.of(SERVICE_5))
+            .type(Service4.class)
+            .build();
+
+    assertThatThrownBy(() -> new DependencyValidator().validate(Set.of(bean1, bean4)))
+        .isInstanceOf(NoSuchBeanException.class)
+        .hasMessage(
+            "Missing dependencies of beans: service1 -> [service2, service3], service4 -> [service5]");
+  }
+
+  @Test
+  void validate_givenCycleAndMissingDependency_shouldReportBoth() {
+    BeanDefinition bean1 =
+        BeanDefinition.builder()
+            .name(SERVICE_1)
+            .fieldDependencies(Set.of(SERVICE_2, SERVICE_3))
+            .type(Service1.class)
+            .build();
+
+    BeanDefinition bean2 =
+        BeanDefinition.builder()
+            .name(SERVICE_2)
+            .fieldDependencies(Set.of(SERVICE_1))
+            .type(Service2.class)
+            .build();
+
+    assertThatThrownBy(() -> new DependencyValidator().validate(Set.of(bean1, bean2)))
+        .isInstanceOf(CircularDependencyException.class)
+        .satisfies(
+            exception ->
+                assertThat(exception.getSuppressed())
+                    .singleElement()
+                    .isInstanceOf(NoSuchBeanException.class)
+                    .extracting(Throwable::getMessage)
+                    .isEqualTo("Missing dependencies of beans: service1 -> [service3]"));
+  }
+
+  @Test
+  void validate_givenDeepChain_shouldNotOverflowStack() {
+    Set<BeanDefinition> beanDefinitions = new HashSet<>();
+    for (int i = 0; i < 100_000; i++) {
+      beanDefinitions.add(
+          BeanDefinition.builder()
+              .name("bean" + i)
+              .requiredDependencies(i == 0 ? Set.of() : Set.of("bean" + (i - 1)))
+              .type(Service1.class)
+              .build());
+    }
+
+    assertThatNoException().isThrownBy(() -> new DependencyValidator().validate(beanDefinitions));
+  }
 }
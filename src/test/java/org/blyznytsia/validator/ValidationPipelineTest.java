@@ -0,0 +1,147 @@
+package org.blyznytsia.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import org.blyznytsia.exception.BeanValidationException;
+import org.blyznytsia.exception.CircularDependencyException;
+import org.blyznytsia.model.BeanDefinition;
+import org.junit.jupiter.api.Test;
+
+class ValidationPipelineTest {
+
+  @Test
+  void validate_givenFailingValidators_shouldAggregateAllFailures() {
+    // given:
+    var definitions =
+        Set.of(
+            definition("service1", Set.of("service2")),
+            definition("service2", Set.of("service1")),
+            definition("service3", Set.of()));
+    var failingValidator = mock(BeanValidator.class);
+    doThrow(new IllegalStateException("custom failure"))
+        .when(failingValidator)
+        .validate(any(BeanDefinitionIndex.class));
+    var pipeline =
+        new ValidationPipeline(List.of(new DependencyValidator(), failingValidator), null);
+
+    // then:
+    assertThatThrownBy(() -> pipeline.validate(definitions))
+        .isInstanceOf(BeanValidationException.class)
+        .hasMessageStartingWith("Validation of bean definitions failed with 2 errors:")
+        .hasMessageContaining("custom failure")
+        .satisfies(
+            exception ->
+                assertThat(((BeanValidationException) exception).getErrors())
+                    .hasExactlyElementsOfTypes(
+                        CircularDependencyException.class, IllegalStateException.class));
+  }
+
+  @Test
+  void validate_givenParallelizableValidator_shouldValidateEveryDefinitionOnExecutor() {
+    // given:
+    Set<BeanDefinition> definitions = new HashSet<>();
+    for (int i = 0; i < 1000; i++) {
+      definitions.add(definition("bean" + i, Set.of()));
+    }
+    Set<String> validated = ConcurrentHashMap.newKeySet();
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    var validator = perDefinitionValidator(validated, threads);
+    var executor = Executors.newFixedThreadPool(4);
+
+    try {
+      // when:
+      new ValidationPipeline(List.of(validator), executor).validate(definitions);
+    } finally {
+      executor.shutdown();
+    }
+
+    // then:
+    assertThat(validated).hasSize(1000);
+    assertThat(threads).doesNotContain(Thread.currentThread());
+  }
+
+  @Test
+  void validate_givenFailingDefinitions_shouldReportEachOfThem() {
+    // given:
+    var definitions =
+        Set.of(
+            definition("bad1", Set.of()),
+            definition("good", Set.of()),
+            definition("bad2", Set.of()));
+    var validator =
+        perDefinitionValidator(ConcurrentHashMap.newKeySet(), ConcurrentHashMap.newKeySet());
+
+    // then:
+    assertThatThrownBy(() -> new ValidationPipeline(List.of(validator), null).validate(definitions))
+        .isInstanceOf(BeanValidationException.class)
+        .satisfies(
+            exception ->
+                assertThat(((BeanValidationException) exception).getErrors())
+                    .extracting(Throwable::getMessage)
+                    .containsExactlyInAnyOrder("bad1", "bad2"));
+  }
+
+  @Test
+  void validate_givenValidDefinitions_shouldPass() {
+    var definitions =
+        Set.of(definition("service1", Set.of("service2")), definition("service2", Set.of()));
+    var pipeline =
+        new ValidationPipeline(List.of(new DependencyValidator(), new BeanTypeValidator()), null);
+
+    assertThatNoException().isThrownBy(() -> pipeline.validate(definitions));
+  }
+
+  @Test
+  void beanTypeValidator_givenAbstractType_shouldFail() {
+    var definition =
+        BeanDefinition.builder().name("abstractBean").type(AbstractService.class).build();
+    var validator = new BeanTypeValidator();
+
+    assertThat(validator.isParallelizable()).isTrue();
+    assertThatThrownBy(() -> validator.validate(Set.of(definition)))
+        .hasMessageContaining("abstractBean")
+        .hasMessageContaining(AbstractService.class.getName());
+  }
+
+  private BeanDefinition definition(String name, Set<String> dependencies) {
+    return BeanDefinition.builder()
+        .name(name)
+        .type(Service1.class)
+        .fieldDependencies(dependencies)
+        .build();
+  }
+
+  private abstract static class AbstractService {}
+
+  private BeanValidator perDefinitionValidator(Set<String> validated, Set<Thread> threads) {
+    var validator = mock(BeanValidator.class);
+    when(validator.isParallelizable()).thenReturn(true);
+    doAnswer(
+            invocation -> {
+              BeanDefinition definition = invocation.getArgument(0);
+              BeanDefinitionIndex index = invocation.getArgument(1);
+              assertThat(index.findByName(definition.getName())).contains(definition);
+              threads.add(Thread.currentThread());
+              if (definition.getName().startsWith("bad")) {
+                throw new IllegalArgumentException(definition.getName());
+              }
+              validated.add(definition.getName());
+              return null;
+            })
+        .when(validator)
+        .validate(any(BeanDefinition.class), any(BeanDefinitionIndex.class));
+    return validator;
+  }
+}
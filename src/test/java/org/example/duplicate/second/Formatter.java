@@ -0,0 +1,6 @@
+package org.example.duplicate.second;
+
+import org.blyznytsia.annotation.Component;
+
+@Component
+public class Formatter {}